@@ -0,0 +1,275 @@
+package com.taskmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs a weighted mix of list/get/create/update/delete requests against a running service and prints
+ * throughput plus p50/p99/p99.9 latency per operation.
+ * <p>
+ * Without {@code --rate} every worker sends its next request as soon as the previous one returns (closed loop).
+ * With {@code --rate} requests follow a fixed schedule and latency is measured from the scheduled start, so a
+ * stalled server shows up in the percentiles instead of silently lowering the request rate.
+ *
+ * <pre>
+ * java -jar target/task-management-load-test.jar --base-url=http://localhost:8080 --duration=PT60S \
+ *      --concurrency=32 --mix=list=55,get=30,create=7,update=5,delete=3
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Pattern FIRST_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern LOCATION_ID = Pattern.compile("/(\\d+)$");
+
+    private final Options options;
+    private final HttpClient client;
+    private final Zipf assignees;
+    private final AtomicInteger maxId = new AtomicInteger();
+
+    LoadTest(Options options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.assignees = new Zipf(options.assignees(), options.assigneeSkew());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        new LoadTest(options).run(System.out);
+    }
+
+    void run(PrintStream out) throws Exception {
+        awaitReady(out);
+        maxId.set(discoverMaxId());
+        out.printf("Target %s, highest task id %d, mix %s, concurrency %d, rate %s, warm-up %s, duration %s%n",
+                options.baseUrl(), maxId.get(), options.mix(), options.concurrency(),
+                options.rate() > 0 ? options.rate() + "/s" : "closed loop", options.warmup(), options.duration());
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        List<Future<WorkerResult>> futures = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < options.concurrency(); w++) {
+                SplittableRandom random = new SplittableRandom(options.seed() + w);
+                long firstStart = start + (options.rate() > 0 ? intervalNanos() * w / options.concurrency() : 0);
+                futures.add(workers.submit(() -> work(random, firstStart, measureFrom, end)));
+            }
+        }
+        WorkerResult total = new WorkerResult();
+        for (Future<WorkerResult> future : futures) {
+            total.merge(future.get());
+        }
+        report(total, options.duration(), out);
+    }
+
+    private WorkerResult work(SplittableRandom random, long firstStart, long measureFrom, long end) {
+        WorkerResult result = new WorkerResult();
+        long interval = intervalNanos();
+        long scheduled = firstStart;
+        while (true) {
+            long now = System.nanoTime();
+            if (interval > 0) {
+                if (scheduled > now) {
+                    LockSupport.parkNanos(scheduled - now);
+                }
+            } else {
+                scheduled = now;
+            }
+            if (scheduled >= end) {
+                return result;
+            }
+            Operation operation = options.mix().next(random);
+            int status = execute(operation, random);
+            long latencyMicros = (System.nanoTime() - scheduled) / 1_000;
+            if (scheduled >= measureFrom) {
+                result.record(operation, status, latencyMicros);
+            }
+            scheduled += interval;
+        }
+    }
+
+    /** Sends one request and returns its HTTP status, or {@code -1} on an I/O failure. */
+    private int execute(Operation operation, SplittableRandom random) {
+        HttpRequest request = switch (operation) {
+            case LIST -> get(listQuery(random));
+            case GET -> get("/api/tasks/" + randomId(random));
+            case CREATE -> json("/api/tasks", "POST", "{\"title\":\"Load test task\",\"assignedTo\":\"user"
+                    + assignees.sample(random) + "\"}");
+            case UPDATE -> json("/api/tasks/" + randomId(random), "PUT",
+                    "{\"isCompleted\":" + random.nextBoolean() + "}");
+            case DELETE -> HttpRequest.newBuilder(uri("/api/tasks/" + randomId(random))).DELETE()
+                    .timeout(options.requestTimeout()).build();
+        };
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (operation == Operation.CREATE && response.statusCode() == 201) {
+                response.headers().firstValue("Location").map(LOCATION_ID::matcher).filter(Matcher::find)
+                        .ifPresent(m -> maxId.accumulateAndGet(Integer.parseInt(m.group(1)), Math::max));
+            }
+            return response.statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    /** Mostly first pages, filtered like the UI: by assignee (skewed) and/or completion. */
+    private String listQuery(SplittableRandom random) {
+        StringBuilder query = new StringBuilder("/api/tasks?size=20&page=").append(random.nextInt(10) < 8 ? 0 : random.nextInt(1, 5));
+        if (random.nextBoolean()) {
+            query.append("&assignedTo=user").append(assignees.sample(random));
+        }
+        int completed = random.nextInt(3);
+        if (completed < 2) {
+            query.append("&completed=").append(completed == 1);
+        }
+        return query.toString();
+    }
+
+    private int randomId(SplittableRandom random) {
+        return 1 + random.nextInt(Math.max(1, maxId.get()));
+    }
+
+    private long intervalNanos() {
+        return options.rate() > 0 ? TimeUnit.SECONDS.toNanos(options.concurrency()) / options.rate() : 0;
+    }
+
+    private void awaitReady(PrintStream out) throws InterruptedException {
+        long deadline = System.nanoTime() + options.readyTimeout().toNanos();
+        out.printf("Waiting for %s/actuator/health/readiness ...%n", options.baseUrl());
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(get("/actuator/health/readiness"), HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(1_000);
+        }
+        throw new IllegalStateException("Service not ready after " + options.readyTimeout());
+    }
+
+    private int discoverMaxId() throws IOException, InterruptedException {
+        String body = client.send(get("/api/tasks?size=1&sort=id,desc"), HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = FIRST_ID.matcher(body);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().timeout(options.requestTimeout()).build();
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .header("Content-Type", "application/json")
+                .timeout(options.requestTimeout())
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(options.baseUrl() + path);
+    }
+
+    static void report(WorkerResult result, Duration duration, PrintStream out) {
+        double seconds = duration.toNanos() / 1e9;
+        out.printf("%n%-8s %9s %9s %10s %10s %10s %10s  %s%n",
+                "op", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "status counts");
+        Histogram all = new Histogram(3);
+        for (Map.Entry<Operation, Histogram> entry : result.latencies.entrySet()) {
+            Histogram histogram = entry.getValue();
+            all.add(histogram);
+            printRow(out, entry.getKey().name().toLowerCase(), histogram, seconds, result.statuses.get(entry.getKey()));
+        }
+        printRow(out, "total", all, seconds, null);
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, double seconds,
+                                 Map<Integer, Integer> statuses) {
+        out.printf("%-8s %9d %9.1f %10.2f %10.2f %10.2f %10.2f  %s%n",
+                label, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                statuses != null ? statuses : "");
+    }
+
+    /** Latencies (microseconds) and status counts of one worker; merged after the run. */
+    static final class WorkerResult {
+
+        final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        final Map<Operation, Map<Integer, Integer>> statuses = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, int status, long latencyMicros) {
+            latencies.computeIfAbsent(operation, op -> new Histogram(3)).recordValue(Math.max(0, latencyMicros));
+            statuses.computeIfAbsent(operation, op -> new TreeMap<>()).merge(status, 1, Integer::sum);
+        }
+
+        void merge(WorkerResult other) {
+            other.latencies.forEach((op, h) -> latencies.computeIfAbsent(op, o -> new Histogram(3)).add(h));
+            other.statuses.forEach((op, counts) -> counts.forEach((status, n) ->
+                    statuses.computeIfAbsent(op, o -> new TreeMap<>()).merge(status, n, Integer::sum)));
+        }
+    }
+
+    record Options(String baseUrl, Duration warmup, Duration duration, int concurrency, int rate,
+                   OperationMix mix, int assignees, double assigneeSkew, long seed,
+                   Duration requestTimeout, Duration readyTimeout) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+                }
+                int eq = arg.indexOf('=');
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+            Options options = new Options(
+                    values.getOrDefault("base-url", "http://localhost:8080").replaceAll("/$", ""),
+                    Duration.parse(values.getOrDefault("warmup", "PT10S")),
+                    Duration.parse(values.getOrDefault("duration", "PT60S")),
+                    Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                    Integer.parseInt(values.getOrDefault("rate", "0")),
+                    OperationMix.parse(values.getOrDefault("mix", "list=55,get=30,create=7,update=5,delete=3")),
+                    Integer.parseInt(values.getOrDefault("assignees", "1000")),
+                    Double.parseDouble(values.getOrDefault("assignee-skew", "1.1")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Duration.parse(values.getOrDefault("request-timeout", "PT10S")),
+                    Duration.parse(values.getOrDefault("ready-timeout", "PT10M")));
+            if (options.concurrency() < 1) {
+                throw new IllegalArgumentException("concurrency must be at least 1");
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskmanagement.loadtest;
+
+/** Request types a load mix is made of; each maps to one {@code TaskController} endpoint. */
+public enum Operation {
+    LIST,
+    GET,
+    CREATE,
+    UPDATE,
+    DELETE
+}
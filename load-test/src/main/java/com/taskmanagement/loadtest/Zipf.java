@@ -0,0 +1,36 @@
+package com.taskmanagement.loadtest;
+
+import java.util.SplittableRandom;
+
+/** Zipf-distributed ranks 1..n (rank 1 most frequent), matching the service's data seeder. */
+final class Zipf {
+
+    private final double[] cdf;
+
+    Zipf(int n, double skew) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, skew);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        double draw = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < draw) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanagement.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OperationMixTest {
+
+    @Test
+    void drawsOperationsInProportionToWeights() {
+        OperationMix mix = OperationMix.parse("list=70, get=30, delete=0");
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertEquals(0.7, counts.get(Operation.LIST) / 100_000.0, 0.01);
+        assertEquals(0.3, counts.get(Operation.GET) / 100_000.0, 0.01);
+        assertFalse(counts.containsKey(Operation.DELETE));
+    }
+
+    @Test
+    void rejectsMalformedMixes() {
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("list"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("list=0"));
+        assertThrows(IllegalArgumentException.class, () -> OperationMix.parse("browse=5"));
+    }
+}
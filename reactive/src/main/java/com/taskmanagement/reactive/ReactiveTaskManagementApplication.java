@@ -0,0 +1,12 @@
+package com.taskmanagement.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveTaskManagementApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTaskManagementApplication.class, args);
+    }
+}
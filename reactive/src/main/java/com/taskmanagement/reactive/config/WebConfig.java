@@ -0,0 +1,30 @@
+package com.taskmanagement.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+@Configuration
+public class WebConfig implements WebFluxConfigurer {
+
+    /** Same paging limits as the servlet service: default page size 20, at most 100. */
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactiveSortHandlerMethodArgumentResolver sortResolver = new ReactiveSortHandlerMethodArgumentResolver();
+        ReactivePageableHandlerMethodArgumentResolver pageableResolver =
+                new ReactivePageableHandlerMethodArgumentResolver(sortResolver);
+        pageableResolver.setMaxPageSize(100);
+        configurer.addCustomResolver(sortResolver, pageableResolver);
+    }
+
+    @Bean
+    @Order(1)
+    public RateLimitWebFilter rateLimitWebFilter(@Value("${app.rate-limit.requests-per-minute:60}") int requestsPerMinute) {
+        return new RateLimitWebFilter(requestsPerMinute);
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.reactive.dto.request.TaskCreateRequest;
+import com.taskmanagement.reactive.dto.request.TaskUpdateRequest;
+import com.taskmanagement.reactive.dto.response.PagedTaskResponse;
+import com.taskmanagement.reactive.dto.response.TaskLookupResponse;
+import com.taskmanagement.reactive.dto.response.TaskResponse;
+import com.taskmanagement.reactive.service.TaskService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The servlet service's {@code /api/tasks} contract on WebFlux. In addition, {@code GET /api/tasks} with
+ * {@code Accept: application/x-ndjson} streams every matching task (one JSON object per line) as rows arrive,
+ * with backpressure and without a count query.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+public class TaskController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskController.class);
+
+    private final TaskService taskService;
+
+    public TaskController(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PagedTaskResponse> getAllTasks(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @PageableDefault(size = 20) @SortDefault.SortDefaults({
+                    @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC),
+                    @SortDefault(sort = "id", direction = Sort.Direction.ASC)
+            }) Pageable pageable) {
+        log.debug("GET /api/tasks, completed={}, assignedTo={}, includeArchived={}, page={}",
+                completed, assignedTo, includeArchived, pageable.getPageNumber());
+        return taskService.findAll(completed, assignedTo, includeArchived, pageable);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamTasks(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @SortDefault.SortDefaults({
+                    @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC),
+                    @SortDefault(sort = "id", direction = Sort.Direction.ASC)
+            }) Sort sort) {
+        log.debug("GET /api/tasks (stream), completed={}, assignedTo={}, includeArchived={}",
+                completed, assignedTo, includeArchived);
+        return taskService.stream(completed, assignedTo, includeArchived, sort);
+    }
+
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<TaskLookupResponse> getTasksByIds(@RequestParam List<Integer> ids) {
+        log.debug("GET /api/tasks?ids, count={}", ids.size());
+        return taskService.findAllByIds(ids);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TaskResponse> getTaskById(@PathVariable Integer id) {
+        log.debug("GET /api/tasks/{}", id);
+        return taskService.findById(id);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> createTask(@Valid @RequestBody TaskCreateRequest request,
+                                                         UriComponentsBuilder uriBuilder) {
+        log.debug("POST /api/tasks");
+        return taskService.create(request)
+                .map(created -> ResponseEntity
+                        .created(uriBuilder.path("/api/tasks/{id}").buildAndExpand(created.getId()).toUri())
+                        .body(created));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<TaskResponse> updateTask(@PathVariable Integer id, @Valid @RequestBody TaskUpdateRequest request) {
+        log.debug("PUT /api/tasks/{}", id);
+        return taskService.update(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Integer id) {
+        log.debug("DELETE /api/tasks/{}", id);
+        return taskService.deleteById(id).then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+}
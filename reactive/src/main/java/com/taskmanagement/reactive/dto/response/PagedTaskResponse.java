@@ -0,0 +1,25 @@
+package com.taskmanagement.reactive.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PagedTaskResponse {
+
+    private List<TaskResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean first;
+    private boolean last;
+    /** {@code false} when {@code totalElements}/{@code totalPages} come from a cached or estimated count. */
+    private boolean totalExact = true;
+}
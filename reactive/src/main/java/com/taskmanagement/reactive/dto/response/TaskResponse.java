@@ -0,0 +1,27 @@
+package com.taskmanagement.reactive.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskResponse {
+
+    private Integer id;
+    private String title;
+    private String description;
+    private Boolean isCompleted;
+    private Instant dueDate;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private String createdBy;
+    private String updatedBy;
+    private String assignedTo;
+    private Instant assignedAt;
+}
@@ -0,0 +1,76 @@
+package com.taskmanagement.reactive.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * Row of {@code tasks}; also read from {@code tasks_archive} and the {@code tasks_all} view, which have the
+ * same columns. Same schema as the servlet service, so both can run against one database.
+ */
+@Table("tasks")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Task {
+
+    @Id
+    private Integer id;
+
+    private String title;
+
+    private String description;
+
+    @Column("is_completed")
+    private Boolean isCompleted = false;
+
+    private Instant dueDate;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    private String createdBy;
+
+    private String updatedBy;
+
+    private String assignedTo;
+
+    private Instant assignedAt;
+
+    /** Set when the task becomes completed; drives archiving in the servlet service. */
+    private Instant completedAt;
+
+    public void setIsCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted != null ? isCompleted : false;
+    }
+
+    /** R2DBC has no entity lifecycle callbacks; the service calls this before the insert. */
+    public void onCreate() {
+        Instant now = Instant.now();
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+        this.updatedAt = now;
+        trackCompletion(now);
+    }
+
+    public void onUpdate() {
+        Instant now = Instant.now();
+        this.updatedAt = now;
+        trackCompletion(now);
+    }
+
+    private void trackCompletion(Instant now) {
+        if (!Boolean.TRUE.equals(this.isCompleted)) {
+            this.completedAt = null;
+        } else if (this.completedAt == null) {
+            this.completedAt = now;
+        }
+    }
+}
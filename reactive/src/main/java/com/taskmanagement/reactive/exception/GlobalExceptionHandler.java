@@ -0,0 +1,103 @@
+package com.taskmanagement.reactive.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Same status codes, error codes and messages as the servlet service's handler. */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private static final String USER_MESSAGE_NOT_FOUND = "We couldn't find a task with the given ID. Please check the ID and try again.";
+    private static final String USER_MESSAGE_VALIDATION = "Some fields in your request are invalid. Please correct them and try again.";
+    private static final String USER_MESSAGE_BAD_JSON = "Request body is invalid or contains an invalid value (e.g. date-time). Use ISO-8601 for dates, e.g. 2026-02-18T14:08 or 2026-02-18T14:08:00Z.";
+    private static final String USER_MESSAGE_INTERNAL = "Something went wrong on our side. Please try again in a few moments.";
+
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<ApiError> handleTaskNotFound(TaskNotFoundException ex, ServerHttpRequest request) {
+        log.warn("Task not found: taskId={}, path={}", ex.getTaskId(), path(request));
+        ApiError error = ApiError.of(
+                HttpStatus.NOT_FOUND.value(),
+                ApiError.CODE_NOT_FOUND,
+                "Not Found",
+                USER_MESSAGE_NOT_FOUND,
+                path(request)
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(InvalidTaskRequestException.class)
+    public ResponseEntity<ApiError> handleInvalidTaskRequest(InvalidTaskRequestException ex, ServerHttpRequest request) {
+        log.warn("Invalid task request: message={}, path={}", ex.getMessage(), path(request));
+        ApiError error = ApiError.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ApiError.CODE_BAD_REQUEST,
+                "Bad Request",
+                ex.getMessage(),
+                path(request)
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /** Validation of {@code @Valid} bodies; checked before {@link ServerWebInputException}, its superclass. */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiError> handleValidation(WebExchangeBindException ex, ServerHttpRequest request) {
+        List<ApiError.FieldErrorDetail> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
+                .map(fe -> new ApiError.FieldErrorDetail(
+                        fe.getField(),
+                        fe.getDefaultMessage() != null ? fe.getDefaultMessage() : "Invalid value",
+                        fe.getRejectedValue()
+                ))
+                .collect(Collectors.toList());
+        log.warn("Validation failed: fields={}, path={}", fieldErrors.stream().map(ApiError.FieldErrorDetail::getField).toList(), path(request));
+        ApiError error = ApiError.validationError(
+                HttpStatus.BAD_REQUEST.value(),
+                USER_MESSAGE_VALIDATION,
+                path(request),
+                fieldErrors
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /** Unreadable body or unconvertible parameter; the servlet service's {@code HttpMessageNotReadableException}. */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiError> handleInput(ServerWebInputException ex, ServerHttpRequest request) {
+        log.warn("Invalid request input: path={}, message={}", path(request), ex.getMessage());
+        ApiError error = ApiError.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ApiError.CODE_BAD_REQUEST,
+                "Bad Request",
+                USER_MESSAGE_BAD_JSON,
+                path(request)
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiError> handleGeneric(Exception ex, ServerHttpRequest request) {
+        log.error("Unhandled error: path={}", path(request), ex);
+        ApiError error = ApiError.of(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                ApiError.CODE_INTERNAL,
+                "Internal Server Error",
+                USER_MESSAGE_INTERNAL,
+                path(request)
+        );
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+
+    private static String path(ServerHttpRequest request) {
+        return request.getPath().value();
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.reactive.exception;
+
+public class InvalidTaskRequestException extends RuntimeException {
+
+    public InvalidTaskRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidTaskRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
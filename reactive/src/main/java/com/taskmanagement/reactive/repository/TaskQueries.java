@@ -0,0 +1,106 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.reactive.entity.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Task queries on {@code tasks}, {@code tasks_archive} or the {@code tasks_all} view. All three have the
+ * {@link Task} columns, so one entity maps every row. The assignee filter matches case-insensitively, like the
+ * servlet service.
+ */
+@Repository
+public class TaskQueries {
+
+    public static final String TASKS = "tasks";
+    public static final String ARCHIVE = "tasks_archive";
+    public static final String ALL = "tasks_all";
+
+    private final R2dbcEntityTemplate template;
+
+    public TaskQueries(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    public Flux<Task> findPage(String table, Boolean completed, String assignee, Pageable pageable) {
+        return template.select(Task.class).from(table)
+                .matching(Query.query(filter(completed, assignee)).with(pageable))
+                .all();
+    }
+
+    /** Every match in {@code sort} order, emitted as rows arrive from the driver. */
+    public Flux<Task> stream(String table, Boolean completed, String assignee, Sort sort) {
+        return template.select(Task.class).from(table)
+                .matching(Query.query(filter(completed, assignee)).sort(sort))
+                .all();
+    }
+
+    public Mono<Long> count(String table, Boolean completed, String assignee) {
+        return template.select(Task.class).from(table)
+                .matching(Query.query(filter(completed, assignee)))
+                .count();
+    }
+
+    public Mono<Task> findById(String table, Integer id) {
+        return template.select(Task.class).from(table)
+                .matching(Query.query(Criteria.where("id").is(id)))
+                .one();
+    }
+
+    public Flux<Task> findAllById(String table, Collection<Integer> ids) {
+        return template.select(Task.class).from(table)
+                .matching(Query.query(Criteria.where("id").in(ids)))
+                .all();
+    }
+
+    public Mono<Long> deleteById(String table, Integer id) {
+        return template.delete(Task.class).from(table)
+                .matching(Query.query(Criteria.where("id").is(id)))
+                .all();
+    }
+
+    /** Moves an archived task back to {@code tasks}, keeping its ID. */
+    public Mono<Task> restoreFromArchive(Integer id) {
+        DatabaseClient client = template.getDatabaseClient();
+        return client.sql("""
+                        insert into tasks (id, title, description, is_completed, due_date, created_at, updated_at,
+                                           created_by, updated_by, assigned_to, assigned_at, completed_at)
+                        select id, title, description, is_completed, due_date, created_at, updated_at,
+                               created_by, updated_by, assigned_to, assigned_at, completed_at
+                        from tasks_archive where id = :id
+                        """)
+                .bind("id", id)
+                .fetch().rowsUpdated()
+                .filter(inserted -> inserted > 0)
+                .flatMap(inserted -> deleteById(ARCHIVE, id))
+                .flatMap(deleted -> findById(TASKS, id));
+    }
+
+    public Mono<Task> insert(Task task) {
+        return template.insert(task);
+    }
+
+    public Mono<Task> update(Task task) {
+        return template.update(task);
+    }
+
+    private static Criteria filter(Boolean completed, String assignee) {
+        Criteria criteria = Criteria.empty();
+        if (completed != null) {
+            criteria = criteria.and("isCompleted").is(completed);
+        }
+        if (assignee != null) {
+            criteria = criteria.and("assignedTo").is(assignee).ignoreCase(true);
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.reactive.dto.request.TaskCreateRequest;
+import com.taskmanagement.reactive.dto.request.TaskUpdateRequest;
+import com.taskmanagement.reactive.dto.response.PagedTaskResponse;
+import com.taskmanagement.reactive.dto.response.TaskLookupResponse;
+import com.taskmanagement.reactive.dto.response.TaskResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/** Non-blocking counterpart of the servlet service's {@code TaskService}; same rules, same errors. */
+public interface TaskService {
+
+    Mono<PagedTaskResponse> findAll(Boolean completed, String assignedTo, boolean includeArchived, Pageable pageable);
+
+    /** All matching tasks in {@code sort} order, without paging or a count query. */
+    Flux<TaskResponse> stream(Boolean completed, String assignedTo, boolean includeArchived, Sort sort);
+
+    Mono<TaskResponse> findById(Integer id);
+
+    Mono<TaskLookupResponse> findAllByIds(List<Integer> ids);
+
+    Mono<TaskResponse> create(TaskCreateRequest request);
+
+    Mono<TaskResponse> update(Integer id, TaskUpdateRequest request);
+
+    Mono<Void> deleteById(Integer id);
+}
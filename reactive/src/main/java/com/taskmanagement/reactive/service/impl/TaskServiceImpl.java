@@ -0,0 +1,198 @@
+package com.taskmanagement.reactive.service.impl;
+
+import com.taskmanagement.reactive.dto.request.TaskCreateRequest;
+import com.taskmanagement.reactive.dto.request.TaskUpdateRequest;
+import com.taskmanagement.reactive.dto.response.PagedTaskResponse;
+import com.taskmanagement.reactive.dto.response.TaskLookupResponse;
+import com.taskmanagement.reactive.dto.response.TaskResponse;
+import com.taskmanagement.reactive.entity.Task;
+import com.taskmanagement.reactive.exception.InvalidTaskRequestException;
+import com.taskmanagement.reactive.exception.TaskNotFoundException;
+import com.taskmanagement.reactive.mapper.TaskMapper;
+import com.taskmanagement.reactive.repository.TaskQueries;
+import com.taskmanagement.reactive.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class TaskServiceImpl implements TaskService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskServiceImpl.class);
+
+    static final int MAX_LOOKUP_IDS = 500;
+    private static final Set<String> SORTABLE = new TreeSet<>(List.of("id", "title", "description", "isCompleted", "dueDate",
+            "createdAt", "updatedAt", "createdBy", "updatedBy", "assignedTo", "assignedAt"));
+
+    private final TaskQueries queries;
+    private final TaskMapper taskMapper;
+
+    public TaskServiceImpl(TaskQueries queries, TaskMapper taskMapper) {
+        this.queries = queries;
+        this.taskMapper = taskMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<PagedTaskResponse> findAll(Boolean completed, String assignedTo, boolean includeArchived, Pageable pageable) {
+        String table = includeArchived ? TaskQueries.ALL : TaskQueries.TASKS;
+        String assignee = normalizeAssignee(assignedTo);
+        return Mono.fromRunnable(() -> validateSort(pageable.getSort()))
+                .thenMany(queries.findPage(table, completed, assignee, pageable))
+                .map(taskMapper::toResponse)
+                .collectList()
+                .flatMap(content -> total(table, completed, assignee, pageable, content.size())
+                        .map(total -> page(content, pageable, total)));
+    }
+
+    @Override
+    public Flux<TaskResponse> stream(Boolean completed, String assignedTo, boolean includeArchived, Sort sort) {
+        String table = includeArchived ? TaskQueries.ALL : TaskQueries.TASKS;
+        return Mono.fromRunnable(() -> validateSort(sort))
+                .thenMany(queries.stream(table, completed, normalizeAssignee(assignedTo), sort))
+                .map(taskMapper::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<TaskResponse> findById(Integer id) {
+        return queries.findById(TaskQueries.TASKS, id)
+                .switchIfEmpty(Mono.defer(() -> queries.findById(TaskQueries.ARCHIVE, id)))
+                .map(taskMapper::toResponse)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<TaskLookupResponse> findAllByIds(List<Integer> ids) {
+        Set<Integer> requested = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(requested::add);
+        if (requested.size() > MAX_LOOKUP_IDS) {
+            return Mono.error(new InvalidTaskRequestException(
+                    "At most " + MAX_LOOKUP_IDS + " task IDs can be looked up at once. Please split the request."));
+        }
+        if (requested.isEmpty()) {
+            return Mono.just(new TaskLookupResponse(List.of(), List.of()));
+        }
+        Map<Integer, TaskResponse> found = new HashMap<>();
+        return queries.findAllById(TaskQueries.TASKS, requested)
+                .doOnNext(task -> found.put(task.getId(), taskMapper.toResponse(task)))
+                .thenMany(Flux.defer(() -> {
+                    List<Integer> archiveCandidates = requested.stream().filter(id -> !found.containsKey(id)).toList();
+                    return archiveCandidates.isEmpty()
+                            ? Flux.<Task>empty()
+                            : queries.findAllById(TaskQueries.ARCHIVE, archiveCandidates);
+                }))
+                .doOnNext(task -> found.put(task.getId(), taskMapper.toResponse(task)))
+                .then(Mono.fromSupplier(() -> {
+                    List<TaskResponse> tasks = new ArrayList<>(found.size());
+                    List<Integer> missingIds = new ArrayList<>();
+                    for (Integer id : requested) {
+                        TaskResponse task = found.get(id);
+                        if (task != null) {
+                            tasks.add(task);
+                        } else {
+                            missingIds.add(id);
+                        }
+                    }
+                    return new TaskLookupResponse(tasks, missingIds);
+                }));
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponse> create(TaskCreateRequest request) {
+        return Mono.fromSupplier(() -> {
+                    validateTitle(request.getTitle());
+                    Task task = taskMapper.toEntity(request);
+                    task.onCreate();
+                    return task;
+                })
+                .flatMap(queries::insert)
+                .doOnNext(task -> log.info("Task created: id={}, title={}", task.getId(), task.getTitle()))
+                .map(taskMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponse> update(Integer id, TaskUpdateRequest request) {
+        return queries.findById(TaskQueries.TASKS, id)
+                .switchIfEmpty(Mono.defer(() -> queries.restoreFromArchive(id)))
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)))
+                .flatMap(task -> {
+                    if (request.getTitle() != null) {
+                        validateTitle(request.getTitle());
+                    }
+                    taskMapper.updateEntity(task, request);
+                    task.onUpdate();
+                    return queries.update(task);
+                })
+                .doOnNext(task -> log.info("Task updated: id={}", id))
+                .map(taskMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteById(Integer id) {
+        return queries.deleteById(TaskQueries.TASKS, id)
+                .flatMap(deleted -> deleted > 0 ? Mono.just(deleted) : queries.deleteById(TaskQueries.ARCHIVE, id))
+                .flatMap(deleted -> deleted > 0
+                        ? Mono.<Void>empty()
+                        : Mono.error(new TaskNotFoundException(id)))
+                .doOnSuccess(ignored -> log.info("Task deleted: id={}", id));
+    }
+
+    /** Skips the count query when the page shows the total already (first page not full, or last page). */
+    private Mono<Long> total(String table, Boolean completed, String assignee, Pageable pageable, int contentSize) {
+        if (pageable.isUnpaged() || (contentSize > 0 || pageable.getOffset() == 0) && contentSize < pageable.getPageSize()) {
+            return Mono.just(pageable.isUnpaged() ? contentSize : pageable.getOffset() + contentSize);
+        }
+        return queries.count(table, completed, assignee);
+    }
+
+    private static PagedTaskResponse page(List<TaskResponse> content, Pageable pageable, long total) {
+        int size = pageable.getPageSize();
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) total / size);
+        int number = pageable.getPageNumber();
+        return new PagedTaskResponse(content, number, size, total, totalPages, number == 0, number + 1 >= totalPages, true);
+    }
+
+    private static void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new InvalidTaskRequestException("Cannot sort by '" + order.getProperty() + "'. Sortable fields: " + SORTABLE);
+            }
+        }
+    }
+
+    private static void validateTitle(String title) {
+        if (title == null || title.isBlank()) {
+            throw new InvalidTaskRequestException("Task title is required and cannot be blank. Please provide a title.");
+        }
+        if (title.length() > 100) {
+            throw new InvalidTaskRequestException("Task title must not exceed 100 characters. Please shorten the title.");
+        }
+    }
+
+    /** Assignee as matched by the filter: trimmed, blank as {@code null}; compared case-insensitively. */
+    private static String normalizeAssignee(String assignedTo) {
+        if (assignedTo == null || assignedTo.isBlank()) {
+            return null;
+        }
+        return assignedTo.trim();
+    }
+}
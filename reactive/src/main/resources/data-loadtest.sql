@@ -0,0 +1,16 @@
+-- 100k deterministic load-test rows (the servlet service's TaskDataSeeder shape, in SQL): ~60% completed,
+-- 10% unassigned, assignees user1..user999 roughly Zipf(1) distributed.
+insert into tasks (title, description, is_completed, due_date, created_at, updated_at, created_by,
+                   assigned_to, assigned_at, completed_at)
+select 'Task ' || x,
+       'Seeded for load testing',
+       mod(x * 7919, 10) < 6,
+       dateadd('DAY', mod(x, 60) - 30, current_timestamp),
+       dateadd('SECOND', -x, current_timestamp),
+       dateadd('SECOND', -x, current_timestamp),
+       'seed',
+       case when mod(x * 31, 10) = 0 then null
+            else 'user' || cast(floor(power(1000, mod(x * 2654435761, 1000003) / 1000003.0)) as int) end,
+       case when mod(x * 31, 10) = 0 then null else dateadd('SECOND', -x, current_timestamp) end,
+       case when mod(x * 7919, 10) < 6 then dateadd('SECOND', -x, current_timestamp) end
+from system_range(1, 100000);
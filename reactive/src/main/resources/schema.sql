@@ -0,0 +1,43 @@
+-- Same tables as the servlet service's JPA schema; the view mirrors its TaskView union.
+create table if not exists tasks (
+    id           integer generated by default as identity primary key,
+    title        varchar(100)  not null,
+    description  varchar(2000),
+    is_completed boolean       not null,
+    due_date     timestamp(6) with time zone,
+    created_at   timestamp(6) with time zone not null,
+    updated_at   timestamp(6) with time zone,
+    created_by   varchar(100),
+    updated_by   varchar(100),
+    assigned_to  varchar(100),
+    assigned_at  timestamp(6) with time zone,
+    completed_at timestamp(6) with time zone
+);
+
+create index if not exists idx_tasks_completed_at on tasks (is_completed, completed_at);
+create index if not exists idx_tasks_due_date on tasks (is_completed, due_date);
+
+create table if not exists tasks_archive (
+    id           integer primary key,
+    title        varchar(100)  not null,
+    description  varchar(2000),
+    is_completed boolean       not null,
+    due_date     timestamp(6) with time zone,
+    created_at   timestamp(6) with time zone not null,
+    updated_at   timestamp(6) with time zone,
+    created_by   varchar(100),
+    updated_by   varchar(100),
+    assigned_to  varchar(100),
+    assigned_at  timestamp(6) with time zone,
+    completed_at timestamp(6) with time zone,
+    archived_at  timestamp(6) with time zone not null
+);
+
+create or replace view tasks_all as
+select id, title, description, is_completed, due_date, created_at, updated_at,
+       created_by, updated_by, assigned_to, assigned_at, completed_at
+from tasks
+union all
+select id, title, description, is_completed, due_date, created_at, updated_at,
+       created_by, updated_by, assigned_to, assigned_at, completed_at
+from tasks_archive;
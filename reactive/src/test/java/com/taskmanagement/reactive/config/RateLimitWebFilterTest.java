@@ -0,0 +1,44 @@
+package com.taskmanagement.reactive.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitWebFilterTest {
+
+    private final RateLimitWebFilter filter = new RateLimitWebFilter(2);
+    private final AtomicInteger passed = new AtomicInteger();
+
+    @Test
+    void rejectsRequestsOverTheLimitPerClient() {
+        assertThat(call("/api/tasks", "10.0.0.1").getStatusCode()).isNull();
+        assertThat(call("/api/tasks", "10.0.0.1").getStatusCode()).isNull();
+        assertThat(call("/api/tasks", "10.0.0.1").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(call("/api/tasks", "10.0.0.2").getStatusCode()).isNull();
+        assertThat(passed).hasValue(3);
+    }
+
+    @Test
+    void ignoresPathsOutsideTheApi() {
+        for (int i = 0; i < 5; i++) {
+            call("/actuator/health", "10.0.0.3");
+        }
+        assertThat(passed).hasValue(5);
+    }
+
+    private org.springframework.mock.http.server.reactive.MockServerHttpResponse call(String path, String client) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get(path).header("X-Forwarded-For", client));
+        filter.filter(exchange, ex -> {
+            passed.incrementAndGet();
+            return Mono.empty();
+        }).block();
+        return exchange.getResponse();
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.reactive.dto.response.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.rate-limit.requests-per-minute=100000")
+@AutoConfigureWebTestClient
+class TaskControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("delete from tasks").then()
+                .then(databaseClient.sql("delete from tasks_archive").then())
+                .block();
+    }
+
+    @Test
+    void createThenGetReturnsTaskAndLocation() {
+        TaskResponse created = create("{\"title\":\" Write docs \",\"dueDate\":\"2026-02-18T14:08\",\"assignedTo\":\"Alice\"}");
+
+        assertThat(created.getTitle()).isEqualTo("Write docs");
+        assertThat(created.getAssignedAt()).isNotNull();
+        client.get().uri("/api/tasks/{id}", created.getId()).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Write docs")
+                .jsonPath("$.isCompleted").isEqualTo(false);
+    }
+
+    @Test
+    void missingTaskReturnsApiError() {
+        client.get().uri("/api/tasks/999999").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.errorCode").isEqualTo("TASK_NOT_FOUND")
+                .jsonPath("$.path").isEqualTo("/api/tasks/999999");
+    }
+
+    @Test
+    void invalidBodyReturnsValidationError() {
+        client.post().uri("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("VALIDATION_FAILED")
+                .jsonPath("$.fieldErrors[0].field").isEqualTo("title");
+    }
+
+    @Test
+    void unparseableDateReturnsBadRequest() {
+        client.post().uri("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"title\":\"T\",\"dueDate\":\"tomorrow\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("INVALID_REQUEST");
+    }
+
+    @Test
+    void listsPagesWithFiltersAndTotals() {
+        for (int i = 0; i < 5; i++) {
+            create("{\"title\":\"Task " + i + "\",\"isCompleted\":" + (i % 2 == 0) + ",\"assignedTo\":\"bob\"}");
+        }
+        create("{\"title\":\"Other\",\"assignedTo\":\"carol\"}");
+
+        client.get().uri("/api/tasks?assignedTo=BOB&completed=true&size=2&sort=title,asc").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].title").isEqualTo("Task 0")
+                .jsonPath("$.totalElements").isEqualTo(3)
+                .jsonPath("$.totalPages").isEqualTo(2)
+                .jsonPath("$.first").isEqualTo(true)
+                .jsonPath("$.last").isEqualTo(false);
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        client.get().uri("/api/tasks?sort=secret").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("INVALID_REQUEST");
+    }
+
+    @Test
+    void streamsAllMatchesAsNdjson() {
+        for (int i = 0; i < 30; i++) {
+            create("{\"title\":\"Streamed " + i + "\"}");
+        }
+
+        List<TaskResponse> streamed = client.get().uri("/api/tasks?sort=id,asc")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(streamed).hasSize(30);
+        assertThat(streamed.get(0).getTitle()).isEqualTo("Streamed 0");
+    }
+
+    @Test
+    void looksUpManyIdsIncludingArchivedAndMissing() {
+        Integer hot = create("{\"title\":\"Hot\"}").getId();
+        databaseClient.sql("""
+                        insert into tasks_archive (id, title, is_completed, created_at, archived_at)
+                        values (424242, 'Cold', true, current_timestamp, current_timestamp)
+                        """)
+                .then().block();
+
+        client.get().uri("/api/tasks?ids=424242,{hot},7", hot).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.tasks[0].title").isEqualTo("Cold")
+                .jsonPath("$.tasks[1].title").isEqualTo("Hot")
+                .jsonPath("$.missingIds[0]").isEqualTo(7);
+        client.get().uri("/api/tasks?includeArchived=true").exchange()
+                .expectBody().jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    void updatesRestoresFromArchiveAndDeletes() {
+        databaseClient.sql("""
+                        insert into tasks_archive (id, title, is_completed, created_at, archived_at)
+                        values (515151, 'Archived', true, current_timestamp, current_timestamp)
+                        """)
+                .then().block();
+
+        client.put().uri("/api/tasks/515151").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"isCompleted\":false}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.isCompleted").isEqualTo(false)
+                .jsonPath("$.title").isEqualTo("Archived");
+
+        client.delete().uri("/api/tasks/515151").exchange().expectStatus().isNoContent();
+        client.delete().uri("/api/tasks/515151").exchange().expectStatus().isNotFound();
+    }
+
+    private TaskResponse create(String json) {
+        return client.post().uri("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(json)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location")
+                .expectBody(TaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Side-by-side load comparison of the servlet service and the reactive module (reactive/) on the same
+# 100k seeded rows: throughput, tail latency, resident memory and thread count per concurrency level.
+#
+#   ./mvnw package -DskipTests
+#   ./mvnw -f reactive/pom.xml package -DskipTests
+#   ./mvnw -f load-test/pom.xml package -DskipTests
+#   scripts/compare-stacks.sh                     # CONCURRENCY="16 512" DURATION=PT30S by default
+#
+# Both run with the same heap and without the servlet service's caches, coalescing and concurrency limit,
+# so the difference is the stack. RSS and threads are sampled halfway through each measured run; memory
+# per connection is the RSS growth between concurrency levels divided by the extra connections.
+set -euo pipefail
+
+CONCURRENCY=${CONCURRENCY:-"16 512"}
+WARMUP=${WARMUP:-10}
+DURATION=${DURATION:-30}
+MIX=${MIX:-list=55,get=30,create=7,update=5,delete=3}
+HEAP=${HEAP:-512m}
+SERVLET_JAR=$(ls target/task-management-service-*.jar | grep -v original | head -1)
+REACTIVE_JAR=reactive/target/task-management-reactive.jar
+LOAD_JAR=load-test/target/task-management-load-test.jar
+SEED=reactive/src/main/resources/data-loadtest.sql
+
+start() {
+  case $1 in
+    servlet)
+      PORT=18080
+      java -Xmx$HEAP -jar "$SERVLET_JAR" --server.port=$PORT \
+        --spring.sql.init.mode=always --spring.sql.init.data-locations=file:$SEED \
+        --spring.jpa.defer-datasource-initialization=true \
+        --management.endpoint.health.probes.enabled=true --logging.level.root=WARN \
+        --app.rate-limit.requests-per-minute=100000000 --app.concurrency-limit.enabled=false \
+        --app.page-cache.enabled=false --app.coalescing.enabled=false \
+        --app.archive.enabled=false --app.reminders.enabled=false >target/compare-servlet.log 2>&1 &
+      ;;
+    reactive)
+      PORT=18081
+      java -Xmx$HEAP -jar "$REACTIVE_JAR" --server.port=$PORT --spring.profiles.active=loadtest \
+        >target/compare-reactive.log 2>&1 &
+      ;;
+  esac
+  PID=$!
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null; do sleep 1; done
+}
+
+measure() {
+  local stack=$1 concurrency=$2 out=target/compare-$1-$2.txt
+  java -jar "$LOAD_JAR" --base-url=http://localhost:$PORT --warmup=PT${WARMUP}S --duration=PT${DURATION}S \
+       --concurrency="$concurrency" --mix="$MIX" >"$out" 2>&1 &
+  local driver=$!
+  sleep $(( WARMUP + DURATION / 2 ))
+  read -r rss threads < <(ps -o rss=,nlwp= -p "$PID")
+  wait $driver
+  echo "== $stack, concurrency $concurrency: RSS $((rss / 1024)) MB, threads $threads"
+  cat "$out"
+}
+
+for stack in servlet reactive; do
+  start $stack
+  for c in $CONCURRENCY; do
+    measure $stack "$c"
+  done
+  kill $PID
+  wait $PID 2>/dev/null || true
+done
@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request and resident memory of one startup variant.
+#
+#   ./mvnw package -DskipTests                          (or -Paot for the AOT variants)
+#   scripts/measure-startup.sh jar
+#   scripts/measure-startup.sh aot        # needs a -Paot build
+#   scripts/measure-startup.sh cds        # trains app.jsa on first use
+#   scripts/measure-startup.sh aot-cds
+#   scripts/measure-startup.sh native     # needs ./mvnw -Pnative native:compile
+#
+# Time is measured from process launch to the first successful GET /api/tasks; RSS is read
+# right after that request. Run each variant several times and compare medians.
+set -euo pipefail
+
+VARIANT=${1:?usage: measure-startup.sh jar|aot|cds|aot-cds|native}
+PORT=${PORT:-18080}
+RUNS=${RUNS:-5}
+WORK=target/startup
+JAR=$(ls target/task-management-service-*.jar | grep -v original | head -1)
+
+extract() {
+  if [[ ! -f $WORK/app.jar ]]; then
+    rm -rf "$WORK" target/startup-src && mkdir -p target/startup-src
+    cp "$JAR" target/startup-src/app.jar
+    java -Djarmode=tools -jar target/startup-src/app.jar extract --destination "$WORK" >/dev/null
+  fi
+}
+
+train() {
+  extract
+  if [[ ! -f $WORK/app-$1.jsa ]]; then
+    java -XX:ArchiveClassesAtExit="$WORK/app-$1.jsa" -Dspring.aot.enabled="$2" \
+      -Dspring.context.exit=onRefresh -jar "$WORK/app.jar" >/dev/null
+  fi
+}
+
+case $VARIANT in
+  jar)     CMD=(java -jar "$JAR") ;;
+  aot)     CMD=(java -Dspring.aot.enabled=true -jar "$JAR") ;;
+  cds)     train jvm false;  CMD=(java -XX:SharedArchiveFile="$WORK/app-jvm.jsa" -jar "$WORK/app.jar") ;;
+  aot-cds) train aot true;   CMD=(java -XX:SharedArchiveFile="$WORK/app-aot.jsa" -Dspring.aot.enabled=true -jar "$WORK/app.jar") ;;
+  native)  CMD=(target/task-management-service) ;;
+  *) echo "unknown variant: $VARIANT" >&2; exit 1 ;;
+esac
+
+for ((run = 1; run <= RUNS; run++)); do
+  start=$(date +%s%N)
+  "${CMD[@]}" --server.port="$PORT" >/dev/null 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/api/tasks" >/dev/null; do
+    sleep 0.01
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss=$(awk '/VmRSS/ {print int($2 / 1024)}' "/proc/$pid/status")
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  printf '%-8s run %d: first request after %5d ms, RSS %4d MB\n' "$VARIANT" "$run" "$elapsed" "$rss"
+done
@@ -0,0 +1,95 @@
+package com.taskmanagement.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service-wide concurrency limit that adapts to observed latency (AIMD, additive increase / multiplicative
+ * decrease): a request that completes within {@code latencyThreshold} while the limit is at least half used
+ * raises the limit by one; a slow or failed request multiplies it by {@code backoffRatio}. The limit stays
+ * between {@code minLimit} and {@code maxLimit}.
+ * <p>
+ * Requests over the limit are not queued; callers reject them. {@link Priority#SCAN} requests are admitted
+ * only up to {@code scanShare} of the limit, so list scans are shed first and writes keep the remaining slots.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        /** Creates, updates and deletes. */
+        WRITE,
+        /** Single-task and multi-get reads. */
+        READ,
+        /** List queries. */
+        SCAN
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double scanShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                      double backoffRatio, double scanShare) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Require 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1 || scanShare <= 0 || scanShare > 1) {
+            throw new IllegalArgumentException("Require 0 < backoff-ratio < 1 and 0 < scan-share <= 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.scanShare = scanShare;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return {@code true} if the request may run; it must then call {@link #release} exactly once
+     */
+    public boolean tryAcquire(Priority priority) {
+        int admissionLimit = admissionLimit(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= admissionLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends a request admitted by {@link #tryAcquire} and adjusts the limit.
+     *
+     * @param latencyNanos how long the request ran
+     * @param dropped      whether it failed in a way that signals overload (server error, timeout)
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private int admissionLimit(Priority priority) {
+        int current = (int) limit;
+        return priority == Priority.SCAN ? Math.max(1, (int) (current * scanShare)) : current;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * {@code POST /api/tasks/import} runs for as long as the upload lasts and issues one statement per record, so
+ * the per-request deadline, the adaptive concurrency limit (whose latency signal it would distort) and the SQL
+ * budget skip it. Imports are bounded by {@code app.import.max-concurrent} instead.
+ */
+final class BulkImportRequests {
+
+    static final String PATH = "/api/tasks/import";
+
+    private BulkImportRequests() {
+    }
+
+    static boolean matches(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length()).equals(PATH);
+    }
+}
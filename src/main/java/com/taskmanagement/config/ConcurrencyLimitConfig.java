@@ -0,0 +1,49 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency-limit.latency-threshold:PT1S}") Duration latencyThreshold,
+            @Value("${app.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${app.concurrency-limit.scan-share:0.75}") double scanShare) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, scanShare);
+        Gauge.builder("tasks.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("tasks.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Task API requests currently running")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            MeterRegistry meterRegistry,
+            @Value("${app.concurrency-limit.retry-after:PT1S}") Duration retryAfter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new ConcurrencyLimitFilter(limiter, retryAfter, meterRegistry));
+        registration.addUrlPatterns("/api/tasks", "/api/tasks/*");
+        // after the per-client rate limiter, so one noisy client cannot use up the shared limit
+        registration.setOrder(2);
+        return registration;
+    }
+}
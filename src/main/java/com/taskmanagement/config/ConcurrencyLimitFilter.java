@@ -0,0 +1,83 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Admits task API requests through an {@link AdaptiveConcurrencyLimiter} and sheds the rest immediately with
+ * 503 and {@code Retry-After}, instead of letting them wait on Tomcat threads while the database is slow.
+ * {@code GET /api/tasks} without {@code ids} is a list scan; other {@code GET}s are reads; everything else is
+ * a write.
+ * <p>
+ * Metrics: {@code tasks.concurrency.rejected{priority}}, and the gauges {@code tasks.concurrency.limit} and
+ * {@code tasks.concurrency.in-flight} (registered in {@link ConcurrencyLimitConfig}).
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+    private final Map<AdaptiveConcurrencyLimiter.Priority, Counter> rejected =
+            new EnumMap<>(AdaptiveConcurrencyLimiter.Priority.class);
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        for (AdaptiveConcurrencyLimiter.Priority priority : AdaptiveConcurrencyLimiter.Priority.values()) {
+            rejected.put(priority, Counter.builder("tasks.concurrency.rejected")
+                    .description("Requests shed by the adaptive concurrency limit")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return BulkImportRequests.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Priority priority = priority(request);
+        if (!limiter.tryAcquire(priority)) {
+            rejected.get(priority).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Service Unavailable\",\"message\":\"Server is at capacity. Please try again later.\"}");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    static AdaptiveConcurrencyLimiter.Priority priority(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return AdaptiveConcurrencyLimiter.Priority.WRITE;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean list = (path.equals("/api/tasks") || path.equals("/api/tasks/")) && request.getParameter("ids") == null;
+        return list ? AdaptiveConcurrencyLimiter.Priority.SCAN : AdaptiveConcurrencyLimiter.Priority.READ;
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskmanagement.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "app.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(
+            @Value("${app.deadline.scan-timeout:PT10S}") Duration scanTimeout,
+            @Value("${app.deadline.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${app.deadline.write-timeout:PT10S}") Duration writeTimeout,
+            @Value("${app.deadline.max-timeout:PT30S}") Duration maxTimeout) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new DeadlineFilter(Map.of(
+                AdaptiveConcurrencyLimiter.Priority.SCAN, scanTimeout,
+                AdaptiveConcurrencyLimiter.Priority.READ, readTimeout,
+                AdaptiveConcurrencyLimiter.Priority.WRITE, writeTimeout), maxTimeout));
+        registration.addUrlPatterns("/api/tasks", "/api/tasks/*");
+        // first, so the deadline covers time spent in the limiters
+        registration.setOrder(0);
+        return registration;
+    }
+
+    /** Replaces Boot's default JPA transaction manager; there is none without JPA ({@code logstore}). */
+    @Bean
+    @Profile("!logstore")
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineTransactionManager transactionManager = new DeadlineTransactionManager();
+        customizers.ifAvailable(c -> c.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+}
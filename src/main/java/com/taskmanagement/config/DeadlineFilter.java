@@ -0,0 +1,66 @@
+package com.taskmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Gives each task API request a {@link RequestDeadline}: the client's {@value #TIMEOUT_HEADER} (milliseconds,
+ * capped at {@code app.deadline.max-timeout}) or the default for the request's kind
+ * ({@code app.deadline.scan-timeout}, {@code read-timeout}, {@code write-timeout}; see
+ * {@link ConcurrencyLimitFilter#priority}). Runs first, so time spent in the other filters counts.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final Map<AdaptiveConcurrencyLimiter.Priority, Duration> defaults;
+    private final Duration maxTimeout;
+
+    public DeadlineFilter(Map<AdaptiveConcurrencyLimiter.Priority, Duration> defaults, Duration maxTimeout) {
+        this.defaults = Map.copyOf(defaults);
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return BulkImportRequests.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Duration timeout = defaults.get(ConcurrencyLimitFilter.priority(request));
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis < 0) {
+                    throw new NumberFormatException();
+                }
+                timeout = Duration.ofMillis(millis).compareTo(maxTimeout) < 0 ? Duration.ofMillis(millis) : maxTimeout;
+            } catch (NumberFormatException e) {
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                response.setContentType("application/json");
+                response.getWriter().write("{\"error\":\"Bad Request\",\"message\":\"" + TIMEOUT_HEADER
+                        + " must be a non-negative number of milliseconds.\"}");
+                return;
+            }
+        }
+        RequestDeadline.start(timeout);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.stop();
+        }
+    }
+}
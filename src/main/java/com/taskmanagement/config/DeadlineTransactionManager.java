@@ -0,0 +1,51 @@
+package com.taskmanagement.config;
+
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DelegatingTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * {@link JpaTransactionManager} that bounds every transaction by the current {@link RequestDeadline}:
+ * <ul>
+ *     <li>a transaction is not started once the deadline has passed, so no connection is taken;</li>
+ *     <li>the transaction timeout (whole seconds, rounded up) is the smaller of the declared timeout and the
+ *     time left; Hibernate applies it to each JDBC statement as {@code setQueryTimeout};</li>
+ *     <li>the millisecond-precise remainder is set on the {@link EntityManagerHolder}, which Spring passes to
+ *     repository queries as {@code jakarta.persistence.query.timeout} and checks before each query.</li>
+ * </ul>
+ * Without a deadline on the thread it behaves like the default transaction manager.
+ */
+public class DeadlineTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining == null) {
+            super.doBegin(transaction, definition);
+            return;
+        }
+        RequestDeadline.check();
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remaining.toMillis() + 999) / 1000);
+        int declared = determineTimeout(definition);
+        int timeout = declared == TransactionDefinition.TIMEOUT_DEFAULT
+                ? remainingSeconds
+                : Math.min(declared, remainingSeconds);
+        super.doBegin(transaction, new DelegatingTransactionDefinition(definition) {
+            @Override
+            public int getTimeout() {
+                return timeout;
+            }
+        });
+        if (TransactionSynchronizationManager.getResource(obtainEntityManagerFactory()) instanceof EntityManagerHolder holder
+                && holder.hasTimeout()) {
+            long remainingMillis = Math.max(1, RequestDeadline.remaining().toMillis());
+            if (remainingMillis < holder.getTimeToLiveInMillis()) {
+                holder.setTimeoutInMillis(remainingMillis);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.taskmanagement.config;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.taskmanagement.jfr.DateParseEvent;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -16,6 +17,7 @@ import java.time.format.DateTimeParseException;
  * Deserializes ISO-8601 date-time strings into {@link Instant}, accepting
  * formats that omit seconds or timezone (e.g. "2026-02-18T14:08").
  * Values without timezone are interpreted in the system default zone.
+ * Each parse is reported as a {@link DateParseEvent} when a JFR recording has it enabled.
  */
 public class FlexibleInstantDeserializer extends JsonDeserializer<Instant> {
 
@@ -25,15 +27,26 @@ public class FlexibleInstantDeserializer extends JsonDeserializer<Instant> {
 
     @Override
     public Instant deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        String value = p.getText();
+        return parse(p.getText());
+    }
+
+    /**
+     * Parses one value with the same rules as the JSON field (used for CSV imports).
+     *
+     * @return {@code null} for a blank value
+     * @throws IllegalArgumentException if no accepted format matches
+     */
+    public static Instant parse(String value) {
         if (value == null || value.isBlank()) {
             return null;
         }
         value = value.trim();
+        DateParseEvent event = new DateParseEvent();
+        event.begin();
 
         // Full ISO-8601 with zone/offset (e.g. 2026-02-18T14:08:00Z, 2026-02-18T14:08:00+05:30)
         try {
-            return Instant.parse(value);
+            return parsed(event, value, "ISO_INSTANT", Instant.parse(value));
         } catch (DateTimeParseException ignored) {
             // fall through to try other formats
         }
@@ -43,7 +56,7 @@ public class FlexibleInstantDeserializer extends JsonDeserializer<Instant> {
         // Date-time without seconds: 2026-02-18T14:08
         try {
             LocalDateTime ldt = LocalDateTime.parse(value, DATE_TIME_NO_SECONDS);
-            return ldt.atZone(zone).toInstant();
+            return parsed(event, value, "LOCAL_DATE_TIME_NO_SECONDS", ldt.atZone(zone).toInstant());
         } catch (DateTimeParseException ignored) {
             // fall through
         }
@@ -51,7 +64,7 @@ public class FlexibleInstantDeserializer extends JsonDeserializer<Instant> {
         // Date-time with seconds but no zone: 2026-02-18T14:08:00
         try {
             LocalDateTime ldt = LocalDateTime.parse(value);
-            return ldt.atZone(zone).toInstant();
+            return parsed(event, value, "LOCAL_DATE_TIME", ldt.atZone(zone).toInstant());
         } catch (DateTimeParseException ignored) {
             // fall through
         }
@@ -59,13 +72,25 @@ public class FlexibleInstantDeserializer extends JsonDeserializer<Instant> {
         // Date only: 2026-02-18 (start of day in system zone)
         try {
             LocalDate date = LocalDate.parse(value, DATE_ONLY);
-            return date.atStartOfDay(zone).toInstant();
+            return parsed(event, value, "LOCAL_DATE", date.atStartOfDay(zone).toInstant());
         } catch (DateTimeParseException ignored) {
             // fall through
         }
 
+        parsed(event, value, "UNPARSEABLE", null);
         throw new IllegalArgumentException(
                 "Cannot parse date-time '%s'. Use ISO-8601 format, e.g. 2026-02-18T14:08, 2026-02-18T14:08:00, or 2026-02-18T14:08:00Z".formatted(value)
         );
     }
+
+    private static Instant parsed(DateParseEvent event, String value, String format, Instant result) {
+        if (event.shouldCommit()) {
+            event.input = value.length() > DateParseEvent.MAX_INPUT_LENGTH
+                    ? value.substring(0, DateParseEvent.MAX_INPUT_LENGTH)
+                    : value;
+            event.format = format;
+            event.commit();
+        }
+        return result;
+    }
 }
@@ -0,0 +1,29 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.logging.LoggingDrops;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exports the log events dropped by the logging pipeline in {@code logback-spring.xml} as
+ * {@code logging.events.dropped{reason=sampled|queue-full}}.
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    @Bean
+    public MeterBinder loggingDropMetrics() {
+        return registry -> {
+            FunctionCounter.builder("logging.events.dropped", LoggingDrops.class, drops -> LoggingDrops.sampledCount())
+                    .description("Log events not written")
+                    .tag("reason", "sampled")
+                    .register(registry);
+            FunctionCounter.builder("logging.events.dropped", LoggingDrops.class, drops -> LoggingDrops.queueFullCount())
+                    .description("Log events not written")
+                    .tag("reason", "queue-full")
+                    .register(registry);
+        };
+    }
+}
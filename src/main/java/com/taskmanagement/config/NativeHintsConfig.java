@@ -0,0 +1,41 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.dto.response.TaskImportResult;
+import com.taskmanagement.dto.response.TaskImportSummary;
+import com.taskmanagement.exception.ApiError;
+import com.taskmanagement.logging.DropCountingAsyncAppender;
+import com.taskmanagement.logging.SamplingTurboFilter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Reflection hints for AOT / native builds that Spring cannot infer from controller signatures.
+ * Request/response DTOs (including their {@code @JsonDeserialize} deserializers) and JPA entities are
+ * registered by Spring's own AOT processing; third-party libraries are covered by the GraalVM
+ * reachability metadata added in the {@code native} profile.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Written by GlobalExceptionHandler through ResponseEntity<ApiError>
+            bindingRegistrar.registerReflectionHints(hints.reflection(), ApiError.class);
+            // Written line by line by TaskImportController, which has no typed return value
+            bindingRegistrar.registerReflectionHints(hints.reflection(), TaskImportResult.class, TaskImportSummary.class);
+            // Instantiated and configured by logback from logback-spring.xml
+            hints.reflection().registerTypes(TypeReference.listOf(SamplingTurboFilter.class, DropCountingAsyncAppender.class),
+                    type -> type.withMembers(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.taskmanagement.config;
 
+import com.taskmanagement.jfr.RateLimitDecisionEvent;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.Refill;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -34,7 +36,16 @@ public class RateLimitFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         String key = key(request);
         Bucket bucket = buckets.computeIfAbsent(key, k -> createBucket());
-        if (bucket.tryConsume(1)) {
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        event.begin();
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (event.shouldCommit()) {
+            event.client = key;
+            event.allowed = probe.isConsumed();
+            event.remainingTokens = probe.getRemainingTokens();
+            event.commit();
+        }
+        if (probe.isConsumed()) {
             filterChain.doFilter(request, response);
         } else {
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -0,0 +1,42 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.exception.DeadlineExceededException;
+
+import java.time.Duration;
+
+/**
+ * Deadline of the request running on the current thread, set by {@link DeadlineFilter}.
+ * {@link DeadlineTransactionManager} turns the remaining time into transaction and JDBC statement timeouts,
+ * and refuses to open a transaction (and take a connection) once it has passed. Threads without a deadline
+ * (schedulers, startup) are not limited.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /** Sets the deadline for this thread to {@code timeout} from now. */
+    public static void start(Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void stop() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /** @return time left until the deadline (zero or negative once passed), or {@code null} without a deadline */
+    public static Duration remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? null : Duration.ofNanos(deadline - System.nanoTime());
+    }
+
+    /** @throws DeadlineExceededException if this thread's deadline has passed */
+    public static void check() {
+        Duration remaining = remaining();
+        if (remaining != null && (remaining.isNegative() || remaining.isZero())) {
+            throw new DeadlineExceededException();
+        }
+    }
+}
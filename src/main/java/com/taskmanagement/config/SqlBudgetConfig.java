@@ -0,0 +1,35 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementRecorderCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementRecorder());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementRecorder.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-budget.max-statements:10}") int maxStatements,
+            @Value("${app.sql-budget.repeated-statement-threshold:5}") int repeatedStatementThreshold,
+            @Value("${app.sql-budget.debug-header:false}") boolean debugHeader) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new SqlBudgetFilter(meterRegistry, maxStatements, repeatedStatementThreshold, debugHeader));
+        registration.addUrlPatterns("/api/*");
+        // after the rate and concurrency limiters: rejected requests run no SQL
+        registration.setOrder(3);
+        return registration;
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the SQL each API request runs ({@link SqlStatementRecorder}) and checks it against a budget:
+ * more than {@code app.sql-budget.max-statements} statements, or one statement repeated
+ * {@code app.sql-budget.repeated-statement-threshold} times (the usual N+1 signature), is logged as a warning.
+ * <p>
+ * Metrics per route ({@code method}, {@code uri}): {@code tasks.http.sql.statements}, {@code tasks.http.sql.time}
+ * and {@code tasks.http.sql.budget.exceeded{reason=statements|repeated}}. With {@code app.sql-budget.debug-header}
+ * the counts are also returned as {@value #STATEMENTS_HEADER} and {@value #TIME_HEADER}
+ * (see {@link SqlStatementHeaderAdvice}). The finished recording stays available as the request attribute
+ * {@link #RECORDING_ATTRIBUTE}.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String RECORDING_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".recording";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int repeatedStatementThreshold;
+    private final boolean debugHeader;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry, int maxStatements, int repeatedStatementThreshold,
+                           boolean debugHeader) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.debugHeader = debugHeader;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return BulkImportRequests.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementRecorder.stop();
+            request.setAttribute(RECORDING_ATTRIBUTE, recording);
+            // responses without a body (204, errors written by the container) were not seen by the advice
+            if (debugHeader && !response.isCommitted()) {
+                response.setHeader(STATEMENTS_HEADER, String.valueOf(recording.statements()));
+                response.setHeader(TIME_HEADER, timeMillis(recording));
+            }
+            record(request, recording);
+        }
+    }
+
+    static String timeMillis(SqlStatementRecorder.Recording recording) {
+        return String.format(Locale.ROOT, "%.3f", recording.jdbcTime().toNanos() / 1e6);
+    }
+
+    private void record(HttpServletRequest request, SqlStatementRecorder.Recording recording) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("tasks.http.sql.statements")
+                .description("SQL statements per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(recording.statements());
+        Timer.builder("tasks.http.sql.time")
+                .description("JDBC execution time per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(recording.jdbcTime());
+
+        if (recording.statements() > maxStatements) {
+            exceeded(method, uri, "statements");
+            log.warn("SQL budget exceeded: {} {} ran {} statements ({} ms), budget {}",
+                    method, request.getRequestURI(), recording.statements(), timeMillis(recording), maxStatements);
+        }
+        for (Map.Entry<String, Integer> statement : recording.statementCounts().entrySet()) {
+            if (statement.getValue() >= repeatedStatementThreshold) {
+                exceeded(method, uri, "repeated");
+                log.warn("Possible N+1: {} {} ran the same statement {} times: {}",
+                        method, request.getRequestURI(), statement.getValue(), statement.getKey());
+            }
+        }
+    }
+
+    private void exceeded(String method, String uri, String reason) {
+        Counter.builder("tasks.http.sql.budget.exceeded")
+                .description("Requests over the SQL statement budget")
+                .tags("method", method, "uri", uri, "reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
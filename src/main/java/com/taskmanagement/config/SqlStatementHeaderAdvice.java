@@ -0,0 +1,46 @@
+package com.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the {@link SqlBudgetFilter} debug headers to response bodies just before they are written; by the time
+ * the filter regains control the response is usually committed.
+ */
+@ControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean enabled;
+
+    public SqlStatementHeaderAdvice(@Value("${app.sql-budget.debug-header:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.current();
+        if (recording != null) {
+            response.getHeaders().set(SqlBudgetFilter.STATEMENTS_HEADER, String.valueOf(recording.statements()));
+            response.getHeaders().set(SqlBudgetFilter.TIME_HEADER, SqlBudgetFilter.timeMillis(recording));
+        }
+        return body;
+    }
+}
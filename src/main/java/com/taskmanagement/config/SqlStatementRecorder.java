@@ -0,0 +1,107 @@
+package com.taskmanagement.config;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the time spent executing them on the current thread,
+ * between {@link #start()} and {@link #stop()} (one HTTP request, see {@link SqlBudgetFilter}).
+ * <p>
+ * Registered twice with Hibernate: the shared instance as {@code hibernate.session_factory.statement_inspector}
+ * (sees every statement's SQL) and the class as {@code hibernate.session.events.auto} (Hibernate creates one per
+ * session and reports JDBC execution start/end). Both write to the same thread-local {@link Recording}, so
+ * statements on threads without one (schedulers, startup) are ignored. SQL sent through {@code JdbcTemplate}
+ * bypasses Hibernate and is not counted.
+ */
+public class SqlStatementRecorder implements StatementInspector, SessionEventListener {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    /** Starts recording on this thread, replacing any recording already running. */
+    public static Recording start() {
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /** @return the recording running on this thread, or {@code null} */
+    public static Recording current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.statements++;
+            recording.bySql.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executionEnded();
+    }
+
+    private static void executionStarted() {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.executionStartedAt = System.nanoTime();
+        }
+    }
+
+    private static void executionEnded() {
+        Recording recording = CURRENT.get();
+        if (recording != null && recording.executionStartedAt != 0) {
+            recording.jdbcNanos += System.nanoTime() - recording.executionStartedAt;
+            recording.executionStartedAt = 0;
+        }
+    }
+
+    /** Statements and JDBC time of one request; confined to the request's thread. */
+    public static final class Recording {
+
+        private final Map<String, Integer> bySql = new LinkedHashMap<>();
+        private int statements;
+        private long jdbcNanos;
+        private long executionStartedAt;
+
+        public int statements() {
+            return statements;
+        }
+
+        public Duration jdbcTime() {
+            return Duration.ofNanos(jdbcNanos);
+        }
+
+        /** How often each distinct SQL string ran, in first-seen order. */
+        public Map<String, Integer> statementCounts() {
+            return Collections.unmodifiableMap(bySql);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.jfr.FlightRecordings;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * On-demand JFR recordings for diagnosing latency in a running instance. Off unless {@code app.profiling.enabled}
+ * is set: there is no authentication and a recording shows class, thread and client names, so
+ * expose it only on an internal network.
+ */
+@RestController
+@RequestMapping("/api/admin/profiling")
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+@Tag(name = "Profiling", description = "On-demand JDK Flight Recorder recordings")
+public class ProfilingController {
+
+    /** Extra time for stopping and dumping the recording before the request times out. */
+    private static final Duration DUMP_MARGIN = Duration.ofSeconds(30);
+
+    private final FlightRecordings flightRecordings;
+
+    public ProfilingController(FlightRecordings flightRecordings) {
+        this.flightRecordings = flightRecordings;
+    }
+
+    @Operation(summary = "Record for a bounded duration and download the .jfr file")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "JFR recording (open with JDK Mission Control or `jfr print`)"),
+            @ApiResponse(responseCode = "400", description = "Duration or settings out of bounds", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "409", description = "Another recording is running", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PostMapping("/recordings")
+    public DeferredResult<ResponseEntity<byte[]>> record(
+            @Parameter(description = "Recording length (ISO-8601), at most app.profiling.max-duration") @RequestParam(defaultValue = "PT30S") Duration duration,
+            @Parameter(description = "JFR settings: default or profile") @RequestParam(defaultValue = "default") String settings) {
+        DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>(duration.plus(DUMP_MARGIN).toMillis());
+        String filename = "task-management-" + Instant.now().truncatedTo(ChronoUnit.SECONDS).toString().replace(':', '-') + ".jfr";
+        flightRecordings.record(duration, settings).whenComplete((bytes, failure) -> {
+            if (failure != null) {
+                result.setErrorResult(failure);
+            } else {
+                result.setResult(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                ContentDisposition.attachment().filename(filename).build().toString())
+                        .body(bytes));
+            }
+        });
+        return result;
+    }
+}
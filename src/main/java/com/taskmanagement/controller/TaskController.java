@@ -1,9 +1,17 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskParentRequest;
 import com.taskmanagement.dto.request.TaskUpdateRequest;
 import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskNodeResponse;
+import com.taskmanagement.dto.response.TaskProgressResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.next.NextTaskQueues;
+import com.taskmanagement.service.TaskHierarchyService;
 import com.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +23,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -32,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -41,9 +51,17 @@ public class TaskController {
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
 
     private final TaskService taskService;
+    /** Absent with the log-structured store, which keeps no hierarchy. */
+    private final ObjectProvider<TaskHierarchyService> hierarchyService;
+    /** Absent with the log-structured store, like the hierarchy. */
+    private final ObjectProvider<NextTaskQueues> nextTaskQueues;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          ObjectProvider<TaskHierarchyService> hierarchyService,
+                          ObjectProvider<NextTaskQueues> nextTaskQueues) {
         this.taskService = taskService;
+        this.hierarchyService = hierarchyService;
+        this.nextTaskQueues = nextTaskQueues;
     }
 
     @Operation(summary = "List tasks with filtering, pagination and sorting")
@@ -55,15 +73,51 @@ public class TaskController {
     public ResponseEntity<PagedTaskResponse> getAllTasks(
             @Parameter(description = "Filter by completion status") @RequestParam(required = false) Boolean completed,
             @Parameter(description = "Filter by assignee (case-insensitive)") @RequestParam(required = false) String assignedTo,
+            @Parameter(description = "Label filter with AND, OR, NOT and parentheses, e.g. backend AND (urgent OR NOT later)")
+            @RequestParam(required = false) String labels,
+            @Parameter(description = "Also list archived (old completed) tasks") @RequestParam(defaultValue = "false") boolean includeArchived,
             @PageableDefault(size = 20) @SortDefault.SortDefaults({
                     @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC),
                     @SortDefault(sort = "id", direction = Sort.Direction.ASC)
             }) Pageable pageable) {
-        log.debug("GET /api/tasks, completed={}, assignedTo={}, page={}", completed, assignedTo, pageable.getPageNumber());
-        PagedTaskResponse paged = taskService.findAll(completed, assignedTo, pageable);
+        log.debug("GET /api/tasks, completed={}, assignedTo={}, labels={}, includeArchived={}, page={}",
+                completed, assignedTo, labels, includeArchived, pageable.getPageNumber());
+        PagedTaskResponse paged = taskService.findAll(completed, assignedTo, LabelExpression.parse(labels),
+                includeArchived, pageable);
         return ResponseEntity.ok(paged);
     }
 
+    @Operation(summary = "Get many tasks by ID in one call")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Found tasks in request order, plus IDs that do not exist"),
+            @ApiResponse(responseCode = "400", description = "Too many IDs", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<TaskLookupResponse> getTasksByIds(
+            @Parameter(description = "Comma-separated task IDs, e.g. ids=3,1,7") @RequestParam List<Integer> ids) {
+        log.debug("GET /api/tasks?ids, count={}", ids.size());
+        TaskLookupResponse lookup = taskService.findAllByIds(ids);
+        return ResponseEntity.ok(lookup);
+    }
+
+    @Operation(summary = "Get an assignee's next open tasks",
+            description = "Earliest due date first, undated tasks last. Ordered in memory; only the returned rows are read, by ID.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Up to limit open tasks; empty if the assignee has none"),
+            @ApiResponse(responseCode = "400", description = "Missing assignee or limit out of range", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/next")
+    public ResponseEntity<List<TaskResponse>> getNextTasks(
+            @Parameter(description = "Assignee (case-insensitive)") @RequestParam(required = false) String assignedTo,
+            @Parameter(description = "Number of tasks, 1 to 100") @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/tasks/next, assignedTo={}, limit={}", assignedTo, limit);
+        NextTaskQueues queues = nextTaskQueues.getIfAvailable();
+        if (queues == null) {
+            throw new InvalidTaskRequestException("Next-task queues are not supported by the configured task store.");
+        }
+        return ResponseEntity.ok(queues.next(assignedTo, limit));
+    }
+
     @Operation(summary = "Get a task by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task found"),
@@ -121,4 +175,89 @@ public class TaskController {
         taskService.deleteById(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "List all subtasks of a task, at any depth",
+            description = "Nearest levels first; each entry carries its depth below the task and its parent's ID.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Subtree, excluding the task itself"),
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/{id}/subtasks")
+    public ResponseEntity<List<TaskNodeResponse>> getSubtasks(
+            @Parameter(description = "Task ID") @PathVariable Integer id) {
+        log.debug("GET /api/tasks/{}/subtasks", id);
+        List<TaskNodeResponse> subtree = hierarchy().findSubtree(id);
+        return ResponseEntity.ok(subtree);
+    }
+
+    @Operation(summary = "Create a subtask")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Subtask created"),
+            @ApiResponse(responseCode = "400", description = "Validation error or hierarchy too deep", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "Parent task not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PostMapping("/{id}/subtasks")
+    public ResponseEntity<TaskResponse> createSubtask(
+            @Parameter(description = "Parent task ID") @PathVariable Integer id,
+            @Valid @RequestBody TaskCreateRequest request) {
+        log.debug("POST /api/tasks/{}/subtasks", id);
+        TaskResponse created = hierarchy().createSubtask(id, request);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/api/tasks/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+        return ResponseEntity.created(location).body(created);
+    }
+
+    @Operation(summary = "List the tasks above a task, root first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ancestors; empty for a top-level task"),
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/{id}/ancestors")
+    public ResponseEntity<List<TaskResponse>> getAncestors(
+            @Parameter(description = "Task ID") @PathVariable Integer id) {
+        log.debug("GET /api/tasks/{}/ancestors", id);
+        List<TaskResponse> ancestors = hierarchy().findAncestors(id);
+        return ResponseEntity.ok(ancestors);
+    }
+
+    @Operation(summary = "Get the completion of a task's subtasks",
+            description = "Counts all subtasks at any depth, archived ones included.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Roll-up completion"),
+            @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<TaskProgressResponse> getProgress(
+            @Parameter(description = "Task ID") @PathVariable Integer id) {
+        log.debug("GET /api/tasks/{}/progress", id);
+        TaskProgressResponse progress = hierarchy().findProgress(id);
+        return ResponseEntity.ok(progress);
+    }
+
+    @Operation(summary = "Move a task, with its subtasks, below another task",
+            description = "A null parentId makes the task top-level.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Task moved"),
+            @ApiResponse(responseCode = "400", description = "Move would create a cycle or a too deep hierarchy", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "Task or parent not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<Void> moveTask(
+            @Parameter(description = "Task ID") @PathVariable Integer id,
+            @RequestBody TaskParentRequest request) {
+        log.debug("PUT /api/tasks/{}/parent, parentId={}", id, request.getParentId());
+        hierarchy().move(id, request.getParentId());
+        return ResponseEntity.noContent().build();
+    }
+
+    private TaskHierarchyService hierarchy() {
+        TaskHierarchyService service = hierarchyService.getIfAvailable();
+        if (service == null) {
+            throw new InvalidTaskRequestException("Subtasks are not supported by the configured task store.");
+        }
+        return service;
+    }
 }
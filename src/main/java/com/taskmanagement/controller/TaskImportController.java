@@ -0,0 +1,92 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanagement.dto.response.TaskImportResult;
+import com.taskmanagement.dto.response.TaskImportSummary;
+import com.taskmanagement.service.TaskImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bulk import. The upload is read while it arrives and the report is written as each chunk commits, so neither
+ * is ever held in full. The response is NDJSON: one {@link TaskImportResult} per record, then the
+ * {@link TaskImportSummary}. Once the first chunk is reported the status is 200; later failures (e.g. the client
+ * going away) end the stream without a summary.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@Tag(name = "Tasks", description = "Task management API")
+public class TaskImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportController.class);
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final TaskImportService taskImportService;
+    private final ObjectWriter jsonWriter;
+
+    public TaskImportController(TaskImportService taskImportService, ObjectMapper objectMapper) {
+        this.taskImportService = taskImportService;
+        this.jsonWriter = objectMapper.writer();
+    }
+
+    @Operation(summary = "Import tasks from an NDJSON or CSV upload",
+            description = "NDJSON: one task object per line, fields as in POST /api/tasks. CSV: a header line "
+                    + "(title required; description, isCompleted, dueDate, assignedTo optional), then one task per "
+                    + "record. Tasks are committed in chunks of app.import.chunk-size.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "NDJSON report: one result per record, then a summary"),
+            @ApiResponse(responseCode = "400", description = "Invalid CSV header", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "409", description = "Too many imports running", content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public void importTasks(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        TaskImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? TaskImportService.Format.NDJSON
+                : TaskImportService.Format.CSV;
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        log.debug("POST /api/tasks/import, format={}", format);
+        Reader upload = new BufferedReader(new InputStreamReader(request.getInputStream(), charset));
+        // set only once the report starts: a rejected header is still answered with a JSON ApiError
+        TaskImportSummary summary = taskImportService.importTasks(upload, format, results -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            OutputStream out = response.getOutputStream();
+            for (TaskImportResult result : results) {
+                writeLine(out, result);
+            }
+            out.flush();
+        });
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        writeLine(response.getOutputStream(), summary);
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(jsonWriter.writeValueAsBytes(value));
+        out.write('\n');
+    }
+}
@@ -2,13 +2,16 @@ package com.taskmanagement.dto.request;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.taskmanagement.config.FlexibleInstantDeserializer;
+import com.taskmanagement.label.TaskLabels;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.util.List;
 
 @Getter
 @Setter
@@ -30,6 +33,11 @@ public class TaskCreateRequest {
     @Size(max = 100, message = "Assigned-to identifier must not exceed 100 characters")
     private String assignedTo;
 
+    /** Case-insensitive; stored in lower case. */
+    @Size(max = TaskLabels.MAX_LABELS, message = "A task can have at most 10 labels")
+    private List<@Pattern(regexp = TaskLabels.PATTERN,
+            message = "Labels are 1-30 letters, digits, '_', '.', ':' or '-', and cannot be AND, OR or NOT") String> labels;
+
     public void setIsCompleted(Boolean isCompleted) {
         this.isCompleted = isCompleted != null ? isCompleted : false;
     }
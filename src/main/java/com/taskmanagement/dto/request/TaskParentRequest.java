@@ -0,0 +1,14 @@
+package com.taskmanagement.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskParentRequest {
+
+    /** New parent; {@code null} makes the task a root. */
+    private Integer parentId;
+}
@@ -2,12 +2,15 @@ package com.taskmanagement.dto.request;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.taskmanagement.config.FlexibleInstantDeserializer;
+import com.taskmanagement.label.TaskLabels;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.util.List;
 
 @Getter
 @Setter
@@ -27,4 +30,9 @@ public class TaskUpdateRequest {
 
     @Size(max = 100, message = "Assigned-to identifier must not exceed 100 characters")
     private String assignedTo;
+
+    /** Replaces all labels; {@code null} keeps them, an empty list removes them. Case-insensitive. */
+    @Size(max = TaskLabels.MAX_LABELS, message = "A task can have at most 10 labels")
+    private List<@Pattern(regexp = TaskLabels.PATTERN,
+            message = "Labels are 1-30 letters, digits, '_', '.', ':' or '-', and cannot be AND, OR or NOT") String> labels;
 }
@@ -1,23 +1,37 @@
 package com.taskmanagement.dto.response;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * Immutable, with an unmodifiable {@code content} list: one instance is handed to every caller that hits the page
+ * cache or shares an in-flight load, so no caller can change what the others see.
+ */
 @Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
 public class PagedTaskResponse {
 
-    private List<TaskResponse> content;
-    private int page;
-    private int size;
-    private long totalElements;
-    private int totalPages;
-    private boolean first;
-    private boolean last;
+    private final List<TaskResponse> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean first;
+    private final boolean last;
+    /** {@code false} when {@code totalElements}/{@code totalPages} come from a cached or estimated count. */
+    private final boolean totalExact;
+
+    public PagedTaskResponse(List<TaskResponse> content, int page, int size, long totalElements, int totalPages,
+                             boolean first, boolean last, boolean totalExact) {
+        this.content = Collections.unmodifiableList(new ArrayList<>(content));
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.first = first;
+        this.last = last;
+        this.totalExact = totalExact;
+    }
 }
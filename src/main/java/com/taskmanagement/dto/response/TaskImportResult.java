@@ -0,0 +1,36 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/** Outcome of one record of a bulk import; one line of the streamed import report. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskImportResult {
+
+    public enum Status { CREATED, REJECTED }
+
+    /** Line of the upload the record starts on (1-based). */
+    private long line;
+    private Status status;
+    /** ID of the created task; {@code null} when rejected. */
+    private Integer id;
+    /** Why the record was rejected; {@code null} when created. */
+    private List<String> errors;
+
+    public static TaskImportResult created(long line, Integer id) {
+        return new TaskImportResult(line, Status.CREATED, id, null);
+    }
+
+    public static TaskImportResult rejected(long line, List<String> errors) {
+        return new TaskImportResult(line, Status.REJECTED, null, errors);
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Last line of the streamed import report. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportSummary {
+
+    /** Non-blank records read (CSV header excluded). */
+    private long records;
+    private long created;
+    private long rejected;
+    /** Chunks committed. */
+    private int chunks;
+    /** Chunks whose transaction failed; their records are reported as rejected. */
+    private int failedChunks;
+}
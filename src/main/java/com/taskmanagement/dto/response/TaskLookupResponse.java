@@ -0,0 +1,20 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLookupResponse {
+
+    /** Found tasks, in the order their IDs were requested (duplicates removed). */
+    private List<TaskResponse> tasks;
+    /** Requested IDs that exist in neither the hot table nor the archive. */
+    private List<Integer> missingIds;
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** One task of a subtree, with what is needed to rebuild the tree on the client. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskNodeResponse {
+
+    private Integer parentId;
+    /** Levels below the subtree's root (1 = child). */
+    private int depth;
+    private TaskResponse task;
+}
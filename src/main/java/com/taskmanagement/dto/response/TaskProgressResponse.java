@@ -0,0 +1,20 @@
+package com.taskmanagement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Completion rolled up over all subtasks of a task, at any depth, archived ones included. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskProgressResponse {
+
+    private Integer taskId;
+    private long subtasks;
+    private long completedSubtasks;
+    /** Share of completed subtasks; without subtasks, 100 or 0 by the task's own status. */
+    private double percentComplete;
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.util.List;
 
 @Getter
 @Setter
@@ -24,4 +25,5 @@ public class TaskResponse {
     private String updatedBy;
     private String assignedTo;
     private Instant assignedAt;
+    private List<String> labels;
 }
@@ -0,0 +1,31 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Cold copy of a completed {@link Task}, moved to {@code tasks_archive} by the archiver.
+ * Keeps the original ID so lookups by ID keep working after archiving.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedTask extends TaskColumns {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
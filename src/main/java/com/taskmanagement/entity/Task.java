@@ -1,14 +1,13 @@
 package com.taskmanagement.entity;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,69 +15,49 @@ import lombok.Setter;
 import java.time.Instant;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_completed_at", columnList = "is_completed, completed_at"),
+        @Index(name = "idx_tasks_due_date", columnList = "is_completed, due_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
-public class Task {
+public class Task extends TaskColumns {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(nullable = false, length = 100)
-    private String title;
-
-    @Column(length = 2000)
-    private String description;
-
-    @Column(nullable = false)
-    private Boolean isCompleted = false;
-
-    @Column(name = "due_date")
-    private Instant dueDate;
-
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private Instant createdAt;
-
-    @Column(name = "updated_at")
-    private Instant updatedAt;
-
-    @Column(name = "created_by", length = 100)
-    private String createdBy;
-
-    @Column(name = "updated_by", length = 100)
-    private String updatedBy;
-
-    @Column(name = "assigned_to", length = 100)
-    private String assignedTo;
-
-    @Column(name = "assigned_at")
-    private Instant assignedAt;
-
     public Task(String title, String description, Boolean isCompleted, Instant dueDate) {
-        this.title = title;
-        this.description = description;
-        this.isCompleted = isCompleted != null ? isCompleted : false;
-        this.dueDate = dueDate;
-    }
-
-    public void setIsCompleted(Boolean isCompleted) {
-        this.isCompleted = isCompleted != null ? isCompleted : false;
+        setTitle(title);
+        setDescription(description);
+        setIsCompleted(isCompleted);
+        setDueDate(dueDate);
     }
 
+    /** JPA callback; also called by {@code LogStructuredTaskService}, which stores tasks without JPA. */
     @PrePersist
-    void onCreate() {
+    public void onCreate() {
         Instant now = Instant.now();
-        if (this.createdAt == null) {
-            this.createdAt = now;
+        if (getCreatedAt() == null) {
+            setCreatedAt(now);
         }
-        this.updatedAt = now;
+        setUpdatedAt(now);
+        trackCompletion(now);
     }
 
     @PreUpdate
-    void onUpdate() {
-        this.updatedAt = Instant.now();
+    public void onUpdate() {
+        Instant now = Instant.now();
+        setUpdatedAt(now);
+        trackCompletion(now);
+    }
+
+    private void trackCompletion(Instant now) {
+        if (!Boolean.TRUE.equals(getIsCompleted())) {
+            setCompletedAt(null);
+        } else if (getCompletedAt() == null) {
+            setCompletedAt(now);
+        }
     }
 }
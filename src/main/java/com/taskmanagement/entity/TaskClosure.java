@@ -0,0 +1,50 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Row of the {@code task_closure} table: {@code descendantId} is {@code depth} levels below {@code ancestorId}
+ * (1 = child). Every ancestor/descendant pair of the task hierarchy has a row, so a subtree or an ancestor chain
+ * is one indexed range scan. Tasks without parent or subtasks have no rows. Rows are maintained with set-based SQL
+ * by {@link com.taskmanagement.repository.TaskClosureRepository}; they are kept when a task is archived.
+ */
+@Entity
+@IdClass(TaskClosure.Key.class)
+@Table(name = "task_closure", indexes = @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Integer ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Integer descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private Integer ancestorId;
+        private Integer descendantId;
+    }
+}
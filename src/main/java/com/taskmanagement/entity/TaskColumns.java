@@ -0,0 +1,65 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Columns shared by {@link Task}, its archived copy ({@link ArchivedTask}) and the union over both
+ * ({@link TaskView}), so the three stay in step and map to a response in one place. Each keeps its own ID
+ * mapping: only hot tasks generate theirs.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class TaskColumns {
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Column(nullable = false)
+    private Boolean isCompleted = false;
+
+    @Column(name = "due_date")
+    private Instant dueDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "created_by", length = 100)
+    private String createdBy;
+
+    @Column(name = "updated_by", length = 100)
+    private String updatedBy;
+
+    @Column(name = "assigned_to", length = 100)
+    private String assignedTo;
+
+    @Column(name = "assigned_at")
+    private Instant assignedAt;
+
+    /** Set when the task becomes completed; drives archiving of old completed tasks. */
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /** Normalized labels, comma-separated in sorted order (see {@code TaskLabels}); {@code null} when none. */
+    @Column(length = 400)
+    private String labels;
+
+    public abstract Integer getId();
+
+    public void setIsCompleted(Boolean isCompleted) {
+        this.isCompleted = isCompleted != null ? isCompleted : false;
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Row of the {@code task_invalidations} outbox: one cache invalidation, written in the transaction of the
+ * write that caused it and read by the other nodes in {@code seq} order. Mapped so the schema is managed with
+ * the other tables; rows are written and read with plain JDBC by
+ * {@link com.taskmanagement.invalidation.OutboxInvalidationChannel}.
+ */
+@Entity
+@Immutable
+@Table(name = "task_invalidations", indexes = @Index(name = "idx_task_invalidations_created_at", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskInvalidationRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    /** {@code null}: invalidate everything (e.g. after archiving). */
+    @Column(name = "task_id")
+    private Integer taskId;
+
+    @Column(name = "assignee", length = 100)
+    private String assignee;
+
+    @Column(name = "previous_assignee", length = 100)
+    private String previousAssignee;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
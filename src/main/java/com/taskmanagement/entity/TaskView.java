@@ -0,0 +1,35 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * Read-only union of hot ({@code tasks}) and archived ({@code tasks_archive}) rows.
+ * Only used for list queries that explicitly ask for archived tasks.
+ */
+@Entity
+@Immutable
+@Subselect("""
+        select id, title, description, is_completed, due_date, created_at, updated_at,
+               created_by, updated_by, assigned_to, assigned_at, completed_at, labels, false as archived
+        from tasks
+        union all
+        select id, title, description, is_completed, due_date, created_at, updated_at,
+               created_by, updated_by, assigned_to, assigned_at, completed_at, labels, true as archived
+        from tasks_archive
+        """)
+@Synchronize({"tasks", "tasks_archive"})
+@Getter
+@NoArgsConstructor
+public class TaskView extends TaskColumns {
+
+    @Id
+    private Integer id;
+
+    private Boolean archived;
+}
@@ -0,0 +1,45 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.repository.TaskFilterQueries;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Published by the task service for every create, update and delete. Listeners that keep derived
+ * state (caches, counters, in-memory indexes) react after the surrounding transaction commits.
+ *
+ * @param before state before the change; {@code null} for {@link Type#CREATED}
+ * @param after  state after the change; {@code null} for {@link Type#DELETED}
+ */
+public record TaskChangedEvent(Type type, Integer taskId, TaskResponse before, TaskResponse after) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TaskChangedEvent created(TaskResponse after) {
+        return new TaskChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskResponse before, TaskResponse after) {
+        return new TaskChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskResponse before) {
+        return new TaskChangedEvent(Type.DELETED, before.getId(), before, null);
+    }
+
+    /** Assignees of the before and after states, normalized as by the {@code assignedTo} list filter. */
+    public Set<String> affectedAssignees() {
+        Set<String> assignees = new LinkedHashSet<>(2);
+        for (TaskResponse state : new TaskResponse[]{before, after}) {
+            String assignee = state != null ? TaskFilterQueries.normalizeAssignee(state.getAssignedTo()) : null;
+            if (assignee != null) {
+                assignees.add(assignee);
+            }
+        }
+        return assignees;
+    }
+}
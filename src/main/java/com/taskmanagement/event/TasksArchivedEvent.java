@@ -0,0 +1,9 @@
+package com.taskmanagement.event;
+
+import java.util.List;
+
+/**
+ * Published by the archiver after a batch of completed tasks moved from {@code tasks} to {@code tasks_archive}.
+ */
+public record TasksArchivedEvent(List<Integer> taskIds) {
+}
@@ -18,6 +18,8 @@ public class ApiError {
     public static final String CODE_NOT_FOUND = "TASK_NOT_FOUND";
     public static final String CODE_BAD_REQUEST = "INVALID_REQUEST";
     public static final String CODE_VALIDATION = "VALIDATION_FAILED";
+    public static final String CODE_CONFLICT = "CONFLICT";
+    public static final String CODE_DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
     public static final String CODE_INTERNAL = "INTERNAL_ERROR";
 
     private Instant timestamp = Instant.now();
@@ -0,0 +1,8 @@
+package com.taskmanagement.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException() {
+        super("The request deadline passed before the work could finish.");
+    }
+}
@@ -3,14 +3,18 @@ package com.taskmanagement.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -21,11 +25,25 @@ public class GlobalExceptionHandler {
     private static final String USER_MESSAGE_NOT_FOUND = "We couldn't find a task with the given ID. Please check the ID and try again.";
     private static final String USER_MESSAGE_VALIDATION = "Some fields in your request are invalid. Please correct them and try again.";
     private static final String USER_MESSAGE_BAD_JSON = "Request body is invalid or contains an invalid value (e.g. date-time). Use ISO-8601 for dates, e.g. 2026-02-18T14:08 or 2026-02-18T14:08:00Z.";
+    private static final String USER_MESSAGE_DEADLINE = "The request took longer than its deadline and was cancelled. Please try again later.";
     private static final String USER_MESSAGE_INTERNAL = "Something went wrong on our side. Please try again in a few moments.";
 
+    /** Not-found warnings are logged at most once per interval; the ones in between are only counted. */
+    private static final long NOT_FOUND_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong nextNotFoundLog = new AtomicLong(System.nanoTime());
+    private final AtomicLong suppressedNotFound = new AtomicLong();
+
     @ExceptionHandler(TaskNotFoundException.class)
     public ResponseEntity<ApiError> handleTaskNotFound(TaskNotFoundException ex, HttpServletRequest request) {
-        log.warn("Task not found: taskId={}, path={}", ex.getTaskId(), request.getRequestURI());
+        long now = System.nanoTime();
+        long next = nextNotFoundLog.get();
+        if (now - next >= 0 && nextNotFoundLog.compareAndSet(next, now + NOT_FOUND_LOG_INTERVAL_NANOS)) {
+            log.warn("Task not found: taskId={}, path={}, suppressedSinceLastWarning={}",
+                    ex.getTaskId(), request.getRequestURI(), suppressedNotFound.getAndSet(0));
+        } else {
+            suppressedNotFound.incrementAndGet();
+        }
         ApiError error = ApiError.of(
                 HttpStatus.NOT_FOUND.value(),
                 ApiError.CODE_NOT_FOUND,
@@ -49,6 +67,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler({RecordingInProgressException.class, TooManyImportsException.class})
+    public ResponseEntity<ApiError> handleConflict(RuntimeException ex, HttpServletRequest request) {
+        log.warn("Request conflicts with running work: path={}, message={}", request.getRequestURI(), ex.getMessage());
+        ApiError error = ApiError.of(
+                HttpStatus.CONFLICT.value(),
+                ApiError.CODE_CONFLICT,
+                "Conflict",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler({DeadlineExceededException.class, TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<ApiError> handleDeadlineExceeded(RuntimeException ex, HttpServletRequest request) {
+        log.warn("Deadline exceeded: path={}, cause={}", request.getRequestURI(), ex.getClass().getSimpleName());
+        ApiError error = ApiError.of(
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                ApiError.CODE_DEADLINE_EXCEEDED,
+                "Gateway Timeout",
+                USER_MESSAGE_DEADLINE,
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiError> handleMessageNotReadable(HttpMessageNotReadableException ex, HttpServletRequest request) {
         log.warn("Invalid request body: path={}, message={}", request.getRequestURI(), ex.getMessage());
@@ -0,0 +1,8 @@
+package com.taskmanagement.exception;
+
+public class RecordingInProgressException extends RuntimeException {
+
+    public RecordingInProgressException() {
+        super("A profiling recording is already running. Wait for it to finish and try again.");
+    }
+}
@@ -2,13 +2,17 @@ package com.taskmanagement.exception;
 
 import lombok.Getter;
 
+/**
+ * Stackless: a miss is an expected outcome (stale links, scanners), and the trace would only point at the
+ * service call that looked the task up.
+ */
 @Getter
 public class TaskNotFoundException extends RuntimeException {
 
     private final Integer taskId;
 
     public TaskNotFoundException(Integer taskId) {
-        super("We couldn't find a task with the given ID. Please check the ID and try again.");
+        super("We couldn't find a task with the given ID. Please check the ID and try again.", null, false, false);
         this.taskId = taskId;
     }
 }
@@ -0,0 +1,8 @@
+package com.taskmanagement.exception;
+
+public class TooManyImportsException extends RuntimeException {
+
+    public TooManyImportsException(int maxConcurrent) {
+        super("At most " + maxConcurrent + " imports can run at once. Wait for one to finish and try again.");
+    }
+}
@@ -0,0 +1,132 @@
+package com.taskmanagement.index;
+
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-memory state derived from the database (an index, a set of queues), loaded by a loader and kept in sync by
+ * applying changes after they commit. A rebuild loads fresh state while the current one keeps serving, records the
+ * changes that commit meanwhile, and replays them onto the fresh state before swapping it in, so none is lost.
+ * <p>
+ * The state itself need not be thread-safe: reads run under a read lock, changes and the swap under a write lock.
+ */
+public final class ReplayingSnapshot<S> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayingSnapshot.class);
+
+    private final String name;
+    private final Supplier<S> loader;
+    private final Function<S, String> summary;
+    private final Timer buildTime;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuilding = new Object();
+    /** {@code null} until first built. */
+    private S state;
+    /** Changes to replay onto the state being built; {@code null} when no build is running. */
+    private List<Consumer<S>> pending;
+
+    /**
+     * @param loader  builds fresh state from the committed data; may run for a long time
+     * @param summary describes built state for the log line
+     */
+    public ReplayingSnapshot(String name, Supplier<S> loader, Function<S, String> summary, Timer buildTime) {
+        this.name = name;
+        this.loader = loader;
+        this.summary = summary;
+        this.buildTime = buildTime;
+    }
+
+    /** Applies {@code reader} to the current state, building it first if it was never built. */
+    public <R> R read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            if (state != null) {
+                return reader.apply(state);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        rebuild();
+        return read(reader);
+    }
+
+    /** Applies a committed change to the current state, and to the state being built if a rebuild is running. */
+    public void apply(Consumer<S> change) {
+        lock.writeLock().lock();
+        try {
+            // before the first build there is nothing to update: the build reads the committed state
+            if (state != null) {
+                change.accept(state);
+            }
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** {@code metric} of the current state, or 0 before the first build; for gauges, which must not trigger one. */
+    public double measure(ToDoubleFunction<S> metric) {
+        lock.readLock().lock();
+        try {
+            return state != null ? metric.applyAsDouble(state) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Rebuilds unless the state was never built (the first build reads the committed state anyway). */
+    public void rebuildIfStarted() {
+        boolean started;
+        lock.readLock().lock();
+        try {
+            started = state != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (started) {
+            rebuild();
+        }
+    }
+
+    /** Loads fresh state, then swaps it in with the changes that committed meanwhile. One rebuild runs at a time. */
+    public void rebuild() {
+        synchronized (rebuilding) {
+            List<Consumer<S>> changes = new ArrayList<>();
+            lock.writeLock().lock();
+            try {
+                pending = changes;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            S fresh = null;
+            try {
+                fresh = buildTime.record(loader);
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (fresh != null) {
+                        for (Consumer<S> change : changes) {
+                            change.accept(fresh);
+                        }
+                        state = fresh;
+                        log.info("{} built: {}, replayed={}", name, summary.apply(fresh), changes.size());
+                    }
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.invalidation;
+
+import java.util.List;
+
+/**
+ * Carries cache invalidations between the nodes sharing one database. Implementations deliver what other nodes
+ * publish to {@link TaskCacheInvalidator}, in publish order, and fall back to
+ * {@link TaskCacheInvalidator#invalidateAll(String)} whenever they cannot guarantee that nothing was missed.
+ */
+public interface InvalidationChannel {
+
+    /**
+     * Publishes the invalidations of one transaction. Called just before it commits, inside it, so a
+     * transactional channel delivers them if and only if the write commits.
+     */
+    void publish(List<TaskInvalidation> invalidations);
+}
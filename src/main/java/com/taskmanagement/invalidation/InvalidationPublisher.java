@@ -0,0 +1,79 @@
+package com.taskmanagement.invalidation;
+
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns the task service's {@link TaskChangedEvent}s (and the archiver's {@link TasksArchivedEvent}s, as a full
+ * invalidation) into {@link TaskInvalidation}s and hands them to the {@link InvalidationChannel} as one batch per
+ * transaction, just before it commits. Events outside a transaction are published immediately.
+ * <p>
+ * Metric: {@code tasks.invalidation.published}.
+ */
+@Component
+@Profile("!logstore")
+@ConditionalOnProperty(name = "app.invalidation.enabled", havingValue = "true")
+public class InvalidationPublisher {
+
+    private final InvalidationChannel channel;
+    private final Counter published;
+
+    public InvalidationPublisher(InvalidationChannel channel, MeterRegistry meterRegistry) {
+        this.channel = channel;
+        this.published = Counter.builder("tasks.invalidation.published")
+                .description("Invalidations published to other nodes")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        add(TaskInvalidation.of(event));
+    }
+
+    @EventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        add(TaskInvalidation.all());
+    }
+
+    private void add(TaskInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(invalidation));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<TaskInvalidation> batch = (List<TaskInvalidation>) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            List<TaskInvalidation> pending = new ArrayList<>();
+            batch = pending;
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    publish(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InvalidationPublisher.this);
+                }
+            });
+        }
+        batch.add(invalidation);
+    }
+
+    private void publish(List<TaskInvalidation> invalidations) {
+        channel.publish(invalidations);
+        published.increment(invalidations.size());
+    }
+}
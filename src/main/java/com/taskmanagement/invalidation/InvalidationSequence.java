@@ -0,0 +1,86 @@
+package com.taskmanagement.invalidation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Tracks which outbox sequence numbers this node has seen. Numbers are allocated on insert but become visible on
+ * commit, so a number skipped over is not necessarily lost: it stays an open gap, and is re-read on every poll,
+ * until it shows up or {@code gapTimeout} passes. Only then (or when more than {@code maxOpenGaps} are open) does
+ * the caller have to assume it missed something and flush everything. Not thread-safe.
+ */
+public class InvalidationSequence {
+
+    private final Duration gapTimeout;
+    private final int maxOpenGaps;
+    /** Open gap -> when it was first noticed. */
+    private final TreeMap<Long, Instant> gaps = new TreeMap<>();
+    private long highest;
+    private boolean lost;
+
+    public InvalidationSequence(long highest, Duration gapTimeout, int maxOpenGaps) {
+        this.highest = highest;
+        this.gapTimeout = gapTimeout;
+        this.maxOpenGaps = maxOpenGaps;
+    }
+
+    /** Exclusive lower bound of the next read: below the oldest open gap, else the highest number seen. */
+    public long readAfter() {
+        return gaps.isEmpty() ? highest : gaps.firstKey() - 1;
+    }
+
+    public long highest() {
+        return highest;
+    }
+
+    public int openGaps() {
+        return gaps.size();
+    }
+
+    /**
+     * Records {@code seq} as seen.
+     *
+     * @return {@code false} if it had been seen before (a re-read below an open gap), so must not be applied again
+     */
+    public boolean accept(long seq, Instant now) {
+        if (seq <= highest) {
+            return gaps.remove(seq) != null;
+        }
+        long skipped = seq - highest - 1;
+        if (gaps.size() + skipped > maxOpenGaps) {
+            lost = true;
+        } else {
+            for (long missing = highest + 1; missing < seq; missing++) {
+                gaps.put(missing, now);
+            }
+        }
+        highest = seq;
+        return true;
+    }
+
+    /**
+     * Gives up on gaps open longer than {@code gapTimeout}.
+     *
+     * @return {@code true} if an invalidation may have been missed since the last call
+     */
+    public boolean expireGaps(Instant now) {
+        Instant cutoff = now.minus(gapTimeout);
+        boolean expired = gaps.values().removeIf(firstSeen -> firstSeen.isBefore(cutoff));
+        boolean missed = expired || lost;
+        lost = false;
+        return missed;
+    }
+
+    /**
+     * Continues after the numbers read since {@link #readAfter()} without applying them; for use right after a full
+     * flush. {@code committed} (ascending) were visible before the flush, so it covered them. Every other number
+     * stays or becomes an open gap: a transaction holding one may still commit, and must then be applied.
+     */
+    public void skip(List<Long> committed, Instant now) {
+        // whatever went untracked before the flush is covered by it
+        lost = false;
+        committed.forEach(seq -> accept(seq, now));
+    }
+}
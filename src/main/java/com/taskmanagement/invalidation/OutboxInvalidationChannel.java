@@ -0,0 +1,193 @@
+package com.taskmanagement.invalidation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link InvalidationChannel} over the shared database, so it needs no infrastructure beyond it: invalidations
+ * are inserted into the {@code task_invalidations} outbox in the writing transaction, and every node polls the
+ * rows after the highest {@code seq} it has seen. Rows from this node are skipped (its caches were invalidated
+ * locally). A node that cannot tell whether it missed rows flushes everything instead:
+ * <ul>
+ *   <li>{@code gap}: a skipped sequence number did not show up within {@code app.invalidation.gap-timeout}</li>
+ *   <li>{@code backlog}: more than {@code max-batches-per-poll} batches were waiting</li>
+ *   <li>{@code lag}: no poll succeeded for {@code app.invalidation.max-lag}</li>
+ * </ul>
+ * Rows older than {@code app.invalidation.retention} are purged.
+ * <p>
+ * Metrics: {@code tasks.invalidation.lag} (seconds since the last successful poll) and
+ * {@code tasks.invalidation.open-gaps}.
+ */
+@Component
+@Profile("!logstore")
+@ConditionalOnProperty(name = "app.invalidation.enabled", havingValue = "true")
+@DependsOn("entityManagerFactory")
+public class OutboxInvalidationChannel implements InvalidationChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxInvalidationChannel.class);
+
+    private static final String INSERT = "INSERT INTO task_invalidations "
+            + "(node_id, task_id, assignee, previous_assignee, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_AFTER = "SELECT seq, node_id, task_id, assignee, previous_assignee "
+            + "FROM task_invalidations WHERE seq > ? ORDER BY seq FETCH FIRST ? ROWS ONLY";
+    private static final String MAX_SEQ = "SELECT COALESCE(MAX(seq), 0) FROM task_invalidations";
+    private static final String SELECT_SEQ_AFTER = "SELECT seq FROM task_invalidations WHERE seq > ? ORDER BY seq";
+    private static final String PURGE = "DELETE FROM task_invalidations WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskCacheInvalidator invalidator;
+    private final String nodeId;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration maxLag;
+    private final Duration retention;
+    private final InvalidationSequence sequence;
+    private volatile Instant lastPoll = Instant.now();
+
+    public OutboxInvalidationChannel(JdbcTemplate jdbcTemplate,
+                                     TaskCacheInvalidator invalidator,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.invalidation.node-id:}") String nodeId,
+                                     @Value("${app.invalidation.batch-size:500}") int batchSize,
+                                     @Value("${app.invalidation.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                                     @Value("${app.invalidation.gap-timeout:PT5S}") Duration gapTimeout,
+                                     @Value("${app.invalidation.max-open-gaps:1000}") int maxOpenGaps,
+                                     @Value("${app.invalidation.max-lag:PT1M}") Duration maxLag,
+                                     @Value("${app.invalidation.retention:PT1H}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidator = invalidator;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxLag = maxLag;
+        this.retention = retention;
+        // nothing is cached yet, so what was published before this node started is irrelevant
+        this.sequence = new InvalidationSequence(maxSeq(), gapTimeout, maxOpenGaps);
+        Gauge.builder("tasks.invalidation.lag", this, channel -> Duration.between(channel.lastPoll, Instant.now()).toMillis() / 1000.0)
+                .description("Seconds since invalidations were last polled")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("tasks.invalidation.open-gaps", this, OutboxInvalidationChannel::openGaps)
+                .description("Skipped outbox sequence numbers still awaited")
+                .register(meterRegistry);
+        log.info("Polling cache invalidations: nodeId={}, after seq={}", this.nodeId, sequence.highest());
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /** Inserts one row per distinct invalidation, a single full invalidation standing for the whole batch. */
+    @Override
+    public void publish(List<TaskInvalidation> invalidations) {
+        Set<TaskInvalidation> distinct = invalidations.stream().anyMatch(TaskInvalidation::isAll)
+                ? Set.of(TaskInvalidation.all())
+                : new LinkedHashSet<>(invalidations);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(distinct.size());
+        for (TaskInvalidation invalidation : distinct) {
+            Iterator<String> assignees = invalidation.assignees().iterator();
+            rows.add(new Object[]{nodeId, invalidation.taskId(),
+                    assignees.hasNext() ? assignees.next() : null,
+                    assignees.hasNext() ? assignees.next() : null,
+                    now});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    /** Applies what other nodes committed since the last poll, or flushes everything if that cannot be told. */
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval:PT1S}")
+    public synchronized void poll() {
+        Instant now = Instant.now();
+        if (Duration.between(lastPoll, now).compareTo(maxLag) > 0) {
+            flushAndSkipAhead("lag", now);
+        }
+        long after = sequence.readAfter();
+        boolean caughtUp = false;
+        for (int batch = 0; batch < maxBatchesPerPoll && !caughtUp; batch++) {
+            List<OutboxRow> rows = jdbcTemplate.query(SELECT_AFTER, OutboxInvalidationChannel::mapRow, after, batchSize);
+            for (OutboxRow row : rows) {
+                if (sequence.accept(row.seq(), now) && !nodeId.equals(row.nodeId())) {
+                    invalidator.invalidate(row.invalidation());
+                }
+            }
+            caughtUp = rows.size() < batchSize;
+            if (!rows.isEmpty()) {
+                after = rows.get(rows.size() - 1).seq();
+            }
+        }
+        if (!caughtUp) {
+            flushAndSkipAhead("backlog", now);
+        } else if (sequence.expireGaps(now)) {
+            invalidator.invalidateAll("gap");
+            log.warn("Flushed all cached tasks: reason=gap, seq={}", sequence.highest());
+        }
+        lastPoll = now;
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.purge-interval:PT10M}")
+    public void purge() {
+        int purged = jdbcTemplate.update(PURGE, Timestamp.from(Instant.now().minus(retention)));
+        log.debug("Purged cache invalidations: count={}", purged);
+    }
+
+    private synchronized int openGaps() {
+        return sequence.openGaps();
+    }
+
+    /**
+     * Skips the unread rows that are already committed (the flush after reading them covers what they invalidate).
+     * Numbers not visible yet stay open gaps, so a transaction that commits after the flush is still applied.
+     */
+    private void flushAndSkipAhead(String reason, Instant now) {
+        List<Long> committed = jdbcTemplate.queryForList(SELECT_SEQ_AFTER, Long.class, sequence.readAfter());
+        invalidator.invalidateAll(reason);
+        sequence.skip(committed, now);
+        log.warn("Flushed all cached tasks: reason={}, continuing after seq={}, openGaps={}",
+                reason, sequence.highest(), sequence.openGaps());
+    }
+
+    private long maxSeq() {
+        Long max = jdbcTemplate.queryForObject(MAX_SEQ, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private static OutboxRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Integer taskId = rs.getObject("task_id", Integer.class);
+        Set<String> assignees = new HashSet<>(2);
+        for (String column : new String[]{"assignee", "previous_assignee"}) {
+            String assignee = rs.getString(column);
+            if (assignee != null) {
+                assignees.add(assignee);
+            }
+        }
+        TaskInvalidation invalidation = taskId != null ? new TaskInvalidation(taskId, assignees) : TaskInvalidation.all();
+        return new OutboxRow(rs.getLong("seq"), rs.getString("node_id"), invalidation);
+    }
+
+    private record OutboxRow(long seq, String nodeId, TaskInvalidation invalidation) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskmanagement.invalidation;
+
+import com.taskmanagement.label.TaskLabelIndex;
+import com.taskmanagement.next.NextTaskQueues;
+import com.taskmanagement.service.impl.TaskGenerations;
+import com.taskmanagement.service.impl.TaskTotalCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies invalidations received from other nodes to this node's derived state: the {@link TaskGenerations}
+ * that version the page cache, the absent-ID cache and in-flight reads, the cached list totals, the
+ * {@link TaskLabelIndex} (re-read before the generations move, so a page cached afterwards sees the new labels)
+ * and the {@link NextTaskQueues}.
+ * <p>
+ * Metrics: {@code tasks.invalidation.applied} and {@code tasks.invalidation.full-flushes{reason}}.
+ */
+@Component
+public class TaskCacheInvalidator {
+
+    private final TaskGenerations generations;
+    private final TaskTotalCounter totalCounter;
+    private final ObjectProvider<TaskLabelIndex> labelIndex;
+    private final ObjectProvider<NextTaskQueues> nextTaskQueues;
+    private final MeterRegistry meterRegistry;
+    private final Counter applied;
+
+    public TaskCacheInvalidator(TaskGenerations generations,
+                                TaskTotalCounter totalCounter,
+                                ObjectProvider<TaskLabelIndex> labelIndex,
+                                ObjectProvider<NextTaskQueues> nextTaskQueues,
+                                MeterRegistry meterRegistry) {
+        this.generations = generations;
+        this.totalCounter = totalCounter;
+        this.labelIndex = labelIndex;
+        this.nextTaskQueues = nextTaskQueues;
+        this.meterRegistry = meterRegistry;
+        this.applied = Counter.builder("tasks.invalidation.applied")
+                .description("Invalidations received from other nodes and applied")
+                .register(meterRegistry);
+    }
+
+    public void invalidate(TaskInvalidation invalidation) {
+        if (invalidation.isAll()) {
+            invalidateAll("published");
+            return;
+        }
+        labelIndex.ifAvailable(index -> index.refresh(invalidation.taskId(), invalidation.assignees()));
+        nextTaskQueues.ifAvailable(queues -> queues.refresh(invalidation.taskId()));
+        generations.invalidate(invalidation.taskId(), invalidation.assignees());
+        totalCounter.invalidate(invalidation.assignees());
+        applied.increment();
+    }
+
+    /**
+     * Forgets everything derived from the database: published by another node (after archiving), or used when
+     * this node cannot tell what it missed ({@code reason} = {@code gap}, {@code lag}, {@code backlog}), and
+     * after the startup warm-up ({@code warm-up}).
+     */
+    public void invalidateAll(String reason) {
+        labelIndex.ifAvailable(TaskLabelIndex::rebuildIfStarted);
+        nextTaskQueues.ifAvailable(NextTaskQueues::rebuildIfStarted);
+        generations.invalidateAll();
+        totalCounter.invalidateAll();
+        Counter.builder("tasks.invalidation.full-flushes")
+                .description("Full cache flushes")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
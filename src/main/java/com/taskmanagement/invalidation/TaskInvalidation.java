@@ -0,0 +1,26 @@
+package com.taskmanagement.invalidation;
+
+import com.taskmanagement.event.TaskChangedEvent;
+
+import java.util.Set;
+
+/**
+ * What another node has to forget after a write here: one task and the assignees whose lists it was or is in
+ * (normalized, at most two), or everything when {@code taskId} is {@code null}.
+ */
+public record TaskInvalidation(Integer taskId, Set<String> assignees) {
+
+    private static final TaskInvalidation ALL = new TaskInvalidation(null, Set.of());
+
+    public static TaskInvalidation of(TaskChangedEvent event) {
+        return new TaskInvalidation(event.taskId(), event.affectedAssignees());
+    }
+
+    public static TaskInvalidation all() {
+        return ALL;
+    }
+
+    public boolean isAll() {
+        return taskId == null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One date-time value parsed by {@code FlexibleInstantDeserializer}, with the format that matched; formats are
+ * tried in order and each miss costs an exception, so late matches show up as longer events.
+ */
+@Name("com.taskmanagement.DateParse")
+@Label("Date Parse")
+@Category({"Task Management", "HTTP"})
+@Description("Date-time parsing in FlexibleInstantDeserializer")
+@StackTrace(false)
+public class DateParseEvent extends Event {
+
+    public static final int MAX_INPUT_LENGTH = 64;
+
+    @Label("Input")
+    public String input;
+
+    @Label("Format")
+    @Description("Format that matched, or UNPARSEABLE")
+    public String format;
+}
@@ -0,0 +1,151 @@
+package com.taskmanagement.jfr;
+
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.exception.RecordingInProgressException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs bounded, on-demand JDK Flight Recorder recordings: one at a time, at most
+ * {@code app.profiling.max-duration} long and {@code app.profiling.max-size} large, using one of the JDK's
+ * built-in settings ({@code default} ~1% overhead, {@code profile} ~2%) plus this service's own events.
+ * The finished recording is dumped to a temporary file, read back and deleted, so nothing is left on disk.
+ * <p>
+ * The JDK events that carry environment variables, system properties and JVM arguments are disabled, since they
+ * routinely hold credentials.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class FlightRecordings {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordings.class);
+
+    public static final List<String> SETTINGS = List.of("default", "profile");
+
+    /** Events this service defines; enabled without threshold in every recording. */
+    static final List<Class<? extends Event>> EVENTS =
+            List.of(TaskServiceCallEvent.class, RateLimitDecisionEvent.class, DateParseEvent.class);
+
+    /** JDK events disabled in every recording: their values may contain secrets. */
+    static final List<String> REDACTED_EVENTS =
+            List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    private volatile Recording current;
+
+    public FlightRecordings(@Value("${app.profiling.max-duration:PT5M}") Duration maxDuration,
+                            @Value("${app.profiling.max-size:25MB}") DataSize maxSize) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jfr-recordings");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Duration maxDuration() {
+        return maxDuration;
+    }
+
+    /**
+     * Starts a recording and completes the returned future with the {@code .jfr} file contents once
+     * {@code duration} has elapsed.
+     *
+     * @throws InvalidTaskRequestException   if the duration or settings are out of bounds
+     * @throws RecordingInProgressException if another recording is still running
+     */
+    public CompletableFuture<byte[]> record(Duration duration, String settings) {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new InvalidTaskRequestException(
+                    "duration must be positive and at most %s".formatted(maxDuration));
+        }
+        if (!SETTINGS.contains(settings)) {
+            throw new InvalidTaskRequestException("settings must be one of %s".formatted(SETTINGS));
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new RecordingInProgressException();
+        }
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("task-management-on-demand");
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSize.toBytes());
+            EVENTS.forEach(event -> recording.enable(event).withoutThreshold());
+            REDACTED_EVENTS.forEach(recording::disable);
+            recording.start();
+            current = recording;
+            log.info("JFR recording started: settings={}, duration={}", settings, duration);
+
+            CompletableFuture<byte[]> result = new CompletableFuture<>();
+            scheduler.schedule(() -> finish(recording, result), duration.toMillis(), TimeUnit.MILLISECONDS);
+            return result;
+        } catch (IOException | ParseException | RuntimeException e) {
+            running.set(false);
+            throw new IllegalStateException("Could not start JFR recording", e);
+        }
+    }
+
+    private void finish(Recording recording, CompletableFuture<byte[]> result) {
+        Path file = null;
+        try {
+            recording.stop();
+            file = Files.createTempFile("task-management-", ".jfr");
+            recording.dump(file);
+            byte[] bytes = Files.readAllBytes(file);
+            log.info("JFR recording finished: {} bytes", bytes.length);
+            result.complete(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("JFR recording failed", e);
+            result.completeExceptionally(e);
+        } finally {
+            recording.close();
+            current = null;
+            deleteQuietly(file);
+            running.set(false);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        Recording recording = current;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Outcome of the per-client rate limit check for one request. */
+@Name("com.taskmanagement.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"Task Management", "HTTP"})
+@Description("Per-client rate limit check in RateLimitFilter")
+@StackTrace(false)
+public class RateLimitDecisionEvent extends Event {
+
+    @Label("Client")
+    @Description("Client key: first X-Forwarded-For address or remote address")
+    public String client;
+
+    @Label("Allowed")
+    public boolean allowed;
+
+    @Label("Remaining Tokens")
+    public long remainingTokens;
+}
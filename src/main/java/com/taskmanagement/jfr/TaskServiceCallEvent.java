@@ -0,0 +1,59 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code TaskService} call as seen by callers (page cache and coalescing included), with its filters and
+ * the number of rows returned. Committed only while a recording has the event enabled; callers set the fields
+ * only then, so a disabled event costs nothing beyond its timestamps.
+ */
+@Name("com.taskmanagement.TaskServiceCall")
+@Label("Task Service Call")
+@Category({"Task Management", "Service"})
+@Description("TaskService method call with filter parameters and row count")
+@StackTrace(false)
+public class TaskServiceCallEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Task ID")
+    @Description("Task ID for single-task operations, 0 otherwise")
+    public int taskId;
+
+    @Label("Completed Filter")
+    @Description("true, false, or null when not filtered")
+    public String completed;
+
+    @Label("Assignee Filter")
+    public String assignedTo;
+
+    @Label("Label Filter")
+    @Description("Canonical label expression, or null when not filtered")
+    public String labels;
+
+    @Label("Include Archived")
+    public boolean includeArchived;
+
+    @Label("Page")
+    public int page;
+
+    @Label("Page Size")
+    public int pageSize;
+
+    @Label("Page Cache Hit")
+    public boolean pageCacheHit;
+
+    @Label("Rows")
+    @Description("Tasks returned, or 1 for a successful single-task write")
+    public int rows;
+
+    @Label("Failure")
+    @Description("Exception type if the call failed")
+    public String failure;
+}
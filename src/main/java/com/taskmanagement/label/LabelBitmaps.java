@@ -0,0 +1,131 @@
+package com.taskmanagement.label;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compressed (Roaring) bitmaps of task IDs: one per label and one per assignee, plus all indexed, completed and
+ * archived tasks. A filter is answered by combining bitmaps, at a cost proportional to their compressed size
+ * rather than to the number of tasks. Not thread-safe; {@link TaskLabelIndex} guards it.
+ */
+final class LabelBitmaps {
+
+    /** Stands in for a label or assignee without tasks; never modified. */
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap completed = new RoaringBitmap();
+    private final RoaringBitmap archived = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byLabel = new HashMap<>();
+    private final Map<String, RoaringBitmap> byAssignee = new HashMap<>();
+
+    /** Indexes a task whose previous state (if any) has been removed; labels and assignee are normalized. */
+    void add(int id, Collection<String> labels, boolean isCompleted, String assignee, boolean isArchived) {
+        all.add(id);
+        if (isCompleted) {
+            completed.add(id);
+        }
+        if (isArchived) {
+            archived.add(id);
+        }
+        for (String label : labels) {
+            byLabel.computeIfAbsent(label, l -> new RoaringBitmap()).add(id);
+        }
+        if (assignee != null) {
+            byAssignee.computeIfAbsent(assignee, a -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    /**
+     * Removes a task.
+     *
+     * @param labels    its labels, or {@code null} if unknown, in which case every label bitmap is checked
+     * @param assignees every assignee it may be indexed under
+     */
+    void remove(int id, Collection<String> labels, Collection<String> assignees) {
+        all.remove(id);
+        completed.remove(id);
+        archived.remove(id);
+        if (labels != null) {
+            labels.forEach(label -> remove(byLabel, label, id));
+        } else {
+            byLabel.values().removeIf(tasks -> {
+                tasks.remove(id);
+                return tasks.isEmpty();
+            });
+        }
+        assignees.forEach(assignee -> remove(byAssignee, assignee, id));
+    }
+
+    void markArchived(int id) {
+        if (all.contains(id)) {
+            archived.add(id);
+        }
+    }
+
+    /** IDs matching all the given filters, as a new bitmap owned by the caller. */
+    RoaringBitmap matching(LabelExpression expression, Boolean isCompleted, String assignee, boolean includeArchived) {
+        RoaringBitmap labelled = evaluate(expression);
+        RoaringBitmap matching = includeArchived ? labelled.clone() : RoaringBitmap.andNot(labelled, archived);
+        if (isCompleted != null) {
+            if (isCompleted) {
+                matching.and(completed);
+            } else {
+                matching.andNot(completed);
+            }
+        }
+        if (assignee != null) {
+            matching.and(byAssignee.getOrDefault(assignee, EMPTY));
+        }
+        return matching;
+    }
+
+    long tasks() {
+        return all.getLongCardinality();
+    }
+
+    int labels() {
+        return byLabel.size();
+    }
+
+    long sizeInBytes() {
+        long bytes = all.getLongSizeInBytes() + completed.getLongSizeInBytes() + archived.getLongSizeInBytes();
+        for (RoaringBitmap tasks : byLabel.values()) {
+            bytes += tasks.getLongSizeInBytes();
+        }
+        for (RoaringBitmap tasks : byAssignee.values()) {
+            bytes += tasks.getLongSizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * May return a stored bitmap, so the result must not be modified. {@code x AND NOT y} is computed as one
+     * difference instead of first complementing {@code y} against all tasks.
+     */
+    private RoaringBitmap evaluate(LabelExpression expression) {
+        return switch (expression) {
+            case LabelExpression.Label label -> byLabel.getOrDefault(label.name(), EMPTY);
+            case LabelExpression.Not not -> RoaringBitmap.andNot(all, evaluate(not.operand()));
+            case LabelExpression.And and when and.right() instanceof LabelExpression.Not not ->
+                    RoaringBitmap.andNot(evaluate(and.left()), evaluate(not.operand()));
+            case LabelExpression.And and when and.left() instanceof LabelExpression.Not not ->
+                    RoaringBitmap.andNot(evaluate(and.right()), evaluate(not.operand()));
+            case LabelExpression.And and -> RoaringBitmap.and(evaluate(and.left()), evaluate(and.right()));
+            case LabelExpression.Or or -> RoaringBitmap.or(evaluate(or.left()), evaluate(or.right()));
+        };
+    }
+
+    private static void remove(Map<String, RoaringBitmap> bitmaps, String key, int id) {
+        RoaringBitmap tasks = bitmaps.get(key);
+        if (tasks != null) {
+            tasks.remove(id);
+            if (tasks.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskmanagement.label;
+
+/**
+ * Boolean filter over task labels, e.g. {@code backend AND (urgent OR NOT later)}. {@code NOT} binds tighter
+ * than {@code AND}, which binds tighter than {@code OR}; operators are case-insensitive. {@link #toString()} is a
+ * canonical, fully parenthesized form, so equal filters yield equal cache keys.
+ */
+public sealed interface LabelExpression {
+
+    /**
+     * @return the parsed expression, or {@code null} for a missing or blank filter
+     * @throws com.taskmanagement.exception.InvalidTaskRequestException if the expression is malformed
+     */
+    static LabelExpression parse(String text) {
+        return text == null || text.isBlank() ? null : new LabelExpressionParser(text).parse();
+    }
+
+    record Label(String name) implements LabelExpression {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    record Not(LabelExpression operand) implements LabelExpression {
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    record And(LabelExpression left, LabelExpression right) implements LabelExpression {
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    record Or(LabelExpression left, LabelExpression right) implements LabelExpression {
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskmanagement.label;
+
+import com.taskmanagement.exception.InvalidTaskRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recursive-descent parser for {@link LabelExpression}:
+ * <pre>
+ * or    = and { OR and }
+ * and   = unary { AND unary }
+ * unary = NOT unary | "(" or ")" | label
+ * </pre>
+ * Expressions are capped at {@value #MAX_LABELS} labels and {@value #MAX_LENGTH} characters, which bounds parsing
+ * (and its recursion depth) and bitmap evaluation.
+ */
+final class LabelExpressionParser {
+
+    static final int MAX_LABELS = 32;
+    static final int MAX_LENGTH = 1000;
+
+    private final String text;
+    private final List<String> tokens;
+    private int position;
+    private int labels;
+
+    LabelExpressionParser(String text) {
+        this.text = text;
+        this.tokens = tokenize(text);
+    }
+
+    LabelExpression parse() {
+        if (text.length() > MAX_LENGTH) {
+            throw invalid("longer than " + MAX_LENGTH + " characters");
+        }
+        LabelExpression expression = or();
+        if (position < tokens.size()) {
+            throw invalid("unexpected '" + tokens.get(position) + "'");
+        }
+        return expression;
+    }
+
+    private LabelExpression or() {
+        LabelExpression expression = and();
+        while (accept("OR")) {
+            expression = new LabelExpression.Or(expression, and());
+        }
+        return expression;
+    }
+
+    private LabelExpression and() {
+        LabelExpression expression = unary();
+        while (accept("AND")) {
+            expression = new LabelExpression.And(expression, unary());
+        }
+        return expression;
+    }
+
+    private LabelExpression unary() {
+        if (accept("NOT")) {
+            return new LabelExpression.Not(unary());
+        }
+        if (accept("(")) {
+            LabelExpression expression = or();
+            if (!accept(")")) {
+                throw invalid("missing ')'");
+            }
+            return expression;
+        }
+        if (position >= tokens.size()) {
+            throw invalid("a label is missing at the end");
+        }
+        String token = tokens.get(position++);
+        if (!TaskLabels.isLabel(token)) {
+            throw invalid("'" + token + "' is not a label");
+        }
+        if (++labels > MAX_LABELS) {
+            throw invalid("more than " + MAX_LABELS + " labels");
+        }
+        return new LabelExpression.Label(TaskLabels.normalize(token));
+    }
+
+    /** Consumes the next token if it is {@code expected} (operators in any case). */
+    private boolean accept(String expected) {
+        if (position < tokens.size() && tokens.get(position).toUpperCase(Locale.ROOT).equals(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private InvalidTaskRequestException invalid(String reason) {
+        String shown = text.length() > 100 ? text.substring(0, 100) + "..." : text;
+        return new InvalidTaskRequestException("Invalid label filter '" + shown + "': " + reason
+                + ". Example: backend AND (urgent OR NOT later)");
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || Character.isWhitespace(c)) {
+                if (!word.isEmpty()) {
+                    tokens.add(word.toString());
+                    word.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                word.append(c);
+            }
+        }
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+        }
+        return tokens;
+    }
+}
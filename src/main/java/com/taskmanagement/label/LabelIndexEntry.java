@@ -0,0 +1,5 @@
+package com.taskmanagement.label;
+
+/** The columns {@link TaskLabelIndex} needs from one stored task, streamed when the index is built. */
+public record LabelIndexEntry(Integer id, String labels, Boolean isCompleted, String assignedTo) {
+}
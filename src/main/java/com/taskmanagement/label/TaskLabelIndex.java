@@ -0,0 +1,182 @@
+package com.taskmanagement.label;
+
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.index.ReplayingSnapshot;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskFilterQueries;
+import com.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * In-memory {@link LabelBitmaps} over all hot and archived tasks, for label-filtered lists. Built from the
+ * database once the application is ready (and before it reports so), then kept in sync by the task service's
+ * {@link TaskChangedEvent}s and the archiver's {@link TasksArchivedEvent}s after commit. Changes that commit
+ * while the index is being (re)built are replayed onto the new bitmaps, so none is lost.
+ * <p>
+ * Writes made by other nodes arrive through {@code TaskCacheInvalidator}: one invalidated task is re-read from
+ * the database, a full invalidation rebuilds the index.
+ * <p>
+ * Metrics: {@code tasks.labels.index.bytes}, {@code tasks.labels.index.labels} and
+ * {@code tasks.labels.index.build}.
+ */
+@Component
+@Profile("!logstore")
+public class TaskLabelIndex {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxBoundIds;
+    private final ReplayingSnapshot<LabelBitmaps> snapshot;
+
+    public TaskLabelIndex(TaskRepository taskRepository,
+                          ArchivedTaskRepository archivedTaskRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.labels.max-bound-ids:1000}") int maxBoundIds) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxBoundIds = maxBoundIds;
+        this.snapshot = new ReplayingSnapshot<>("Label index", this::load,
+                bitmaps -> "tasks=" + bitmaps.tasks() + ", labels=" + bitmaps.labels()
+                        + ", bytes=" + bitmaps.sizeInBytes(),
+                Timer.builder("tasks.labels.index.build")
+                        .description("Time spent building the label index from the database")
+                        .register(meterRegistry));
+        Gauge.builder("tasks.labels.index.bytes", snapshot, index -> index.measure(LabelBitmaps::sizeInBytes))
+                .description("Heap used by the label index bitmaps")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("tasks.labels.index.labels", snapshot, index -> index.measure(LabelBitmaps::labels))
+                .description("Distinct labels in use")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * IDs of the tasks matching {@code expression} and the other list filters, as a new bitmap owned by the
+     * caller. Builds the index first if the application is not ready yet.
+     */
+    public RoaringBitmap matching(LabelExpression expression, Boolean completed, String assignedTo,
+                                  boolean includeArchived) {
+        String assignee = TaskFilterQueries.normalizeAssignee(assignedTo);
+        return snapshot.read(bitmaps -> bitmaps.matching(expression, completed, assignee, includeArchived));
+    }
+
+    /**
+     * Most matching IDs a label-filtered list sorted by other fields binds one by one into its query; above this,
+     * they are bound as one array and the page's IDs are sorted out first.
+     */
+    public int maxBoundIds() {
+        return maxBoundIds;
+    }
+
+    /** Ordered first, so pages versioned by {@code TaskGenerations} are never computed from the previous state. */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        int id = event.taskId();
+        TaskResponse before = event.before();
+        TaskResponse after = event.after();
+        Set<String> assignees = event.affectedAssignees();
+        snapshot.apply(bitmaps -> {
+            bitmaps.remove(id, before != null ? before.getLabels() : List.of(), assignees);
+            if (after != null) {
+                // an updated task is always hot again (updating an archived task restores it)
+                bitmaps.add(id, after.getLabels(), Boolean.TRUE.equals(after.getIsCompleted()),
+                        TaskFilterQueries.normalizeAssignee(after.getAssignedTo()), false);
+            }
+        });
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        List<Integer> ids = event.taskIds();
+        snapshot.apply(bitmaps -> ids.forEach(bitmaps::markArchived));
+    }
+
+    /** Re-reads one task changed by another node; {@code assignees} are the ones it may have been indexed under. */
+    public void refresh(Integer taskId, Collection<String> assignees) {
+        StoredTask stored = readOnlyTransaction.execute(status -> taskRepository.findById(taskId)
+                .map(task -> new StoredTask(entry(task), false))
+                .or(() -> archivedTaskRepository.findById(taskId).map(task -> new StoredTask(archivedEntry(task), true)))
+                .orElse(null));
+        snapshot.apply(bitmaps -> {
+            bitmaps.remove(taskId, null, assignees);
+            if (stored != null) {
+                add(bitmaps, stored.entry(), stored.archived());
+            }
+        });
+    }
+
+    /** Rebuilds the index unless it was never built (the first build reads the committed state anyway). */
+    public void rebuildIfStarted() {
+        snapshot.rebuildIfStarted();
+    }
+
+    /**
+     * Loads fresh bitmaps from both tables while the current ones keep serving, then swaps them in with the
+     * changes that committed meanwhile.
+     */
+    public void rebuild() {
+        snapshot.rebuild();
+    }
+
+    private LabelBitmaps load() {
+        LabelBitmaps fresh = new LabelBitmaps();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<LabelIndexEntry> hot = taskRepository.streamLabelIndexEntries()) {
+                hot.forEach(entry -> add(fresh, entry, false));
+            }
+            try (Stream<LabelIndexEntry> archived = archivedTaskRepository.streamLabelIndexEntries()) {
+                archived.forEach(entry -> add(fresh, entry, true));
+            }
+        });
+        return fresh;
+    }
+
+    private static void add(LabelBitmaps bitmaps, LabelIndexEntry entry, boolean archived) {
+        bitmaps.add(entry.id(), TaskLabels.parse(entry.labels()), Boolean.TRUE.equals(entry.isCompleted()),
+                TaskFilterQueries.normalizeAssignee(entry.assignedTo()), archived);
+    }
+
+    private static LabelIndexEntry entry(Task task) {
+        return new LabelIndexEntry(task.getId(), task.getLabels(), task.getIsCompleted(), task.getAssignedTo());
+    }
+
+    private static LabelIndexEntry archivedEntry(ArchivedTask task) {
+        return new LabelIndexEntry(task.getId(), task.getLabels(), task.getIsCompleted(), task.getAssignedTo());
+    }
+
+    private record StoredTask(LabelIndexEntry entry, boolean archived) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanagement.label;
+
+import com.taskmanagement.exception.InvalidTaskRequestException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Label rules shared by requests, storage and filter expressions. Labels are case-insensitive and kept in lower
+ * case; a task's labels are stored in one column as a sorted, comma-separated list.
+ */
+public final class TaskLabels {
+
+    public static final int MAX_LABELS = 10;
+
+    /**
+     * 1-30 letters, digits, {@code _ . : -}, not starting with punctuation; {@code and}, {@code or} and {@code not}
+     * are reserved for filter expressions.
+     */
+    public static final String PATTERN = "(?i)(?!(?:and|or|not)$)[a-z0-9][a-z0-9_.:-]{0,29}";
+
+    private static final Pattern LABEL = Pattern.compile(PATTERN);
+    private static final String SEPARATOR = ",";
+
+    private TaskLabels() {
+    }
+
+    public static String normalize(String label) {
+        return label.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Checks labels coming with a create or update; {@code null} (no change) passes. */
+    public static void validate(Collection<String> labels) {
+        if (labels == null) {
+            return;
+        }
+        for (String label : labels) {
+            if (label == null || !LABEL.matcher(label.trim()).matches()) {
+                throw new InvalidTaskRequestException("Label '" + label + "' is invalid. Labels are 1-30 letters, "
+                        + "digits, '_', '.', ':' or '-', and cannot be AND, OR or NOT.");
+            }
+        }
+        if (labels.stream().map(TaskLabels::normalize).distinct().count() > MAX_LABELS) {
+            throw new InvalidTaskRequestException(
+                    "A task can have at most " + MAX_LABELS + " labels. Please remove some labels.");
+        }
+    }
+
+    /** Stored form: normalized, distinct, sorted and comma-separated; {@code null} when there are none. */
+    public static String format(Collection<String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return null;
+        }
+        TreeSet<String> sorted = new TreeSet<>();
+        labels.stream().filter(Objects::nonNull).map(TaskLabels::normalize).forEach(sorted::add);
+        return sorted.isEmpty() ? null : String.join(SEPARATOR, sorted);
+    }
+
+    public static List<String> parse(String stored) {
+        return stored == null || stored.isEmpty() ? List.of() : List.of(stored.split(SEPARATOR));
+    }
+
+    static boolean isLabel(String token) {
+        return LABEL.matcher(token).matches();
+    }
+}
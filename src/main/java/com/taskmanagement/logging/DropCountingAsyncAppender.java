@@ -0,0 +1,32 @@
+package com.taskmanagement.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@link AsyncAppender} that never blocks the logging thread and counts what it drops instead. Once the queue
+ * is less than {@code discardingThreshold} from full, INFO and below are discarded; when it is full, everything
+ * is. Set {@code neverBlock} in the configuration; without it a full queue blocks as usual.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = event.getLevel().toInt() <= Level.INFO_INT;
+        if (discardable) {
+            LoggingDrops.queueFull();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // a non-blocking put drops silently, so check first; the rare event lost to a race goes uncounted
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            LoggingDrops.queueFull();
+            return;
+        }
+        super.append(event);
+    }
+}
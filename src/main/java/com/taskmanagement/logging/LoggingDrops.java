@@ -0,0 +1,35 @@
+package com.taskmanagement.logging;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log events deliberately not written, counted where logback drops them. Logback is configured before the
+ * application context exists, so the counts live here and are exported by
+ * {@link com.taskmanagement.config.LoggingMetricsConfig}.
+ */
+public final class LoggingDrops {
+
+    private static final LongAdder SAMPLED = new LongAdder();
+    private static final LongAdder QUEUE_FULL = new LongAdder();
+
+    private LoggingDrops() {
+    }
+
+    static void sampled() {
+        SAMPLED.increment();
+    }
+
+    static void queueFull() {
+        QUEUE_FULL.increment();
+    }
+
+    /** Events skipped by a {@link SamplingTurboFilter}. */
+    public static long sampledCount() {
+        return SAMPLED.sum();
+    }
+
+    /** Events discarded by {@link DropCountingAsyncAppender} because its queue was (nearly) full. */
+    public static long queueFullCount() {
+        return QUEUE_FULL.sum();
+    }
+}
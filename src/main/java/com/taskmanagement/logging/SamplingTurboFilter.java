@@ -0,0 +1,70 @@
+package com.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one in {@code oneIn} events at or below {@code level} from {@code logger} and the loggers under it.
+ * Turbo filters run before the event is created, so a skipped event costs one counter increment and no
+ * allocation. Events above {@code level} (by default WARN and ERROR) always pass. Sampling is by count, not at
+ * random, so the first event of a burst is always kept.
+ * <pre>{@code
+ * <turboFilter class="com.taskmanagement.logging.SamplingTurboFilter">
+ *     <logger>com.taskmanagement.service.impl.TaskServiceImpl</logger>
+ *     <oneIn>100</oneIn>
+ * </turboFilter>
+ * }</pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong seen = new AtomicLong();
+    private String logger;
+    private Level level = Level.INFO;
+    private long oneIn = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // also consulted for disabled levels, which must not use up samples
+        if (oneIn <= 1 || level == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !this.level.isGreaterOrEqual(level) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (seen.getAndIncrement() % oneIn == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        LoggingDrops.sampled();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return name.startsWith(logger)
+                && (name.length() == logger.length() || name.charAt(logger.length()) == '.');
+    }
+
+    @Override
+    public void start() {
+        if (logger == null || logger.isEmpty()) {
+            addError("No logger set for SamplingTurboFilter " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    /** Values of 1 or less keep everything. */
+    public void setOneIn(long oneIn) {
+        this.oneIn = oneIn;
+    }
+}
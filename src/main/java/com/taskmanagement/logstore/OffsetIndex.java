@@ -0,0 +1,121 @@
+package com.taskmanagement.logstore;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing {@code task ID -> record offset} map (linear probing, backward-shift deletion), load factor at
+ * most 1/2. Two {@code int} arrays and no per-entry objects, so the whole index costs under 32 bytes per task.
+ * <p>
+ * Not thread-safe; {@link TaskLog} guards it.
+ */
+final class OffsetIndex {
+
+    static final int NONE = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int count;
+
+    OffsetIndex(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NONE);
+    }
+
+    int size() {
+        return count;
+    }
+
+    int get(int key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; values[i] != NONE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return NONE;
+    }
+
+    /** @return the previous offset of {@code key}, or {@link #NONE} */
+    int put(int key, int value) {
+        if ((count + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        count++;
+        return NONE;
+    }
+
+    /** @return the removed offset, or {@link #NONE} */
+    int remove(int key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (values[i] != NONE && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == NONE) {
+            return NONE;
+        }
+        int removed = values[i];
+        // shift following entries of the probe run back so lookups never stop at the hole
+        int hole = i;
+        for (int j = (i + 1) & mask; values[j] != NONE; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        values[hole] = NONE;
+        count--;
+        return removed;
+    }
+
+    /**
+     * All entries packed as {@code offset << 32 | id} and sorted by offset, so callers can walk the log
+     * front to back.
+     */
+    long[] entriesByOffset() {
+        long[] entries = new long[count];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != NONE) {
+                entries[n++] = (long) values[i] << 32 | (keys[i] & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(entries);
+        return entries;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NONE);
+        count = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NONE) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,430 @@
+package com.taskmanagement.logstore;
+
+import com.taskmanagement.entity.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, checksummed task log in one memory-mapped file.
+ * <p>
+ * Layout: a {@value #HEADER_SIZE}-byte header (magic, version, highest ID ever assigned) followed by records
+ * {@code [length:int][crc32c:int][type:byte][id:int][body]}, where {@code length} counts the bytes after the
+ * checksum and the checksum covers them. A {@code PUT} body is the encoded task ({@link TaskRecordCodec}); a
+ * {@code DELETE} has none. The file is mapped ahead of the write position and remapped twice as large when
+ * full; the zero bytes after the last record mark the end of the log.
+ * <p>
+ * Opening replays the log into an {@link OffsetIndex}. Replay stops at the first record that is incomplete or
+ * fails its checksum (a write torn by a crash) and discards the tail from there.
+ * <p>
+ * {@link #compact()} copies the live records into a new file and swaps it in. Reads and writes continue while
+ * the live records are copied; they are blocked only while the records appended meanwhile are carried over and
+ * the files are swapped.
+ * <p>
+ * Thread-safe. One mapping limits the log to 2 GB.
+ */
+public final class TaskLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskLog.class);
+
+    static final int HEADER_SIZE = 16;
+    private static final int MAGIC = 0x544C4F47; // "TLOG"
+    private static final int VERSION = 1;
+    private static final int ID_FLOOR_OFFSET = 8;
+    /** Length and checksum; the record's {@code length} counts what follows them. */
+    private static final int FRAME_SIZE = 8;
+    /** Type and ID, the smallest possible {@code length} (a tombstone). */
+    private static final int MIN_LENGTH = 5;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int MAX_SIZE = Integer.MAX_VALUE;
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private final Path file;
+    private final Path compactionFile;
+    private final int initialSize;
+    private final boolean syncOnWrite;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock compactionLock = new ReentrantLock();
+
+    private FileChannel channel;
+    private MappedByteBuffer map;
+    private OffsetIndex index;
+    private int end;
+    private long deadBytes;
+    private int maxId;
+
+    private TaskLog(Path file, int initialSize, boolean syncOnWrite) {
+        this.file = file;
+        this.compactionFile = file.resolveSibling(file.getFileName() + ".compact");
+        this.initialSize = initialSize;
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    /**
+     * Opens (or creates) the log at {@code file} and replays it.
+     *
+     * @param initialSize   bytes mapped up front; the mapping doubles whenever it fills up
+     * @param syncOnWrite   force every record to disk before returning; without it, records survive a process
+     *                      crash (they are in the OS page cache) but not a power loss before the OS writes them
+     */
+    public static TaskLog open(Path file, int initialSize, boolean syncOnWrite) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        TaskLog taskLog = new TaskLog(file, Math.max(initialSize, 4096), syncOnWrite);
+        // an interrupted compaction leaves its partial copy behind; the original is still complete
+        Files.deleteIfExists(taskLog.compactionFile);
+        taskLog.load();
+        return taskLog;
+    }
+
+    /** @return the stored task, or {@code null} */
+    public Task get(int id) {
+        lock.readLock().lock();
+        try {
+            int offset = index.get(id);
+            return offset == OffsetIndex.NONE ? null : decode(map, offset);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Appends {@code task} (its ID must be set), superseding any earlier version. */
+    public void put(Task task) {
+        int id = task.getId();
+        byte[] body = TaskRecordCodec.encode(task);
+        lock.writeLock().lock();
+        try {
+            int offset = append(PUT, id, body);
+            int previous = index.put(id, offset);
+            if (previous != OffsetIndex.NONE) {
+                deadBytes += recordSize(map, previous);
+            }
+            maxId = Math.max(maxId, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Appends a tombstone for {@code id}; returns {@code false} (and writes nothing) if it is not stored. */
+    public boolean delete(int id) {
+        lock.writeLock().lock();
+        try {
+            if (index.get(id) == OffsetIndex.NONE) {
+                return false;
+            }
+            int offset = append(DELETE, id, new byte[0]);
+            int previous = index.remove(id);
+            deadBytes += recordSize(map, previous) + recordSize(map, offset);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Visits every stored task in log order. */
+    public void forEach(Consumer<Task> action) {
+        lock.readLock().lock();
+        try {
+            for (long entry : index.entriesByOffset()) {
+                action.accept(decode(map, (int) (entry >>> 32)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Highest ID ever stored, including deleted tasks; survives compaction and restarts. */
+    public int maxId() {
+        lock.readLock().lock();
+        try {
+            return maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes of the log in use, header included. */
+    public long usedBytes() {
+        lock.readLock().lock();
+        try {
+            return end;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes taken by superseded records and tombstones, which {@link #compact()} would reclaim. */
+    public long deadBytes() {
+        lock.readLock().lock();
+        try {
+            return deadBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log with only the live records.
+     *
+     * @return the number of bytes reclaimed
+     */
+    public long compact() throws IOException {
+        compactionLock.lock();
+        try {
+            MappedByteBuffer source;
+            long[] entries;
+            int snapshotEnd;
+            lock.readLock().lock();
+            try {
+                source = map;
+                entries = index.entriesByOffset();
+                snapshotEnd = end;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            FileChannel target = FileChannel.open(compactionFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean swapped = false;
+            try {
+                OffsetIndex compacted = new OffsetIndex(entries.length);
+                ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+                int position = HEADER_SIZE;
+                // the snapshot region is never rewritten, so it is copied without holding the lock
+                for (long entry : entries) {
+                    int offset = (int) (entry >>> 32);
+                    int size = recordSize(source, offset);
+                    if (buffer.remaining() < size) {
+                        flush(target, buffer, position - buffer.position());
+                    }
+                    buffer.put(source.slice(offset, size));
+                    compacted.put((int) entry, position);
+                    position += size;
+                }
+                flush(target, buffer, position - buffer.position());
+
+                lock.writeLock().lock();
+                try {
+                    long oldEnd = end;
+                    long tailDead = 0;
+                    for (int offset = snapshotEnd; offset < end; ) {
+                        int size = recordSize(map, offset);
+                        int id = map.getInt(offset + FRAME_SIZE + 1);
+                        target.write(map.slice(offset, size), position);
+                        int previous = map.get(offset + FRAME_SIZE) == PUT
+                                ? compacted.put(id, position)
+                                : compacted.remove(id);
+                        if (previous != OffsetIndex.NONE) {
+                            tailDead += recordSize(target, previous);
+                        }
+                        if (map.get(offset + FRAME_SIZE) == DELETE) {
+                            tailDead += size;
+                        }
+                        position += size;
+                        offset += size;
+                    }
+                    target.write(header(maxId), 0);
+                    target.force(true);
+                    // mapped and moved before anything is swapped: if either fails, the current log stays in use
+                    MappedByteBuffer compactedMap = target.map(FileChannel.MapMode.READ_WRITE, 0, capacityFor(position));
+                    Files.move(compactionFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    FileChannel replaced = channel;
+                    channel = target;
+                    map = compactedMap;
+                    index = compacted;
+                    end = position;
+                    deadBytes = tailDead;
+                    swapped = true;
+                    closeQuietly(replaced);
+                    log.debug("Task log compacted: file={}, bytesBefore={}, bytesAfter={}", file, oldEnd, end);
+                    return oldEnd - end;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                if (!swapped) {
+                    closeQuietly(target);
+                    try {
+                        Files.deleteIfExists(compactionFile);
+                    } catch (IOException e) {
+                        log.warn("Could not delete {}", compactionFile, e);
+                    }
+                }
+            }
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (channel.isOpen()) {
+                map.force();
+                channel.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if (fileSize > MAX_SIZE) {
+            throw new IllegalStateException("Task log " + file + " exceeds 2 GB");
+        }
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityFor((int) fileSize));
+        if (fileSize == 0) {
+            map.put(0, header(0).array());
+        } else if (fileSize < HEADER_SIZE || map.getInt(0) != MAGIC || map.getInt(4) != VERSION) {
+            throw new IllegalStateException(file + " is not a task log");
+        }
+        maxId = map.getInt(ID_FLOOR_OFFSET);
+        index = new OffsetIndex(1024);
+        int offset = HEADER_SIZE;
+        while (offset + FRAME_SIZE <= map.capacity()) {
+            int length = map.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < MIN_LENGTH || length > map.capacity() - offset - FRAME_SIZE || !checksumMatches(offset, length)) {
+                log.warn("Task log has a torn or corrupt record, discarding the rest: file={}, offset={}", file, offset);
+                zero(offset);
+                break;
+            }
+            int id = map.getInt(offset + FRAME_SIZE + 1);
+            int previous = map.get(offset + FRAME_SIZE) == PUT ? index.put(id, offset) : index.remove(id);
+            if (previous != OffsetIndex.NONE) {
+                deadBytes += recordSize(map, previous);
+            }
+            if (map.get(offset + FRAME_SIZE) == DELETE) {
+                deadBytes += FRAME_SIZE + length;
+            }
+            maxId = Math.max(maxId, id);
+            offset += FRAME_SIZE + length;
+        }
+        end = offset;
+        log.info("Task log opened: file={}, tasks={}, bytes={}, deadBytes={}", file, index.size(), end, deadBytes);
+    }
+
+    /** The channel of a replaced or abandoned file: its data is already safe elsewhere, so a failure is only logged. */
+    private void closeQuietly(FileChannel replaced) {
+        try {
+            replaced.close();
+        } catch (IOException e) {
+            log.warn("Could not close task log channel: file={}", file, e);
+        }
+    }
+
+    /** Clears everything from {@code offset} on, so later appends never run into leftovers of the torn record. */
+    private void zero(int offset) {
+        byte[] zeros = new byte[64 * 1024];
+        for (int position = offset; position < map.capacity(); position += zeros.length) {
+            map.put(position, zeros, 0, Math.min(zeros.length, map.capacity() - position));
+        }
+    }
+
+    /** Writes one record at the end of the log and returns its offset. Caller holds the write lock. */
+    private int append(byte type, int id, byte[] body) {
+        int length = MIN_LENGTH + body.length;
+        ByteBuffer record = ByteBuffer.allocate(FRAME_SIZE + length);
+        record.putInt(length).putInt(0).put(type).putInt(id).put(body);
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), FRAME_SIZE, length);
+        record.putInt(4, (int) crc.getValue());
+
+        ensureCapacity(record.capacity());
+        int offset = end;
+        map.put(offset, record.array());
+        if (syncOnWrite) {
+            map.force(offset, record.capacity());
+        }
+        end += record.capacity();
+        return offset;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if ((long) end + bytes <= map.capacity()) {
+            return;
+        }
+        if ((long) end + bytes > MAX_SIZE) {
+            throw new IllegalStateException("Task log " + file + " is full (2 GB)");
+        }
+        try {
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityFor(end + bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not grow task log " + file, e);
+        }
+    }
+
+    /** Smallest mapping size that holds {@code bytes}: the initial size, doubled as often as needed. */
+    private int capacityFor(int bytes) {
+        long capacity = initialSize;
+        while (capacity < bytes) {
+            capacity *= 2;
+        }
+        return (int) Math.min(capacity, MAX_SIZE);
+    }
+
+    private boolean checksumMatches(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(map.slice(offset + FRAME_SIZE, length));
+        return (int) crc.getValue() == map.getInt(offset + 4);
+    }
+
+    private static Task decode(ByteBuffer buffer, int offset) {
+        int id = buffer.getInt(offset + FRAME_SIZE + 1);
+        int bodyOffset = offset + FRAME_SIZE + MIN_LENGTH;
+        return TaskRecordCodec.decode(id, buffer.slice(bodyOffset, buffer.getInt(offset) - MIN_LENGTH));
+    }
+
+    private static int recordSize(ByteBuffer buffer, int offset) {
+        return FRAME_SIZE + buffer.getInt(offset);
+    }
+
+    private static int recordSize(FileChannel channel, int offset) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        channel.read(length, offset);
+        return FRAME_SIZE + length.getInt(0);
+    }
+
+    private static ByteBuffer header(int idFloor) {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putInt(idFloor).putInt(0).flip();
+    }
+
+    private static void flush(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += target.write(buffer, position);
+        }
+        buffer.clear();
+    }
+}
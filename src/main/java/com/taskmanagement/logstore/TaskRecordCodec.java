@@ -0,0 +1,102 @@
+package com.taskmanagement.logstore;
+
+import com.taskmanagement.entity.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Binary body of a {@code PUT} record: the task's strings as length-prefixed UTF-8 ({@code -1} for null),
+ * the completion flag as one byte, and instants as a presence byte followed by epoch seconds and nanos.
+ * The ID is part of the record header, not the body.
+ */
+final class TaskRecordCodec {
+
+    private static final int NULL_LENGTH = -1;
+    private static final int INSTANT_BYTES = 1 + Long.BYTES + Integer.BYTES;
+    private static final int INSTANT_COUNT = 5;
+
+    private TaskRecordCodec() {
+    }
+
+    static byte[] encode(Task task) {
+        byte[][] strings = {
+                utf8(task.getTitle()),
+                utf8(task.getDescription()),
+                utf8(task.getCreatedBy()),
+                utf8(task.getUpdatedBy()),
+                utf8(task.getAssignedTo())
+        };
+        int size = 1 + INSTANT_COUNT * INSTANT_BYTES;
+        for (byte[] string : strings) {
+            size += Integer.BYTES + (string != null ? string.length : 0);
+        }
+        ByteBuffer body = ByteBuffer.allocate(size);
+        for (byte[] string : strings) {
+            putString(body, string);
+        }
+        body.put((byte) (Boolean.TRUE.equals(task.getIsCompleted()) ? 1 : 0));
+        putInstant(body, task.getDueDate());
+        putInstant(body, task.getCreatedAt());
+        putInstant(body, task.getUpdatedAt());
+        putInstant(body, task.getAssignedAt());
+        putInstant(body, task.getCompletedAt());
+        return body.array();
+    }
+
+    /** Reads a body starting at {@code body}'s position. */
+    static Task decode(int id, ByteBuffer body) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(getString(body));
+        task.setDescription(getString(body));
+        task.setCreatedBy(getString(body));
+        task.setUpdatedBy(getString(body));
+        task.setAssignedTo(getString(body));
+        task.setIsCompleted(body.get() == 1);
+        task.setDueDate(getInstant(body));
+        task.setCreatedAt(getInstant(body));
+        task.setUpdatedAt(getInstant(body));
+        task.setAssignedAt(getInstant(body));
+        task.setCompletedAt(getInstant(body));
+        return task;
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static void putString(ByteBuffer body, byte[] value) {
+        if (value == null) {
+            body.putInt(NULL_LENGTH);
+        } else {
+            body.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer body) {
+        int length = body.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        body.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void putInstant(ByteBuffer body, Instant value) {
+        if (value == null) {
+            body.put((byte) 0).putLong(0).putInt(0);
+        } else {
+            body.put((byte) 1).putLong(value.getEpochSecond()).putInt(value.getNano());
+        }
+    }
+
+    private static Instant getInstant(ByteBuffer body) {
+        boolean present = body.get() == 1;
+        long seconds = body.getLong();
+        int nanos = body.getInt();
+        return present ? Instant.ofEpochSecond(seconds, nanos) : null;
+    }
+}
@@ -4,6 +4,8 @@ import com.taskmanagement.dto.request.TaskCreateRequest;
 import com.taskmanagement.dto.request.TaskUpdateRequest;
 import com.taskmanagement.dto.response.TaskResponse;
 import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskColumns;
+import com.taskmanagement.label.TaskLabels;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -20,6 +22,7 @@ public class TaskMapper {
         task.setDescription(Optional.ofNullable(req.getDescription()).map(String::trim).orElse(null));
         task.setIsCompleted(req.getIsCompleted());
         task.setDueDate(req.getDueDate());
+        task.setLabels(TaskLabels.format(req.getLabels()));
         Optional.ofNullable(req.getAssignedTo()).map(String::trim).filter(s -> !s.isBlank())
                 .ifPresent(assignee -> {
                     task.setAssignedTo(assignee);
@@ -33,6 +36,9 @@ public class TaskMapper {
         Optional.ofNullable(req.getDescription()).map(String::trim).ifPresent(task::setDescription);
         Optional.ofNullable(req.getIsCompleted()).ifPresent(task::setIsCompleted);
         Optional.ofNullable(req.getDueDate()).ifPresent(task::setDueDate);
+        if (req.getLabels() != null) {
+            task.setLabels(TaskLabels.format(req.getLabels()));
+        }
         if (req.getAssignedTo() != null) {
             String trimmed = req.getAssignedTo().trim();
             task.setAssignedTo(trimmed.isBlank() ? null : trimmed);
@@ -40,7 +46,7 @@ public class TaskMapper {
         }
     };
 
-    private static final Function<Task, TaskResponse> TO_RESPONSE = task ->
+    private static final Function<TaskColumns, TaskResponse> TO_RESPONSE = task ->
             new TaskResponse(
                     task.getId(),
                     task.getTitle(),
@@ -52,7 +58,8 @@ public class TaskMapper {
                     task.getCreatedBy(),
                     task.getUpdatedBy(),
                     task.getAssignedTo(),
-                    task.getAssignedAt()
+                    task.getAssignedAt(),
+                    TaskLabels.parse(task.getLabels())
             );
 
     public Task toEntity(TaskCreateRequest request) {
@@ -63,7 +70,8 @@ public class TaskMapper {
         UPDATE_ENTITY.accept(task, request);
     }
 
-    public TaskResponse toResponse(Task task) {
+    /** Hot, archived or union row: they share their columns. */
+    public TaskResponse toResponse(TaskColumns task) {
         return TO_RESPONSE.apply(task);
     }
 }
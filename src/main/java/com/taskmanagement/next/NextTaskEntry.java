@@ -0,0 +1,7 @@
+package com.taskmanagement.next;
+
+import java.time.Instant;
+
+/** The columns {@link NextTaskQueues} keeps of one open, assigned task, read in batches when the queues load. */
+public record NextTaskEntry(Integer id, String assignedTo, Instant dueDate) {
+}
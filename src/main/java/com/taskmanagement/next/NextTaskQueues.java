@@ -0,0 +1,186 @@
+package com.taskmanagement.next;
+
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.index.ReplayingSnapshot;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.TaskFilterQueries;
+import com.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Each assignee's open tasks in a {@link TaskHeap}, so "what should I do next" needs no scan or sort:
+ * {@link #next} reads the IDs off the top of one heap and loads just those rows by primary key. The heaps hold
+ * only the ID and due date of every open, assigned task, are loaded in ID-ordered batches of those columns once
+ * the application is ready (and before it reports so), and are kept in sync by the task service's {@link TaskChangedEvent}s after commit: creates and
+ * edits move a task within its heap, reassigning moves it to the new assignee's, and completing or deleting it
+ * (or unassigning it) removes it. Changes that commit while the heaps are being (re)loaded are replayed.
+ * <p>
+ * Writes made by other nodes arrive through {@code TaskCacheInvalidator}: one invalidated task is re-read from
+ * the database, a full invalidation reloads everything.
+ * <p>
+ * Metrics: {@code tasks.next.queued}, {@code tasks.next.assignees} and {@code tasks.next.build}.
+ */
+@Component
+@Profile("!logstore")
+public class NextTaskQueues {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+    private final ReplayingSnapshot<Heaps> snapshot;
+
+    public NextTaskQueues(TaskRepository taskRepository,
+                          TaskMapper taskMapper,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.next.batch-size:1000}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.snapshot = new ReplayingSnapshot<>("Next-task queues", this::load,
+                heaps -> "tasks=" + heaps.byId.size() + ", assignees=" + heaps.byAssignee.size(),
+                Timer.builder("tasks.next.build")
+                        .description("Time spent loading the next-task queues from the database")
+                        .register(meterRegistry));
+        Gauge.builder("tasks.next.queued", snapshot, queues -> queues.measure(heaps -> heaps.byId.size()))
+                .description("Open assigned tasks held in the next-task queues")
+                .register(meterRegistry);
+        Gauge.builder("tasks.next.assignees", snapshot, queues -> queues.measure(heaps -> heaps.byAssignee.size()))
+                .description("Assignees with at least one open task")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * The assignee's first {@code limit} open tasks by due date (undated last, ties by ID).
+     * Loads the queues first if the application is not ready yet.
+     *
+     * @throws InvalidTaskRequestException if {@code assignedTo} is blank or {@code limit} is not 1 to {@value #MAX_LIMIT}
+     */
+    public List<TaskResponse> next(String assignedTo, int limit) {
+        String assignee = TaskFilterQueries.normalizeAssignee(assignedTo);
+        if (assignee == null) {
+            throw new InvalidTaskRequestException("assignedTo is required. Please pass the assignee whose next tasks to list.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidTaskRequestException("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        List<Integer> ids = snapshot.read(heaps -> {
+            TaskHeap heap = heaps.byAssignee.get(assignee);
+            return heap != null ? heap.top(limit) : List.<Integer>of();
+        });
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, TaskResponse> loaded = readOnlyTransaction.execute(status -> taskRepository.findAllById(ids).stream()
+                .map(taskMapper::toResponse)
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity())));
+        // a task completed, reassigned or deleted since the heap was read is left out rather than shown stale
+        return ids.stream()
+                .map(loaded::get)
+                .filter(task -> task != null && assignee.equals(openAssignee(task)))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        int id = event.taskId();
+        TaskResponse after = event.after();
+        snapshot.apply(heaps -> heaps.put(id, openAssignee(after), after != null ? after.getDueDate() : null));
+    }
+
+    /** Re-reads one task changed by another node. Archived tasks are completed, so only the hot table matters. */
+    public void refresh(Integer taskId) {
+        TaskResponse stored = readOnlyTransaction.execute(status -> taskRepository.findById(taskId)
+                .map(taskMapper::toResponse)
+                .orElse(null));
+        snapshot.apply(heaps -> heaps.put(taskId, openAssignee(stored), stored != null ? stored.getDueDate() : null));
+    }
+
+    /** Reloads the queues unless they were never loaded (the first load reads the committed state anyway). */
+    public void rebuildIfStarted() {
+        snapshot.rebuildIfStarted();
+    }
+
+    /**
+     * Loads fresh heaps while the current ones keep serving, then swaps them in with the changes that committed
+     * meanwhile.
+     */
+    public void rebuild() {
+        snapshot.rebuild();
+    }
+
+    /** One short transaction per batch of ID, assignee and due date; no entities are loaded. */
+    private Heaps load() {
+        Heaps fresh = new Heaps();
+        int afterId = 0;
+        List<NextTaskEntry> batch;
+        do {
+            int from = afterId;
+            batch = readOnlyTransaction.execute(status ->
+                    taskRepository.findOpenAssignedAfter(from, PageRequest.ofSize(batchSize)));
+            for (NextTaskEntry entry : batch) {
+                fresh.put(entry.id(), TaskFilterQueries.normalizeAssignee(entry.assignedTo()), entry.dueDate());
+                afterId = entry.id();
+            }
+        } while (batch.size() == batchSize);
+        return fresh;
+    }
+
+    /** The normalized assignee whose queue holds the task, or {@code null} if it is gone, completed or unassigned. */
+    private static String openAssignee(TaskResponse task) {
+        return task != null && !Boolean.TRUE.equals(task.getIsCompleted())
+                ? TaskFilterQueries.normalizeAssignee(task.getAssignedTo())
+                : null;
+    }
+
+    /** All assignees' heaps and which heap holds each task. Not thread-safe. */
+    private static final class Heaps {
+        private final Map<String, TaskHeap> byAssignee = new HashMap<>();
+        private final Map<Integer, String> byId = new HashMap<>();
+
+        /** Files the task under {@code assignee} (normalized; {@code null} if none) and drops it from any other heap. */
+        void put(int id, String assignee, Instant dueDate) {
+            String previous = assignee != null ? byId.put(id, assignee) : byId.remove(id);
+            if (previous != null && !previous.equals(assignee)) {
+                TaskHeap heap = byAssignee.get(previous);
+                heap.remove(id);
+                if (heap.isEmpty()) {
+                    byAssignee.remove(previous);
+                }
+            }
+            if (assignee != null) {
+                byAssignee.computeIfAbsent(assignee, key -> new TaskHeap()).put(id, dueDate);
+            }
+        }
+    }
+}
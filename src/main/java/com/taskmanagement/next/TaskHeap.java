@@ -0,0 +1,145 @@
+package com.taskmanagement.next;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Indexed binary min-heap of one assignee's open tasks, ordered by due date (undated last), then ID. Holds only
+ * those two keys per task. Each task knows its array position, so changing or removing any task costs
+ * {@code O(log n)} rather than a search.
+ * Not thread-safe; {@link NextTaskQueues} guards it.
+ */
+final class TaskHeap {
+
+    private final Map<Integer, Node> nodes = new HashMap<>();
+    private Node[] heap = new Node[8];
+    private int size;
+
+    /** Inserts the task or, if present, moves it to the place of its new due date. */
+    void put(int id, Instant dueDate) {
+        long due = dueKey(dueDate);
+        Node node = nodes.get(id);
+        if (node == null) {
+            node = new Node(id, due);
+            nodes.put(node.id, node);
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            node.position = size;
+            heap[size++] = node;
+            siftUp(node.position);
+            return;
+        }
+        if (due != node.due) {
+            node.due = due;
+            siftDown(siftUp(node.position));
+        }
+    }
+
+    /** @return whether the task was held */
+    boolean remove(int id) {
+        Node node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        int position = node.position;
+        Node last = heap[--size];
+        heap[size] = null;
+        if (last != node) {
+            place(last, position);
+            siftDown(siftUp(position));
+        }
+        return true;
+    }
+
+    /**
+     * The IDs of the first {@code k} tasks in order, without removing them: a second, small heap holds the frontier of
+     * positions whose parents were already taken, so this costs {@code O(k log k)} whatever the heap's size.
+     */
+    List<Integer> top(int k) {
+        int count = Math.min(k, size);
+        List<Integer> top = new ArrayList<>(count);
+        if (count == 0) {
+            return top;
+        }
+        PriorityQueue<Node> frontier = new PriorityQueue<>(Math.min(2 * count, size), TaskHeap::compare);
+        frontier.add(heap[0]);
+        while (top.size() < count) {
+            Node node = frontier.poll();
+            top.add(node.id);
+            for (int child = 2 * node.position + 1; child <= 2 * node.position + 2 && child < size; child++) {
+                frontier.add(heap[child]);
+            }
+        }
+        return top;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int siftUp(int position) {
+        Node node = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (compare(heap[parent], node) <= 0) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(node, position);
+        return position;
+    }
+
+    private void siftDown(int position) {
+        Node node = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (compare(node, heap[child]) <= 0) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(node, position);
+    }
+
+    private void place(Node node, int position) {
+        heap[position] = node;
+        node.position = position;
+    }
+
+    private static int compare(Node a, Node b) {
+        int byDue = Long.compare(a.due, b.due);
+        return byDue != 0 ? byDue : Integer.compare(a.id, b.id);
+    }
+
+    private static long dueKey(Instant dueDate) {
+        return dueDate != null ? dueDate.toEpochMilli() : Long.MAX_VALUE;
+    }
+
+    private static final class Node {
+        private final int id;
+        private long due;
+        private int position;
+
+        private Node(int id, long due) {
+            this.id = id;
+            this.due = due;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.taskmanagement.reminder;
+
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Fires a {@link TaskReminder} {@code app.reminders.lead} before each open task's due date, replacing
+ * an external poller.
+ * <p>
+ * Once the application is ready, open tasks due within {@code app.reminders.horizon} are loaded into a
+ * {@link TimingWheel}; the window is topped up as time passes, so only near-term reminders are held in memory
+ * (capped at {@code app.reminders.max-pending}). {@link TaskChangedEvent}s keep it in sync after commit.
+ * All wheel access happens on one thread, so loads, changes and ticks apply in order without locking.
+ * <p>
+ * Every {@link ReminderSink} bean receives each reminder; without one, reminders are logged.
+ * Delivery is at-least-once: after a restart, reminders for tasks due within the lead time fire again.
+ * Metrics: {@code tasks.reminders.fired}, {@code tasks.reminders.dropped} (wheel full) and the gauge
+ * {@code tasks.reminders.pending}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderEngine.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final List<ReminderSink> sinks;
+    private final Duration lead;
+    private final Duration horizon;
+    private final Duration tick;
+    private final TimingWheel wheel;
+    private final Counter fired;
+    private final Counter dropped;
+    private volatile ScheduledExecutorService executor;
+    private Instant loadedUntil;
+
+    public ReminderEngine(TaskRepository taskRepository,
+                          PlatformTransactionManager transactionManager,
+                          ObjectProvider<ReminderSink> sinks,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.reminders.lead:PT1H}") Duration lead,
+                          @Value("${app.reminders.horizon:P1D}") Duration horizon,
+                          @Value("${app.reminders.tick:PT1S}") Duration tick,
+                          @Value("${app.reminders.max-pending:1000000}") int maxPending) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        List<ReminderSink> configured = sinks.orderedStream().toList();
+        this.sinks = configured.isEmpty() ? List.of(ReminderEngine::logReminder) : configured;
+        this.lead = lead;
+        this.horizon = horizon;
+        this.tick = tick;
+        this.wheel = new TimingWheel(tick.toMillis(), System.currentTimeMillis(), 1024, maxPending);
+        this.fired = Counter.builder("tasks.reminders.fired")
+                .description("Due-date reminders handed to the sink").register(meterRegistry);
+        this.dropped = Counter.builder("tasks.reminders.dropped")
+                .description("Reminders not scheduled because max-pending was reached").register(meterRegistry);
+        Gauge.builder("tasks.reminders.pending", wheel, TimingWheel::size)
+                .description("Reminders waiting in the timing wheel").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Instant now = Instant.now();
+        loadedUntil = now;
+        scheduler.execute(() -> load(now.plus(horizon)));
+        scheduler.scheduleAtFixedRate(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        executor = scheduler;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        ScheduledExecutorService scheduler = executor;
+        // before start, the initial load reads the committed state instead
+        if (scheduler != null && reminderRelevant(event)) {
+            scheduler.execute(() -> apply(event));
+        }
+    }
+
+    /** Only due date and completion affect reminders; other edits must not re-arm a reminder that already fired. */
+    private static boolean reminderRelevant(TaskChangedEvent event) {
+        TaskResponse before = event.before();
+        TaskResponse after = event.after();
+        return before == null || after == null
+                || !Objects.equals(before.getDueDate(), after.getDueDate())
+                || !Objects.equals(before.getIsCompleted(), after.getIsCompleted());
+    }
+
+    private void apply(TaskChangedEvent event) {
+        TaskResponse after = event.after();
+        boolean open = after != null && !Boolean.TRUE.equals(after.getIsCompleted()) && after.getDueDate() != null;
+        if (open && after.getDueDate().isAfter(Instant.now()) && !after.getDueDate().isAfter(loadedUntil)) {
+            schedule(event.taskId(), after.getDueDate());
+        } else {
+            // completed, deleted, undated, overdue, or beyond the loaded window (picked up by a later load)
+            wheel.cancel(event.taskId());
+        }
+    }
+
+    private void tick() {
+        try {
+            List<TaskReminder> due = new ArrayList<>();
+            wheel.advance(System.currentTimeMillis(),
+                    (taskId, dueMillis) -> due.add(new TaskReminder(taskId, Instant.ofEpochMilli(dueMillis))));
+            for (TaskReminder reminder : due) {
+                deliver(reminder);
+            }
+            Instant target = Instant.now().plus(horizon);
+            if (Duration.between(loadedUntil, target).compareTo(horizon.dividedBy(2)) >= 0) {
+                load(target);
+            }
+        } catch (RuntimeException e) {
+            // keep the scheduled task alive; the next tick retries the load
+            log.error("Reminder tick failed", e);
+        }
+    }
+
+    private void deliver(TaskReminder reminder) {
+        for (ReminderSink sink : sinks) {
+            try {
+                sink.remind(reminder);
+            } catch (RuntimeException e) {
+                log.warn("Reminder sink failed: taskId={}, sink={}", reminder.taskId(), sink, e);
+            }
+        }
+        fired.increment();
+    }
+
+    private static void logReminder(TaskReminder reminder) {
+        log.info("Task due soon: id={}, dueDate={}", reminder.taskId(), reminder.dueDate());
+    }
+
+    /** Schedules open tasks due in {@code (loadedUntil, until]}. */
+    private void load(Instant until) {
+        Instant from = loadedUntil;
+        int[] loaded = {0};
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskReminder> reminders = taskRepository.streamOpenDueBetween(from, until)) {
+                reminders.forEach(reminder -> {
+                    schedule(reminder.taskId(), reminder.dueDate());
+                    loaded[0]++;
+                });
+            }
+        });
+        loadedUntil = until;
+        log.debug("Reminders loaded: dueAfter={}, dueUntil={}, count={}, pending={}", from, until, loaded[0], wheel.size());
+    }
+
+    private void schedule(Integer taskId, Instant dueDate) {
+        if (!wheel.schedule(taskId, dueDate.minus(lead).toEpochMilli(), dueDate.toEpochMilli())) {
+            dropped.increment();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.reminder;
+
+/**
+ * Destination for due-date reminders (e-mail, chat, message broker, ...). Every bean of this type receives
+ * each reminder; when none is defined, reminders are only logged. Called from the single reminder thread,
+ * so implementations should hand slow work off rather than block it.
+ */
+@FunctionalInterface
+public interface ReminderSink {
+
+    void remind(TaskReminder reminder);
+}
@@ -0,0 +1,7 @@
+package com.taskmanagement.reminder;
+
+import java.time.Instant;
+
+/** A task whose due date is approaching, as handed to a {@link ReminderSink}. */
+public record TaskReminder(Integer taskId, Instant dueDate) {
+}
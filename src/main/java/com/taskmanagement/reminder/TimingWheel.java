@@ -0,0 +1,294 @@
+package com.taskmanagement.reminder;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timing wheel keyed by task ID: three levels of {@value #WHEEL_SIZE} buckets, each level's tick
+ * {@value #WHEEL_SIZE} times the one below, so a 1 s tick covers about four years. Entries in upper levels
+ * cascade down as their bucket comes up; entries due within the lowest level fire when it reaches their bucket.
+ * <p>
+ * Schedule, reschedule and cancel are O(1). Entries live in parallel primitive arrays (doubly linked per bucket,
+ * freed slots reused) with an open-addressing ID index, about 50 bytes per pending entry and no per-entry
+ * objects; arrays grow on demand up to {@code maxEntries}.
+ * <p>
+ * Not thread-safe; {@link ReminderEngine} serializes access.
+ */
+final class TimingWheel {
+
+    static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_BITS = Integer.numberOfTrailingZeros(WHEEL_SIZE);
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 3;
+    private static final int NONE = -1;
+
+    /** Receives expired entries from {@link #advance}. */
+    @FunctionalInterface
+    interface ExpiryHandler {
+        void expired(int id, long payload);
+    }
+
+    private final long tickMillis;
+    private final int maxEntries;
+    private final int[] heads = new int[LEVELS * WHEEL_SIZE];
+    private long currentTick;
+
+    private int[] ids;
+    private long[] deadlineTicks;
+    private long[] payloads;
+    private int[] next;
+    private int[] prev;
+    private int[] buckets;
+    private int freeHead = NONE;
+    private int used;
+    private int size;
+    private final IdIndex index;
+
+    TimingWheel(long tickMillis, long startMillis, int initialCapacity, int maxEntries) {
+        this.tickMillis = tickMillis;
+        this.maxEntries = maxEntries;
+        this.currentTick = startMillis / tickMillis;
+        int capacity = Math.max(16, Math.min(initialCapacity, maxEntries));
+        ids = new int[capacity];
+        deadlineTicks = new long[capacity];
+        payloads = new long[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        buckets = new int[capacity];
+        index = new IdIndex(capacity);
+        Arrays.fill(heads, NONE);
+    }
+
+    /**
+     * Schedules {@code id} to expire at {@code deadlineMillis}, replacing any earlier entry for the same ID.
+     * Deadlines not after the current tick expire on the next {@link #advance}.
+     *
+     * @return {@code false} if the wheel is full and the entry was not added
+     */
+    boolean schedule(int id, long deadlineMillis, long payload) {
+        int slot = index.get(id);
+        if (slot != NONE) {
+            unlink(slot);
+        } else {
+            if (size == maxEntries) {
+                return false;
+            }
+            slot = allocate();
+            ids[slot] = id;
+            index.put(id, slot);
+            size++;
+        }
+        deadlineTicks[slot] = Math.floorDiv(deadlineMillis, tickMillis);
+        payloads[slot] = payload;
+        place(slot);
+        return true;
+    }
+
+    boolean cancel(int id) {
+        int slot = index.remove(id);
+        if (slot == NONE) {
+            return false;
+        }
+        unlink(slot);
+        release(slot);
+        size--;
+        return true;
+    }
+
+    boolean contains(int id) {
+        return index.get(id) != NONE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Moves time forward to {@code nowMillis}, handing every entry whose deadline has passed to {@code handler}. */
+    void advance(long nowMillis, ExpiryHandler handler) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        // entries scheduled at or before the current tick since the last advance
+        expire((int) (currentTick & MASK), handler);
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                long levelMask = (1L << (WHEEL_BITS * level)) - 1;
+                if ((currentTick & levelMask) == 0) {
+                    cascade(level * WHEEL_SIZE + (int) ((currentTick >>> (WHEEL_BITS * level)) & MASK));
+                }
+            }
+            expire((int) (currentTick & MASK), handler);
+        }
+    }
+
+    private void place(int slot) {
+        long delta = deadlineTicks[slot] - currentTick;
+        int bucket;
+        if (delta < WHEEL_SIZE) {
+            long tick = Math.max(deadlineTicks[slot], currentTick);
+            bucket = (int) (tick & MASK);
+        } else if (delta < (long) WHEEL_SIZE * WHEEL_SIZE) {
+            bucket = WHEEL_SIZE + (int) ((deadlineTicks[slot] >>> WHEEL_BITS) & MASK);
+        } else {
+            long tick = Math.min(deadlineTicks[slot], currentTick + (1L << (WHEEL_BITS * LEVELS)) - 1);
+            bucket = 2 * WHEEL_SIZE + (int) ((tick >>> (2 * WHEEL_BITS)) & MASK);
+        }
+        buckets[slot] = bucket;
+        prev[slot] = NONE;
+        next[slot] = heads[bucket];
+        if (heads[bucket] != NONE) {
+            prev[heads[bucket]] = slot;
+        }
+        heads[bucket] = slot;
+    }
+
+    private void cascade(int bucket) {
+        int slot = heads[bucket];
+        heads[bucket] = NONE;
+        while (slot != NONE) {
+            int following = next[slot];
+            place(slot);
+            slot = following;
+        }
+    }
+
+    private void expire(int bucket, ExpiryHandler handler) {
+        int slot = heads[bucket];
+        while (slot != NONE) {
+            int following = next[slot];
+            if (deadlineTicks[slot] <= currentTick) {
+                int id = ids[slot];
+                long payload = payloads[slot];
+                unlink(slot);
+                index.remove(id);
+                release(slot);
+                size--;
+                handler.expired(id, payload);
+            }
+            slot = following;
+        }
+    }
+
+    private void unlink(int slot) {
+        if (prev[slot] != NONE) {
+            next[prev[slot]] = next[slot];
+        } else {
+            heads[buckets[slot]] = next[slot];
+        }
+        if (next[slot] != NONE) {
+            prev[next[slot]] = prev[slot];
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if (used == ids.length) {
+            grow();
+        }
+        return used++;
+    }
+
+    private void release(int slot) {
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min((long) ids.length * 2, maxEntries);
+        ids = Arrays.copyOf(ids, capacity);
+        deadlineTicks = Arrays.copyOf(deadlineTicks, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+    }
+
+    /** Open-addressing {@code int -> slot} map (linear probing, backward-shift deletion), load factor at most 1/2. */
+    private static final class IdIndex {
+
+        private int[] keys;
+        private int[] values;
+        private int count;
+
+        IdIndex(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, NONE);
+        }
+
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; values[i] != NONE; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return NONE;
+        }
+
+        void put(int key, int value) {
+            if ((count + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != NONE) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            count++;
+        }
+
+        int remove(int key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (values[i] != NONE && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == NONE) {
+                return NONE;
+            }
+            int removed = values[i];
+            // shift following entries of the probe run back so lookups never stop at the hole
+            int hole = i;
+            for (int j = (i + 1) & mask; values[j] != NONE; j = (j + 1) & mask) {
+                int home = hash(keys[j]) & mask;
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            values[hole] = NONE;
+            count--;
+            return removed;
+        }
+
+        private void rehash(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, NONE);
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != NONE) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
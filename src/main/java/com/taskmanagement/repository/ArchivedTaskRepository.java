@@ -0,0 +1,35 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.label.LabelIndexEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Integer> {
+
+    @Query("select new com.taskmanagement.label.LabelIndexEntry(t.id, t.labels, t.isCompleted, t.assignedTo) from ArchivedTask t")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<LabelIndexEntry> streamLabelIndexEntries();
+
+    /** Copies the given hot rows into {@code tasks_archive} in one statement. */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into tasks_archive (id, title, description, is_completed, due_date, created_at, updated_at,
+                                       created_by, updated_by, assigned_to, assigned_at, completed_at, labels,
+                                       archived_at)
+            select id, title, description, is_completed, due_date, created_at, updated_at,
+                   created_by, updated_by, assigned_to, assigned_at, completed_at, labels, :archivedAt
+            from tasks where id in (:ids)""")
+    int copyFromTasks(@Param("ids") Collection<Integer> ids, @Param("archivedAt") Instant archivedAt);
+}
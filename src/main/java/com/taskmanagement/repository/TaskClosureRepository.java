@@ -0,0 +1,96 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Queries and maintenance of the {@code task_closure} table. Reads join the hot and the archive table, so
+ * archived subtasks still count. Maintenance statements are set-based: moving a subtree of {@code s} tasks under a
+ * parent with {@code a} ancestors deletes and inserts {@code s * (a + 1)} rows in two statements.
+ */
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    /**
+     * Every task below {@code id}, nearest first: rows of {@code [depth, parentId, Task or null,
+     * ArchivedTask or null]}.
+     */
+    @Query("""
+            select c.depth, p.ancestorId, t, a from TaskClosure c
+            join TaskClosure p on p.descendantId = c.descendantId and p.depth = 1
+            left join Task t on t.id = c.descendantId
+            left join ArchivedTask a on a.id = c.descendantId
+            where c.ancestorId = :id
+            order by c.depth, c.descendantId""")
+    List<Object[]> findSubtree(@Param("id") Integer id);
+
+    /** Every task above {@code id}, root first: rows of {@code [Task or null, ArchivedTask or null]}. */
+    @Query("""
+            select t, a from TaskClosure c
+            left join Task t on t.id = c.ancestorId
+            left join ArchivedTask a on a.id = c.ancestorId
+            where c.descendantId = :id
+            order by c.depth desc""")
+    List<Object[]> findAncestors(@Param("id") Integer id);
+
+    @Query("select c.ancestorId from TaskClosure c where c.descendantId = :id")
+    List<Integer> findAncestorIds(@Param("id") Integer id);
+
+    /** {@code [subtasks, completed subtasks]} below {@code id}, at any depth. */
+    @Query("""
+            select count(c), coalesce(sum(case when t.isCompleted = true or a.isCompleted = true then 1 else 0 end), 0)
+            from TaskClosure c
+            left join Task t on t.id = c.descendantId
+            left join ArchivedTask a on a.id = c.descendantId
+            where c.ancestorId = :id""")
+    List<Object[]> countSubtasks(@Param("id") Integer id);
+
+    /** Levels above {@code id} (0 for a root). */
+    @Query("select coalesce(max(c.depth), 0) from TaskClosure c where c.descendantId = :id")
+    int depthOf(@Param("id") Integer id);
+
+    /** Levels below {@code id} (0 for a leaf). */
+    @Query("select coalesce(max(c.depth), 0) from TaskClosure c where c.ancestorId = :id")
+    int heightOf(@Param("id") Integer id);
+
+    @Query("select count(c) > 0 from TaskClosure c where c.ancestorId = :ancestorId and c.descendantId = :descendantId")
+    boolean isAncestor(@Param("ancestorId") Integer ancestorId, @Param("descendantId") Integer descendantId);
+
+    /** Cuts the subtree of {@code id} (links within it stay) off from everything above it. */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            delete from task_closure
+            where (descendant_id = :id
+                   or descendant_id in (select descendant_id from task_closure where ancestor_id = :id))
+              and ancestor_id in (select ancestor_id from task_closure where descendant_id = :id)""")
+    int detachSubtree(@Param("id") Integer id);
+
+    /** Links the (detached) subtree of {@code id} below {@code parentId} and everything above it. */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into task_closure (ancestor_id, descendant_id, depth)
+            select a.ancestor_id, s.descendant_id, a.depth + s.depth + 1
+            from (select ancestor_id, depth from task_closure where descendant_id = :parentId
+                  union all select :parentId, 0) a
+            cross join (select descendant_id, depth from task_closure where ancestor_id = :id
+                        union all select :id, 0) s""")
+    int attachSubtree(@Param("id") Integer id, @Param("parentId") Integer parentId);
+
+    /** Moves everything below {@code id} one level up, so its children take its place under its parent. */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            update task_closure set depth = depth - 1
+            where descendant_id in (select descendant_id from task_closure where ancestor_id = :id)
+              and ancestor_id in (select ancestor_id from task_closure where descendant_id = :id)""")
+    int promoteChildren(@Param("id") Integer id);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from task_closure where ancestor_id = :id or descendant_id = :id")
+    int deleteLinks(@Param("id") Integer id);
+}
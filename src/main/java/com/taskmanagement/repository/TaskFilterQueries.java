@@ -0,0 +1,84 @@
+package com.taskmanagement.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * List queries for the four {@code completed}/{@code assignedTo} filter combinations, shared by every
+ * task-shaped entity ({@code Task}, {@code TaskView}) through {@code #{#entityName}}.
+ * <p>
+ * Each shape is a fixed JPQL string, so Hibernate translates it once per sort order and reuses the cached
+ * plan; content queries return a {@link List} (no implicit count) and totals come from the matching
+ * {@code count*} query only when the caller needs one.
+ */
+@NoRepositoryBean
+public interface TaskFilterQueries<T> {
+
+    @Query("select t from #{#entityName} t")
+    List<T> findPage(Pageable pageable);
+
+    @Query("select t from #{#entityName} t where t.isCompleted = :completed")
+    List<T> findPageByCompleted(@Param("completed") boolean completed, Pageable pageable);
+
+    @Query("select t from #{#entityName} t where lower(t.assignedTo) = :assignee")
+    List<T> findPageByAssignee(@Param("assignee") String assignee, Pageable pageable);
+
+    @Query("select t from #{#entityName} t where t.isCompleted = :completed and lower(t.assignedTo) = :assignee")
+    List<T> findPageByCompletedAndAssignee(@Param("completed") boolean completed,
+                                           @Param("assignee") String assignee,
+                                           Pageable pageable);
+
+    /** One page of the given tasks, sorted by the pageable; used for filters answered by the label index. */
+    @Query("select t from #{#entityName} t where t.id in :ids")
+    List<T> findPageByIds(@Param("ids") Collection<Integer> ids, Pageable pageable);
+
+    /**
+     * IDs of one page of the given tasks; for label-index matches too many to bind one by one. The IDs are bound
+     * as one array and joined, so only their rows are read. Native SQL: the pageable sorts by column names.
+     */
+    List<Integer> findIdPageAmong(Integer[] ids, Pageable pageable);
+
+    @Query("select count(t) from #{#entityName} t")
+    long countAllTasks();
+
+    @Query("select count(t) from #{#entityName} t where t.isCompleted = :completed")
+    long countByCompleted(@Param("completed") boolean completed);
+
+    @Query("select count(t) from #{#entityName} t where lower(t.assignedTo) = :assignee")
+    long countByAssignee(@Param("assignee") String assignee);
+
+    @Query("select count(t) from #{#entityName} t where t.isCompleted = :completed and lower(t.assignedTo) = :assignee")
+    long countByCompletedAndAssignee(@Param("completed") boolean completed, @Param("assignee") String assignee);
+
+    /** One page for the given filters; {@code null} means "not filtered". */
+    default List<T> findFiltered(Boolean completed, String assignedTo, Pageable pageable) {
+        String assignee = normalizeAssignee(assignedTo);
+        if (completed == null) {
+            return assignee == null ? findPage(pageable) : findPageByAssignee(assignee, pageable);
+        }
+        return assignee == null
+                ? findPageByCompleted(completed, pageable)
+                : findPageByCompletedAndAssignee(completed, assignee, pageable);
+    }
+
+    default long countFiltered(Boolean completed, String assignedTo) {
+        String assignee = normalizeAssignee(assignedTo);
+        if (completed == null) {
+            return assignee == null ? countAllTasks() : countByAssignee(assignee);
+        }
+        return assignee == null ? countByCompleted(completed) : countByCompletedAndAssignee(completed, assignee);
+    }
+
+    /** Assignee as matched by the filter: trimmed, lower-case, blank as {@code null}. */
+    static String normalizeAssignee(String assignedTo) {
+        if (assignedTo == null || assignedTo.isBlank()) {
+            return null;
+        }
+        return assignedTo.trim().toLowerCase();
+    }
+}
@@ -1,10 +1,77 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.entity.Task;
+import com.taskmanagement.label.LabelIndexEntry;
+import com.taskmanagement.next.NextTaskEntry;
+import com.taskmanagement.reminder.TaskReminder;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Integer>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Integer>, TaskFilterQueries<Task> {
+
+    /**
+     * Locks and returns up to {@code limit} IDs of tasks completed before {@code cutoff}, oldest ID first. Tasks
+     * completed before {@code completedAt} was tracked fall back to their last update time.
+     * <p>
+     * The rows stay locked until the transaction ends, so they cannot be reopened or edited between being copied
+     * to the archive and deleted. Rows another transaction holds are skipped and left for the next run.
+     */
+    @Query(nativeQuery = true, value = """
+            select id from tasks
+            where is_completed = true and coalesce(completed_at, updated_at) < :cutoff
+            order by id
+            fetch first :limit rows only
+            for update skip locked""")
+    List<Integer> lockArchivableIds(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    @Override
+    @Query(nativeQuery = true, value = "select t.id from tasks t join table(id int = :ids) m on m.id = t.id")
+    List<Integer> findIdPageAmong(@Param("ids") Integer[] ids, Pageable pageable);
+
+    /** Open tasks due in {@code (from, to]}, for loading the reminder wheel without materializing entities. */
+    @Query("""
+            select new com.taskmanagement.reminder.TaskReminder(t.id, t.dueDate) from Task t
+            where t.isCompleted = false and t.dueDate > :from and t.dueDate <= :to""")
+    Stream<TaskReminder> streamOpenDueBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    /** Every hot task's label index columns, for building the label index without materializing entities. */
+    @Query("select new com.taskmanagement.label.LabelIndexEntry(t.id, t.labels, t.isCompleted, t.assignedTo) from Task t")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<LabelIndexEntry> streamLabelIndexEntries();
+
+    /** Open, assigned tasks with an ID above {@code afterId}, in ID order: one batch of the next-task queues' load. */
+    @Query("""
+            select new com.taskmanagement.next.NextTaskEntry(t.id, t.assignedTo, t.dueDate) from Task t
+            where t.isCompleted = false and t.assignedTo is not null and t.id > :afterId order by t.id""")
+    List<NextTaskEntry> findOpenAssignedAfter(@Param("afterId") int afterId, Pageable pageable);
+
+    /** Locks the given hot rows until the transaction ends, in ID order so concurrent callers cannot deadlock. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids order by t.id")
+    List<Task> lockAllById(@Param("ids") Collection<Integer> ids);
+
+    /** Copies an archived row back into {@code tasks}, keeping its ID. */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into tasks (id, title, description, is_completed, due_date, created_at, updated_at,
+                               created_by, updated_by, assigned_to, assigned_at, completed_at, labels)
+            select id, title, description, is_completed, due_date, created_at, updated_at,
+                   created_by, updated_by, assigned_to, assigned_at, completed_at, labels
+            from tasks_archive where id = :id""")
+    int restoreFromArchive(@Param("id") Integer id);
 }
@@ -0,0 +1,29 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/** Read-only access to hot and archived tasks together. */
+@Repository
+public interface TaskViewRepository
+        extends org.springframework.data.repository.Repository<TaskView, Integer>, TaskFilterQueries<TaskView> {
+
+    /** Each table is joined with the IDs before the union, so neither is scanned. */
+    @Override
+    @Query(nativeQuery = true, value = """
+            select t.id from (
+                select h.id, h.title, h.description, h.is_completed, h.due_date, h.created_at, h.updated_at,
+                       h.created_by, h.updated_by, h.assigned_to, h.assigned_at, h.labels
+                from tasks h join table(id int = :ids) m on m.id = h.id
+                union all
+                select a.id, a.title, a.description, a.is_completed, a.due_date, a.created_at, a.updated_at,
+                       a.created_by, a.updated_by, a.assigned_to, a.assigned_at, a.labels
+                from tasks_archive a join table(id int = :ids) m on m.id = a.id
+            ) t""")
+    List<Integer> findIdPageAmong(@Param("ids") Integer[] ids, Pageable pageable);
+}
@@ -0,0 +1,157 @@
+package com.taskmanagement.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds {@code tasks} with production-shaped data for load tests ({@code loadtest} profile only).
+ * <p>
+ * Rows are written with JDBC batch inserts, bypassing JPA and the change events. Assignees follow a Zipf
+ * distribution ({@code app.seed.assignee-skew}; 0 = uniform), so a few assignees own most tasks as in
+ * production. The same {@code app.seed.random-seed} always produces the same data set.
+ * Seeding is skipped when the table already has rows.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE) // before the warm-up, which should see production-shaped data
+public class TaskDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDataSeeder.class);
+
+    private static final String INSERT_SQL = """
+            insert into tasks (title, description, is_completed, due_date, created_at, updated_at,
+                               created_by, updated_by, assigned_to, assigned_at, completed_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String[] VERBS = {"Review", "Fix", "Update", "Prepare", "Migrate", "Test", "Document", "Plan"};
+    private static final String[] OBJECTS = {"invoice export", "login flow", "release notes", "billing report",
+            "search index", "onboarding email", "API quota", "dashboard", "backup job", "customer import"};
+    private static final Duration HISTORY = Duration.ofDays(365);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rows;
+    private final int assignees;
+    private final double assigneeSkew;
+    private final double unassignedRatio;
+    private final double completedRatio;
+    private final int batchSize;
+    private final long randomSeed;
+
+    public TaskDataSeeder(JdbcTemplate jdbcTemplate,
+                          @Value("${app.seed.rows:1000000}") int rows,
+                          @Value("${app.seed.assignees:1000}") int assignees,
+                          @Value("${app.seed.assignee-skew:1.1}") double assigneeSkew,
+                          @Value("${app.seed.unassigned-ratio:0.1}") double unassignedRatio,
+                          @Value("${app.seed.completed-ratio:0.6}") double completedRatio,
+                          @Value("${app.seed.batch-size:5000}") int batchSize,
+                          @Value("${app.seed.random-seed:42}") long randomSeed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rows = rows;
+        this.assignees = assignees;
+        this.assigneeSkew = assigneeSkew;
+        this.unassignedRatio = unassignedRatio;
+        this.completedRatio = completedRatio;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from tasks", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Seeding skipped: tasks already has {} rows", existing);
+            return;
+        }
+        long start = System.nanoTime();
+        seed(Instant.now());
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Seeded tasks: rows={}, assignees={}, skew={}, completedRatio={}, took={} ms ({} rows/s)",
+                rows, assignees, assigneeSkew, completedRatio, took.toMillis(), rows * 1000L / Math.max(1, took.toMillis()));
+    }
+
+    void seed(Instant now) {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        double[] assigneeCdf = zipfCdf(assignees, assigneeSkew);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < rows; i++) {
+            batch.add(row(i, random, assigneeCdf, now));
+            if (batch.size() == batchSize) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+    }
+
+    private Object[] row(int index, SplittableRandom random, double[] assigneeCdf, Instant now) {
+        Instant createdAt = now.minusSeconds(random.nextLong(HISTORY.toSeconds()));
+        long ageSeconds = Duration.between(createdAt, now).toSeconds();
+        boolean completed = random.nextDouble() < completedRatio;
+        Instant completedAt = completed ? createdAt.plusSeconds(random.nextLong(ageSeconds + 1)) : null;
+        Instant updatedAt = completed ? completedAt : createdAt.plusSeconds(random.nextLong(ageSeconds + 1));
+        String assignee = random.nextDouble() < unassignedRatio ? null : "user" + sample(assigneeCdf, random);
+        Instant dueDate = random.nextInt(4) == 0 ? null : createdAt.plus(Duration.ofDays(1 + random.nextInt(60)));
+        String title = VERBS[random.nextInt(VERBS.length)] + " " + OBJECTS[random.nextInt(OBJECTS.length)] + " #" + index;
+        String description = random.nextInt(3) == 0 ? null : "Generated task " + index + " for load testing";
+        return new Object[]{title, description, completed, timestamp(dueDate), timestamp(createdAt),
+                timestamp(updatedAt), "seed", "seed", assignee, assignee != null ? timestamp(createdAt) : null,
+                timestamp(completedAt)};
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, new int[]{Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN,
+                Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.TIMESTAMP, Types.TIMESTAMP});
+    }
+
+    /** Cumulative Zipf probabilities for ranks 1..n; rank 1 is the busiest assignee. */
+    static double[] zipfCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, skew);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    /** Rank (1-based) whose cumulative probability first reaches a uniform draw. */
+    static int sample(double[] cdf, SplittableRandom random) {
+        double draw = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < draw) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskNodeResponse;
+import com.taskmanagement.dto.response.TaskProgressResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+
+import java.util.List;
+
+/**
+ * Parent/child relations between tasks (e.g. an epic and its stories). Deleting a task moves its children up to
+ * its parent; archiving keeps the relations.
+ */
+public interface TaskHierarchyService {
+
+    /** Creates a task directly below {@code parentId}. */
+    TaskResponse createSubtask(Integer parentId, TaskCreateRequest request);
+
+    /** Moves the task, with everything below it, below {@code parentId}; {@code null} makes it a root. */
+    void move(Integer id, Integer parentId);
+
+    /** Every task below {@code id}, nearest levels first. */
+    List<TaskNodeResponse> findSubtree(Integer id);
+
+    /** Every task above {@code id}, root first. */
+    List<TaskResponse> findAncestors(Integer id);
+
+    TaskProgressResponse findProgress(Integer id);
+}
@@ -0,0 +1,36 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.response.TaskImportResult;
+import com.taskmanagement.dto.response.TaskImportSummary;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+public interface TaskImportService {
+
+    enum Format { NDJSON, CSV }
+
+    /** Receives the import report as it is produced, one committed (or failed) chunk at a time. */
+    @FunctionalInterface
+    interface Listener {
+
+        /** Results of one chunk, in upload order; rejected records are reported in the chunk they were read in. */
+        void chunkDone(List<TaskImportResult> results) throws IOException;
+    }
+
+    /**
+     * Reads task records from {@code upload} as they arrive and creates them in chunks, each in its own
+     * transaction. Records are checked with the same rules as {@code POST /api/tasks}; invalid ones are reported
+     * and skipped. A chunk that fails to commit is reported as rejected and the import goes on. Chunks committed
+     * before a read or listener failure stay committed.
+     * <p>
+     * CSV uploads start with a header naming the columns ({@code title} is required; {@code description},
+     * {@code isCompleted}, {@code dueDate} and {@code assignedTo} are optional, in any order).
+     *
+     * @throws com.taskmanagement.exception.InvalidTaskRequestException if the CSV header is missing or invalid
+     * @throws com.taskmanagement.exception.TooManyImportsException     if {@code app.import.max-concurrent} imports
+     *                                                                  are already running
+     */
+    TaskImportSummary importTasks(Reader upload, Format format, Listener listener) throws IOException;
+}
@@ -3,17 +3,48 @@ package com.taskmanagement.service;
 import com.taskmanagement.dto.request.TaskCreateRequest;
 import com.taskmanagement.dto.request.TaskUpdateRequest;
 import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.label.LabelExpression;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface TaskService {
 
-    PagedTaskResponse findAll(Boolean completed, String assignedTo, Pageable pageable);
+    default PagedTaskResponse findAll(Boolean completed, String assignedTo, Pageable pageable) {
+        return findAll(completed, assignedTo, false, pageable);
+    }
+
+    default PagedTaskResponse findAll(Boolean completed, String assignedTo, boolean includeArchived, Pageable pageable) {
+        return findAll(completed, assignedTo, null, includeArchived, pageable);
+    }
+
+    /**
+     * Lists tasks from the hot table; when {@code includeArchived} is set, archived tasks are listed too.
+     *
+     * @param labels label filter, or {@code null} for none
+     */
+    PagedTaskResponse findAll(Boolean completed, String assignedTo, LabelExpression labels, boolean includeArchived,
+                              Pageable pageable);
 
+    /** Falls back to the archive when the task is no longer in the hot table. */
     TaskResponse findById(Integer id);
 
+    /**
+     * Loads many tasks at once (hot table, then archive for the misses). Unknown IDs are reported in
+     * {@link TaskLookupResponse#getMissingIds()} instead of failing the call.
+     */
+    TaskLookupResponse findAllByIds(List<Integer> ids);
+
     TaskResponse create(TaskCreateRequest request);
 
+    /**
+     * Creates several tasks in one transaction (one chunk of a bulk import): either all are stored or none.
+     * Every request is checked before anything is written.
+     */
+    List<TaskResponse> createAll(List<TaskCreateRequest> requests);
+
     TaskResponse update(Integer id, TaskUpdateRequest request);
 
     void deleteById(Integer id);
@@ -0,0 +1,59 @@
+package com.taskmanagement.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded negative cache of task IDs the store recently reported as absent (in neither the hot table nor the
+ * archive), so repeated lookups of unknown IDs are answered without a query. Each entry records the task's
+ * {@link TaskGenerations} generation from before the lookup; creating a task bumps it, so an ID that comes into
+ * existence is never reported absent by this instance. Tasks created by other instances are seen after at most
+ * {@code app.absent-cache.ttl}.
+ */
+@Component
+public class AbsentTaskCache {
+
+    private final boolean enabled;
+    private final TaskGenerations generations;
+    private final Cache<Integer, Long> absent;
+
+    public AbsentTaskCache(TaskGenerations generations,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.absent-cache.enabled:true}") boolean enabled,
+                           @Value("${app.absent-cache.max-entries:100000}") long maxEntries,
+                           @Value("${app.absent-cache.ttl:PT1M}") Duration ttl) {
+        this.generations = generations;
+        this.enabled = enabled;
+        this.absent = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, absent, "tasks.absent");
+    }
+
+    /** Generation to pass to {@link #markAbsent}; take it before looking the task up. */
+    public long generation(Integer id) {
+        return generations.forTask(id);
+    }
+
+    public boolean isAbsent(Integer id) {
+        if (!enabled) {
+            return false;
+        }
+        Long generation = absent.getIfPresent(id);
+        return generation != null && generation == generations.forTask(id);
+    }
+
+    public void markAbsent(Integer id, long generation) {
+        if (enabled) {
+            absent.put(id, generation);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.jfr.TaskServiceCallEvent;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read-path front of the task store ({@link TaskServiceImpl}, or {@link LogStructuredTaskService} in the
+ * {@code logstore} profile):
+ * <ul>
+ *     <li>list pages are served from {@link TaskPageCache} when their generation is still current;</li>
+ *     <li>lookups (single and multi-get) of IDs recently found missing are answered from {@link AbsentTaskCache};</li>
+ *     <li>identical concurrent {@code findAll}/{@code findById} calls share one in-flight execution
+ *     (and one transaction) instead of each querying the database.</li>
+ * </ul>
+ * Runs outside the transaction so waiting callers do not hold connections. Writes pass straight through.
+ * Keys carry {@link TaskGenerations}, so a read that starts after a write commits never joins or reuses
+ * a result loaded before it.
+ * <p>
+ * Metrics: {@code tasks.reads{op, outcome=executed|coalesced}} and the gauge {@code tasks.reads.coalesce.ratio{op}}.
+ * Every call is also reported as a {@link TaskServiceCallEvent} to JFR recordings that enable it.
+ */
+@Service
+@Primary
+public class CoalescingTaskService implements TaskService {
+
+    /** Qualifier of the {@link TaskService} that does the storage work behind this one. */
+    static final String TASK_STORE = "taskStore";
+
+    private final TaskService delegate;
+    private final TaskPageCache pageCache;
+    private final TaskGenerations generations;
+    private final AbsentTaskCache absentTasks;
+    private final boolean enabled;
+    private final SingleFlight<TaskPageCache.PageKey, PagedTaskResponse> listFlights;
+    private final SingleFlight<TaskKey, TaskResponse> byIdFlights;
+
+    public CoalescingTaskService(@Qualifier(TASK_STORE) TaskService delegate,
+                                 TaskPageCache pageCache,
+                                 TaskGenerations generations,
+                                 AbsentTaskCache absentTasks,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.coalescing.enabled:true}") boolean enabled) {
+        this.delegate = delegate;
+        this.pageCache = pageCache;
+        this.generations = generations;
+        this.absentTasks = absentTasks;
+        this.enabled = enabled;
+        this.listFlights = singleFlight(meterRegistry, "findAll");
+        this.byIdFlights = singleFlight(meterRegistry, "findById");
+    }
+
+    @Override
+    public PagedTaskResponse findAll(Boolean completed, String assignedTo, LabelExpression labels,
+                                     boolean includeArchived, Pageable pageable) {
+        TaskServiceCallEvent event = beginEvent();
+        try {
+            TaskPageCache.PageKey key = pageCache.key(completed, assignedTo, labels, includeArchived, pageable);
+            PagedTaskResponse page = pageCache.get(key);
+            boolean pageCacheHit = page != null;
+            if (!pageCacheHit) {
+                page = enabled
+                        ? listFlights.execute(key, () -> delegate.findAll(completed, assignedTo, labels, includeArchived, pageable))
+                        : delegate.findAll(completed, assignedTo, labels, includeArchived, pageable);
+                pageCache.put(key, page);
+            }
+            if (event.shouldCommit()) {
+                event.operation = "findAll";
+                event.pageCacheHit = pageCacheHit;
+                event.completed = String.valueOf(completed);
+                event.assignedTo = assignedTo;
+                event.labels = key.labels();
+                event.includeArchived = includeArchived;
+                event.page = pageable.getPageNumber();
+                event.pageSize = pageable.getPageSize();
+                event.rows = page.getContent().size();
+                event.commit();
+            }
+            return page;
+        } catch (RuntimeException e) {
+            failed(event, "findAll", null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * IDs the store recently reported missing are answered from {@link AbsentTaskCache} without a query; only
+     * the store's own answer marks an ID absent, so probing a cached ID does not extend its entry.
+     */
+    @Override
+    public TaskResponse findById(Integer id) {
+        TaskServiceCallEvent event = beginEvent();
+        if (absentTasks.isAbsent(id)) {
+            TaskNotFoundException notFound = new TaskNotFoundException(id);
+            failed(event, "findById", id, notFound);
+            throw notFound;
+        }
+        long generation = generations.forTask(id);
+        try {
+            TaskResponse task = enabled
+                    ? byIdFlights.execute(new TaskKey(id, generation), () -> delegate.findById(id))
+                    : delegate.findById(id);
+            succeeded(event, "findById", id, 1);
+            return task;
+        } catch (TaskNotFoundException e) {
+            absentTasks.markAbsent(id, generation);
+            failed(event, "findById", id, e);
+            throw e;
+        } catch (RuntimeException e) {
+            failed(event, "findById", id, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Not coalesced: ID sets rarely repeat exactly, and the delegate already answers them with a few
+     * chunked {@code IN} queries. IDs recently reported missing are answered from {@link AbsentTaskCache} and
+     * not sent to the delegate; the IDs it reports missing are marked absent like a {@link #findById} miss.
+     */
+    @Override
+    public TaskLookupResponse findAllByIds(List<Integer> ids) {
+        TaskServiceCallEvent event = beginEvent();
+        try {
+            Set<Integer> requested = TaskRequests.lookupIds(ids);
+            Map<Integer, Long> toLoad = new LinkedHashMap<>();
+            for (Integer id : requested) {
+                if (!absentTasks.isAbsent(id)) {
+                    toLoad.put(id, absentTasks.generation(id));
+                }
+            }
+            List<TaskResponse> tasks = List.of();
+            if (!toLoad.isEmpty()) {
+                TaskLookupResponse lookup = delegate.findAllByIds(List.copyOf(toLoad.keySet()));
+                lookup.getMissingIds().forEach(id -> absentTasks.markAbsent(id, toLoad.get(id)));
+                tasks = lookup.getTasks();
+            }
+            Set<Integer> found = tasks.stream().map(TaskResponse::getId).collect(Collectors.toSet());
+            List<Integer> missingIds = requested.stream().filter(id -> !found.contains(id)).toList();
+            succeeded(event, "findAllByIds", null, tasks.size());
+            return new TaskLookupResponse(tasks, missingIds);
+        } catch (RuntimeException e) {
+            failed(event, "findAllByIds", null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TaskResponse create(TaskCreateRequest request) {
+        TaskServiceCallEvent event = beginEvent();
+        try {
+            TaskResponse task = delegate.create(request);
+            succeeded(event, "create", task.getId(), 1);
+            return task;
+        } catch (RuntimeException e) {
+            failed(event, "create", null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<TaskResponse> createAll(List<TaskCreateRequest> requests) {
+        TaskServiceCallEvent event = beginEvent();
+        try {
+            List<TaskResponse> tasks = delegate.createAll(requests);
+            succeeded(event, "createAll", null, tasks.size());
+            return tasks;
+        } catch (RuntimeException e) {
+            failed(event, "createAll", null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TaskResponse update(Integer id, TaskUpdateRequest request) {
+        TaskServiceCallEvent event = beginEvent();
+        try {
+            TaskResponse task = delegate.update(id, request);
+            succeeded(event, "update", id, 1);
+            return task;
+        } catch (RuntimeException e) {
+            failed(event, "update", id, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        TaskServiceCallEvent event = beginEvent();
+        try {
+            delegate.deleteById(id);
+            // the delete has committed and bumped the task's generation
+            absentTasks.markAbsent(id, generations.forTask(id));
+            succeeded(event, "deleteById", id, 1);
+        } catch (RuntimeException e) {
+            failed(event, "deleteById", id, e);
+            throw e;
+        }
+    }
+
+    // JFR events: while no recording enables them, shouldCommit() is false and the JIT removes the event entirely;
+    // every field is set inside that check
+
+    private static TaskServiceCallEvent beginEvent() {
+        TaskServiceCallEvent event = new TaskServiceCallEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void succeeded(TaskServiceCallEvent event, String operation, Integer taskId, int rows) {
+        if (event.shouldCommit()) {
+            describe(event, operation, taskId);
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    private static void failed(TaskServiceCallEvent event, String operation, Integer taskId, RuntimeException failure) {
+        if (event.shouldCommit()) {
+            describe(event, operation, taskId);
+            event.failure = failure.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    private static void describe(TaskServiceCallEvent event, String operation, Integer taskId) {
+        event.operation = operation;
+        event.taskId = taskId != null ? taskId : 0;
+    }
+
+    private static <K, V> SingleFlight<K, V> singleFlight(MeterRegistry registry, String op) {
+        Counter executed = Counter.builder("tasks.reads").tag("op", op).tag("outcome", "executed")
+                .description("Reads that ran against the database").register(registry);
+        Counter coalesced = Counter.builder("tasks.reads").tag("op", op).tag("outcome", "coalesced")
+                .description("Reads that shared an identical in-flight execution").register(registry);
+        Gauge.builder("tasks.reads.coalesce.ratio", () -> ratio(coalesced.count(), executed.count()))
+                .tag("op", op)
+                .description("Share of reads answered by an in-flight execution")
+                .register(registry);
+        return new SingleFlight<>(executed, coalesced);
+    }
+
+    private static double ratio(double coalesced, double executed) {
+        double total = coalesced + executed;
+        return total == 0 ? 0 : coalesced / total;
+    }
+
+    private record TaskKey(Integer id, long generation) {
+    }
+}
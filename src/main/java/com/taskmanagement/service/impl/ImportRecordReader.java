@@ -0,0 +1,104 @@
+package com.taskmanagement.service.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits an upload into records without reading it all: one line per record, except that in CSV mode a line
+ * break inside a quoted field continues the record. At most {@code maxLength} characters of a record are kept;
+ * the rest of an over-long record is skipped and the record is marked {@link Record#truncated()}, so memory stays
+ * bounded by the longest allowed record whatever the upload size. Blank records are skipped.
+ */
+final class ImportRecordReader {
+
+    /** @param line upload line the record starts on (1-based) */
+    record Record(long line, String text, boolean truncated) {
+    }
+
+    private final Reader reader;
+    private final boolean csv;
+    private final int maxLength;
+    private final StringBuilder buffer;
+    private long line = 1;
+
+    ImportRecordReader(Reader reader, boolean csv, int maxLength) {
+        this.reader = reader;
+        this.csv = csv;
+        this.maxLength = maxLength;
+        this.buffer = new StringBuilder(Math.min(maxLength, 1024));
+    }
+
+    /** @return the next non-blank record, or {@code null} at the end of the upload */
+    Record next() throws IOException {
+        while (true) {
+            buffer.setLength(0);
+            long start = line;
+            boolean truncated = false;
+            boolean quoted = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '\n') {
+                    line++;
+                    if (!quoted) {
+                        break;
+                    }
+                } else if (c == '\r') {
+                    continue;
+                } else if (c == '"' && csv) {
+                    quoted = !quoted;
+                }
+                if (buffer.length() < maxLength) {
+                    buffer.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            String text = buffer.toString();
+            if (!text.isBlank()) {
+                return new Record(start, text, truncated);
+            }
+            if (c == -1) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Splits one CSV record into fields (RFC 4180: fields may be quoted, {@code ""} is a quote inside a quoted
+     * field). Fields are not trimmed.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    static List<String> csvFields(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Quoted field is not closed");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
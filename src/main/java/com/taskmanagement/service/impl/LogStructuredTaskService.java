@@ -0,0 +1,447 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.logstore.TaskLog;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.TaskFilterQueries;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * {@link TaskService} on an embedded {@link TaskLog} instead of JPA, for deployments without a database
+ * (profile {@code logstore}).
+ * <p>
+ * Tasks are read through the log's ID index. The completion and assignee filters are answered from
+ * {@link BitSet}s keyed by task ID, rebuilt from the log on startup, so totals are always exact. Each new task
+ * gets its ID and a strictly later {@code createdAt} together under the write lock, so creation order is ID
+ * order: lists sorted by ID or by {@code createdAt} (the default) walk the matching bits and decode only the
+ * requested page. Other sort orders decode every matching task, which suits the edge-sized datasets this mode
+ * is meant for.
+ * <p>
+ * There is no archive: every task stays in the log and {@code includeArchived} has no effect. Labels are not
+ * supported; requests that set or filter by them are rejected. Writes are
+ * serialized and publish {@link TaskChangedEvent}s like {@link TaskServiceImpl}, so caches and counters stay in
+ * sync. A background task compacts the log once superseded records make up {@code app.logstore.compaction.dead-ratio}
+ * of it.
+ * <p>
+ * Metrics: gauges {@code tasks.log.bytes} and {@code tasks.log.dead.bytes}, counter {@code tasks.log.compactions}.
+ */
+@Service
+@Profile("logstore")
+@Qualifier(CoalescingTaskService.TASK_STORE)
+public class LogStructuredTaskService implements TaskService {
+
+    private static final Logger log = LoggerFactory.getLogger(LogStructuredTaskService.class);
+
+    private final TaskLog taskLog;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet live = new BitSet();
+    private final BitSet completed = new BitSet();
+    private final Map<String, BitSet> byAssignee = new HashMap<>();
+    /** Latest {@code createdAt} handed out or loaded; guarded by the write lock. */
+    private Instant lastCreatedAt = Instant.MIN;
+    private final double compactionDeadRatio;
+    private final long compactionMinDeadBytes;
+    private final Counter compactions;
+    private final ScheduledExecutorService compactor;
+
+    public LogStructuredTaskService(TaskMapper taskMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.logstore.path:./data/tasks.log}") Path path,
+                                    @Value("${app.logstore.initial-size:16MB}") DataSize initialSize,
+                                    @Value("${app.logstore.sync-on-write:false}") boolean syncOnWrite,
+                                    @Value("${app.logstore.compaction.interval:PT1M}") Duration compactionInterval,
+                                    @Value("${app.logstore.compaction.dead-ratio:0.5}") double compactionDeadRatio,
+                                    @Value("${app.logstore.compaction.min-dead:1MB}") DataSize compactionMinDead) {
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.compactionDeadRatio = compactionDeadRatio;
+        this.compactionMinDeadBytes = compactionMinDead.toBytes();
+        try {
+            this.taskLog = TaskLog.open(path, (int) Math.min(initialSize.toBytes(), Integer.MAX_VALUE), syncOnWrite);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open task log " + path, e);
+        }
+        taskLog.forEach(this::index);
+        this.compactions = Counter.builder("tasks.log.compactions")
+                .description("Task log compactions").register(meterRegistry);
+        Gauge.builder("tasks.log.bytes", taskLog, TaskLog::usedBytes)
+                .description("Bytes used by the task log").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("tasks.log.dead.bytes", taskLog, TaskLog::deadBytes)
+                .description("Bytes of superseded records and tombstones awaiting compaction").baseUnit("bytes")
+                .register(meterRegistry);
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-log-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactIfWorthwhile,
+                compactionInterval.toMillis(), compactionInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        compactor.shutdown();
+        compactor.awaitTermination(30, TimeUnit.SECONDS);
+        taskLog.close();
+    }
+
+    @Override
+    public PagedTaskResponse findAll(Boolean completed, String assignedTo, LabelExpression labels,
+                                     boolean includeArchived, Pageable pageable) {
+        if (labels != null) {
+            throw labelsUnsupported();
+        }
+        Page<TaskResponse> page;
+        lock.readLock().lock();
+        try {
+            BitSet matching = matching(completed, TaskFilterQueries.normalizeAssignee(assignedTo));
+            Sort.Direction creationDirection = creationDirection(pageable.getSort());
+            List<Task> content = creationDirection != null
+                    ? pageInIdOrder(matching, pageable, creationDirection)
+                    : pageSorted(matching, pageable);
+            page = new PageImpl<>(content.stream().map(taskMapper::toResponse).toList(), pageable, matching.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+        log.debug("findAll: completed={}, assignedTo={}, page={}, total={}",
+                completed, assignedTo, page.getNumber(), page.getTotalElements());
+        return new PagedTaskResponse(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isFirst(),
+                page.isLast(),
+                true
+        );
+    }
+
+    @Override
+    public TaskResponse findById(Integer id) {
+        Task task = taskLog.get(id);
+        if (task == null) {
+            throw new TaskNotFoundException(id);
+        }
+        log.debug("findById: id={}", id);
+        return taskMapper.toResponse(task);
+    }
+
+    @Override
+    public TaskLookupResponse findAllByIds(List<Integer> ids) {
+        Set<Integer> requested = TaskRequests.lookupIds(ids);
+        List<TaskResponse> tasks = new ArrayList<>(requested.size());
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : requested) {
+            Task task = taskLog.get(id);
+            if (task != null) {
+                tasks.add(taskMapper.toResponse(task));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        log.debug("findAllByIds: requested={}, found={}, missing={}", requested.size(), tasks.size(), missingIds.size());
+        return new TaskLookupResponse(tasks, missingIds);
+    }
+
+    @Override
+    public TaskResponse create(TaskCreateRequest request) {
+        TaskRequests.validateTitle(request.getTitle());
+        rejectLabels(request.getLabels());
+        Task task = taskMapper.toEntity(request);
+        TaskResponse created;
+        lock.writeLock().lock();
+        try {
+            task.setId(taskLog.maxId() + 1);
+            task.setCreatedAt(nextCreatedAt());
+            task.onCreate();
+            taskLog.put(task);
+            index(task);
+            created = taskMapper.toResponse(task);
+            eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task created: id={}, title={}", task.getId(), task.getTitle());
+        return created;
+    }
+
+    /** All-or-nothing only up to the log: an I/O failure part-way leaves the records already appended. */
+    @Override
+    public List<TaskResponse> createAll(List<TaskCreateRequest> requests) {
+        requests.forEach(request -> {
+            TaskRequests.validateTitle(request.getTitle());
+            rejectLabels(request.getLabels());
+        });
+        List<TaskResponse> created = new ArrayList<>(requests.size());
+        lock.writeLock().lock();
+        try {
+            for (TaskCreateRequest request : requests) {
+                Task task = taskMapper.toEntity(request);
+                task.setId(taskLog.maxId() + 1);
+                task.setCreatedAt(nextCreatedAt());
+                task.onCreate();
+                taskLog.put(task);
+                index(task);
+                TaskResponse response = taskMapper.toResponse(task);
+                eventPublisher.publishEvent(TaskChangedEvent.created(response));
+                created.add(response);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Tasks created: count={}", created.size());
+        return created;
+    }
+
+    @Override
+    public TaskResponse update(Integer id, TaskUpdateRequest request) {
+        TaskResponse updated;
+        lock.writeLock().lock();
+        try {
+            Task task = taskLog.get(id);
+            if (task == null) {
+                throw new TaskNotFoundException(id);
+            }
+            if (request.getTitle() != null) {
+                TaskRequests.validateTitle(request.getTitle());
+            }
+            rejectLabels(request.getLabels());
+            TaskResponse before = taskMapper.toResponse(task);
+            unindex(task);
+            taskMapper.updateEntity(task, request);
+            task.onUpdate();
+            taskLog.put(task);
+            index(task);
+            updated = taskMapper.toResponse(task);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, updated));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task updated: id={}", id);
+        return updated;
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        lock.writeLock().lock();
+        try {
+            Task task = taskLog.get(id);
+            if (task == null) {
+                throw new TaskNotFoundException(id);
+            }
+            taskLog.delete(id);
+            unindex(task);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(taskMapper.toResponse(task)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task deleted: id={}", id);
+    }
+
+    void compactIfWorthwhile() {
+        long dead = taskLog.deadBytes();
+        if (dead < compactionMinDeadBytes || dead < compactionDeadRatio * taskLog.usedBytes()) {
+            return;
+        }
+        try {
+            long reclaimed = taskLog.compact();
+            compactions.increment();
+            log.info("Task log compacted: reclaimedBytes={}, usedBytes={}", reclaimed, taskLog.usedBytes());
+        } catch (IOException | RuntimeException e) {
+            // the original log is untouched; the next run retries
+            log.error("Task log compaction failed", e);
+        }
+    }
+
+    private BitSet matching(Boolean isCompleted, String assignee) {
+        BitSet matching = (BitSet) live.clone();
+        if (isCompleted != null) {
+            if (isCompleted) {
+                matching.and(completed);
+            } else {
+                matching.andNot(completed);
+            }
+        }
+        if (assignee != null) {
+            matching.and(byAssignee.getOrDefault(assignee, new BitSet()));
+        }
+        return matching;
+    }
+
+    /**
+     * Direction of a sort that follows creation order, otherwise {@code null}: by ID, or by {@code createdAt} with
+     * an optional ID tie-break. {@code createdAt} increases strictly with the ID here, so there are no ties.
+     */
+    private static Sort.Direction creationDirection(Sort sort) {
+        Sort.Direction idDirection = TaskRequests.idDirection(sort);
+        if (idDirection != null) {
+            return idDirection;
+        }
+        List<Sort.Order> orders = sort.toList();
+        boolean byCreatedAt = "createdAt".equals(orders.get(0).getProperty())
+                && (orders.size() == 1 || orders.size() == 2 && "id".equals(orders.get(1).getProperty()));
+        return byCreatedAt ? orders.get(0).getDirection() : null;
+    }
+
+    /** Strictly after every earlier task's, even if the clock steps back. Called under the write lock. */
+    private Instant nextCreatedAt() {
+        Instant now = Instant.now();
+        lastCreatedAt = now.isAfter(lastCreatedAt) ? now : lastCreatedAt.plusNanos(1);
+        return lastCreatedAt;
+    }
+
+    /** Walks the matching IDs in creation order and decodes only the tasks on the requested page. */
+    private List<Task> pageInIdOrder(BitSet matching, Pageable pageable, Sort.Direction direction) {
+        boolean ascending = direction.isAscending();
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<Task> page = new ArrayList<>(Math.min(limit, 256));
+        for (int id = ascending ? matching.nextSetBit(0) : matching.previousSetBit(matching.length() - 1);
+             id >= 0 && page.size() < limit;
+             id = ascending ? matching.nextSetBit(id + 1) : matching.previousSetBit(id - 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                page.add(taskLog.get(id));
+            }
+        }
+        return page;
+    }
+
+    private List<Task> pageSorted(BitSet matching, Pageable pageable) {
+        Comparator<Task> comparator = comparator(pageable.getSort());
+        List<Task> tasks = new ArrayList<>(matching.cardinality());
+        matching.stream().forEach(id -> tasks.add(taskLog.get(id)));
+        tasks.sort(comparator);
+        if (pageable.isUnpaged()) {
+            return tasks;
+        }
+        int from = (int) Math.min(pageable.getOffset(), tasks.size());
+        return tasks.subList(from, Math.min(from + pageable.getPageSize(), tasks.size()));
+    }
+
+    /** Labels are not part of the log record format. */
+    private static void rejectLabels(List<String> labels) {
+        if (labels != null && !labels.isEmpty()) {
+            throw labelsUnsupported();
+        }
+    }
+
+    private static InvalidTaskRequestException labelsUnsupported() {
+        return new InvalidTaskRequestException("Labels are not supported by the configured task store.");
+    }
+
+    private static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Task> byProperty = switch (order.getProperty()) {
+                case "id" -> nullable(Task::getId, Comparator.naturalOrder(), order);
+                case "title" -> text(Task::getTitle, order);
+                case "description" -> text(Task::getDescription, order);
+                case "isCompleted" -> nullable(Task::getIsCompleted, Comparator.naturalOrder(), order);
+                case "dueDate" -> nullable(Task::getDueDate, Comparator.naturalOrder(), order);
+                case "createdAt" -> nullable(Task::getCreatedAt, Comparator.naturalOrder(), order);
+                case "updatedAt" -> nullable(Task::getUpdatedAt, Comparator.naturalOrder(), order);
+                case "createdBy" -> text(Task::getCreatedBy, order);
+                case "updatedBy" -> text(Task::getUpdatedBy, order);
+                case "assignedTo" -> text(Task::getAssignedTo, order);
+                case "assignedAt" -> nullable(Task::getAssignedAt, Comparator.naturalOrder(), order);
+                case "completedAt" -> nullable(Task::getCompletedAt, Comparator.naturalOrder(), order);
+                default -> throw new InvalidTaskRequestException(
+                        "Tasks cannot be sorted by '" + order.getProperty() + "'. Please use a task field.");
+            };
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return comparator;
+    }
+
+    private static Comparator<Task> text(Function<Task, String> key, Sort.Order order) {
+        return nullable(key, order.isIgnoreCase() ? String.CASE_INSENSITIVE_ORDER : Comparator.naturalOrder(), order);
+    }
+
+    /** Orders like H2 does by default: {@code null} sorts below every value unless the order says otherwise. */
+    private static <T> Comparator<Task> nullable(Function<Task, T> key, Comparator<T> values, Sort.Order order) {
+        Comparator<T> directed = order.isAscending() ? values : values.reversed();
+        boolean nullsFirst = switch (order.getNullHandling()) {
+            case NULLS_FIRST -> true;
+            case NULLS_LAST -> false;
+            case NATIVE -> order.isAscending();
+        };
+        return Comparator.comparing(key, nullsFirst ? Comparator.nullsFirst(directed) : Comparator.nullsLast(directed));
+    }
+
+    /** Caller holds the write lock (or runs during construction). */
+    private void index(Task task) {
+        int id = task.getId();
+        live.set(id);
+        if (task.getCreatedAt() != null && task.getCreatedAt().isAfter(lastCreatedAt)) {
+            lastCreatedAt = task.getCreatedAt();
+        }
+        completed.set(id, Boolean.TRUE.equals(task.getIsCompleted()));
+        String assignee = TaskFilterQueries.normalizeAssignee(task.getAssignedTo());
+        if (assignee != null) {
+            byAssignee.computeIfAbsent(assignee, a -> new BitSet()).set(id);
+        }
+    }
+
+    private void unindex(Task task) {
+        int id = task.getId();
+        live.clear(id);
+        completed.clear(id);
+        String assignee = TaskFilterQueries.normalizeAssignee(task.getAssignedTo());
+        BitSet assigned = assignee != null ? byAssignee.get(assignee) : null;
+        if (assigned != null) {
+            assigned.clear(id);
+            if (assigned.isEmpty()) {
+                byAssignee.remove(assignee);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.config.RequestDeadline;
+import com.taskmanagement.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one loader per key at a time: callers arriving while a load for the same key is in flight
+ * wait for it and share its result (or its exception) instead of loading again.
+ * Nothing is kept once the load completes, so this never serves stale data.
+ * <p>
+ * Waiting callers keep their own {@link RequestDeadline}: they wait at most their remaining time, and if the
+ * load fails because the first caller's deadline ran out, a caller with time left loads on its own.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(Counter executed, Counter coalesced) {
+        this.executed = executed;
+        this.coalesced = coalesced;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, own);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader, loader);
+        }
+        executed.increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /** Number of keys with a load currently in flight. */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> leader, Supplier<V> loader) {
+        Duration remaining = RequestDeadline.remaining();
+        try {
+            return remaining == null ? leader.get() : leader.get(remaining.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight load", e);
+        } catch (ExecutionException e) {
+            Throwable failure = e.getCause();
+            if (isDeadlineFailure(failure) && hasTimeLeft()) {
+                // the leader ran out of its own time, not ours
+                executed.increment();
+                return loader.get();
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    private static boolean isDeadlineFailure(Throwable failure) {
+        return failure instanceof DeadlineExceededException
+                || failure instanceof TransactionTimedOutException
+                || failure instanceof QueryTimeoutException;
+    }
+
+    private static boolean hasTimeLeft() {
+        Duration remaining = RequestDeadline.remaining();
+        return remaining == null || remaining.isPositive();
+    }
+}
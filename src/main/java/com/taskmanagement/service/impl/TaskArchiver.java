@@ -0,0 +1,91 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves tasks completed longer than {@code app.archive.completed-age} ago from {@code tasks}
+ * to {@code tasks_archive}, so list queries and counts only scan the hot rows.
+ * Each batch is locked, copied and deleted in its own short transaction, so a task reopened or edited
+ * concurrently is either archived after that change commits or skipped until the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration completedAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        ArchivedTaskRepository archivedTaskRepository,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${app.archive.completed-age:P30D}") Duration completedAge,
+                        @Value("${app.archive.batch-size:500}") int batchSize,
+                        @Value("${app.archive.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.completedAge = completedAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.initial-delay:PT5M}")
+    public void archiveCompletedTasks() {
+        archiveCompletedBefore(Instant.now().minus(completedAge));
+    }
+
+    /**
+     * Archives up to {@code max-batches-per-run} batches of tasks completed before {@code cutoff}.
+     *
+     * @return number of tasks moved to the archive
+     */
+    public int archiveCompletedBefore(Instant cutoff) {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved != null ? moved : 0;
+            if (moved == null || moved < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived completed tasks: count={}, completedBefore={}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(Instant cutoff) {
+        List<Integer> ids = taskRepository.lockArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTaskRepository.copyFromTasks(ids, Instant.now());
+        taskRepository.deleteAllByIdInBatch(ids);
+        eventPublisher.publishEvent(new TasksArchivedEvent(ids));
+        return ids.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.service.impl;
+
+/**
+ * How {@code totalElements} of a task list page is obtained.
+ */
+public enum TaskCountStrategy {
+
+    /** {@code count(*)} on every list call. */
+    EXACT,
+
+    /** Exact count cached per filter signature for a TTL; affected signatures are evicted on writes. */
+    CACHED,
+
+    /** Exact count seeded per filter signature, then adjusted in place on writes and re-counted after the TTL. */
+    ESTIMATED
+}
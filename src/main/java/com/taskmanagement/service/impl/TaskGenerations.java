@@ -0,0 +1,77 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Write generations used to version cached reads. A cache key embeds the generations it depends on;
+ * a committed write bumps only the affected counters, which makes older keys unreachable without
+ * flushing or scanning the cache (stale entries age out of the bounded cache).
+ * <p>
+ * Per-assignee and per-task counters are striped over fixed arrays, so memory stays bounded however many
+ * assignees or IDs are seen; a stripe collision only costs an extra miss.
+ */
+@Component
+public class TaskGenerations {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong anyWrite = new AtomicLong();
+    private final AtomicLongArray assignees = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray tasks = new AtomicLongArray(STRIPES);
+
+    /** Bumped by every write and full invalidation; versions lists not filtered by assignee. */
+    public long anyWrite() {
+        return epoch.get() + anyWrite.get();
+    }
+
+    /**
+     * Versions lists filtered by {@code assignee} (normalized), or by any assignee when {@code null}.
+     */
+    public long forAssignee(String assignee) {
+        if (assignee == null) {
+            return anyWrite();
+        }
+        return epoch.get() + assignees.get(stripe(assignee.hashCode()));
+    }
+
+    /** Versions single-task reads. */
+    public long forTask(Integer taskId) {
+        return epoch.get() + tasks.get(stripe(taskId.hashCode()));
+    }
+
+    /** Invalidates everything versioned by these generations. */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate(event.taskId(), event.affectedAssignees());
+    }
+
+    /** Bumps what a write to the task affects; also applied for writes made by other nodes. */
+    public void invalidate(Integer taskId, Collection<String> affectedAssignees) {
+        anyWrite.incrementAndGet();
+        tasks.incrementAndGet(stripe(taskId.hashCode()));
+        for (String assignee : affectedAssignees) {
+            assignees.incrementAndGet(stripe(assignee.hashCode()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        invalidateAll();
+    }
+
+    private static int stripe(int hash) {
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,177 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskNodeResponse;
+import com.taskmanagement.dto.response.TaskProgressResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.TaskClosureRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskHierarchyService;
+import com.taskmanagement.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Task hierarchy on the {@code task_closure} table: subtree, ancestors and roll-up are each one indexed query
+ * (after the usual lookup of the task itself), and a move is two set-based statements however large the subtree.
+ * The levels below a top-level task are capped at {@code app.hierarchy.max-depth}, which bounds the table at that
+ * many rows per task. Tasks are looked up in the store itself, not through the caching {@link TaskService}: a
+ * stale cache entry must not decide whether a task exists inside the transaction that links it.
+ */
+@Service
+@Profile("!logstore")
+public class TaskHierarchyServiceImpl implements TaskHierarchyService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskHierarchyServiceImpl.class);
+
+    private final TaskService taskService;
+    private final TaskClosureRepository closureRepository;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final int maxDepth;
+
+    public TaskHierarchyServiceImpl(@Qualifier(CoalescingTaskService.TASK_STORE) TaskService taskService,
+                                    TaskClosureRepository closureRepository,
+                                    TaskRepository taskRepository,
+                                    TaskMapper taskMapper,
+                                    @Value("${app.hierarchy.max-depth:32}") int maxDepth) {
+        this.taskService = taskService;
+        this.closureRepository = closureRepository;
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse createSubtask(Integer parentId, TaskCreateRequest request) {
+        taskService.findById(parentId);
+        lockPath(null, parentId);
+        checkDepth(parentId, 0);
+        TaskResponse created = taskService.create(request);
+        closureRepository.attachSubtree(created.getId(), parentId);
+        log.info("Subtask created: id={}, parentId={}", created.getId(), parentId);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public void move(Integer id, Integer parentId) {
+        taskService.findById(id);
+        if (parentId != null) {
+            taskService.findById(parentId);
+        }
+        lockPath(id, parentId);
+        if (parentId != null) {
+            if (parentId.equals(id) || closureRepository.isAncestor(id, parentId)) {
+                throw new InvalidTaskRequestException(
+                        "Task " + id + " cannot be moved below itself or one of its subtasks (" + parentId + ").");
+            }
+            checkDepth(parentId, closureRepository.heightOf(id));
+        }
+        int removed = closureRepository.detachSubtree(id);
+        int added = parentId != null ? closureRepository.attachSubtree(id, parentId) : 0;
+        log.info("Task moved: id={}, parentId={}, linksRemoved={}, linksAdded={}", id, parentId, removed, added);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskNodeResponse> findSubtree(Integer id) {
+        taskService.findById(id);
+        List<Object[]> rows = closureRepository.findSubtree(id);
+        List<TaskNodeResponse> subtree = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            TaskResponse task = toResponse(row[2], row[3]);
+            if (task != null) {
+                subtree.add(new TaskNodeResponse((Integer) row[1], (Integer) row[0], task));
+            }
+        }
+        return subtree;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponse> findAncestors(Integer id) {
+        taskService.findById(id);
+        List<TaskResponse> ancestors = new ArrayList<>();
+        for (Object[] row : closureRepository.findAncestors(id)) {
+            TaskResponse task = toResponse(row[0], row[1]);
+            if (task != null) {
+                ancestors.add(task);
+            }
+        }
+        return ancestors;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskProgressResponse findProgress(Integer id) {
+        TaskResponse task = taskService.findById(id);
+        Object[] counts = closureRepository.countSubtasks(id).get(0);
+        long subtasks = ((Number) counts[0]).longValue();
+        long completed = ((Number) counts[1]).longValue();
+        double percent = subtasks > 0
+                ? Math.round(completed * 1000.0 / subtasks) / 10.0
+                : Boolean.TRUE.equals(task.getIsCompleted()) ? 100 : 0;
+        return new TaskProgressResponse(id, subtasks, completed, percent);
+    }
+
+    /**
+     * Runs inside the deleting transaction (the event is published before commit): the deleted task's children
+     * take its place under its parent.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            closureRepository.promoteChildren(event.taskId());
+            closureRepository.deleteLinks(event.taskId());
+        }
+    }
+
+    /**
+     * Locks the moved task and the new parent's path to the root (in ID order) so that concurrent moves over
+     * the same path are serialized and cannot create a cycle. Archived tasks have no hot row to lock.
+     */
+    private void lockPath(Integer id, Integer parentId) {
+        Set<Integer> ids = new TreeSet<>();
+        if (id != null) {
+            ids.add(id);
+        }
+        if (parentId != null) {
+            ids.add(parentId);
+            ids.addAll(closureRepository.findAncestorIds(parentId));
+        }
+        taskRepository.lockAllById(ids);
+    }
+
+    private void checkDepth(Integer parentId, int movedHeight) {
+        int depth = closureRepository.depthOf(parentId) + 1 + movedHeight;
+        if (depth > maxDepth) {
+            throw new InvalidTaskRequestException(
+                    "Subtasks can be at most " + maxDepth + " levels below their top-level task; this would make " + depth + ".");
+        }
+    }
+
+    private TaskResponse toResponse(Object hot, Object archived) {
+        if (hot != null) {
+            return taskMapper.toResponse((Task) hot);
+        }
+        return archived != null ? taskMapper.toResponse((ArchivedTask) archived) : null;
+    }
+}
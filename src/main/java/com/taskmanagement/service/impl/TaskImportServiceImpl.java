@@ -0,0 +1,254 @@
+package com.taskmanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskmanagement.config.FlexibleInstantDeserializer;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskImportResult;
+import com.taskmanagement.dto.response.TaskImportSummary;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.exception.TooManyImportsException;
+import com.taskmanagement.service.TaskImportService;
+import com.taskmanagement.service.TaskService;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bulk import on top of {@link TaskService#createAll}: records are read one at a time
+ * ({@link ImportRecordReader}), checked, and created {@code app.import.chunk-size} at a time, each chunk in its
+ * own transaction, with its results handed to the {@link TaskImportService.Listener} right after the commit.
+ * Only one chunk of records and results is held at a time, so memory does not grow with the upload.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    private static final List<String> CSV_COLUMNS = List.of("title", "description", "isCompleted", "dueDate", "assignedTo");
+
+    private final TaskService taskService;
+    private final Validator validator;
+    private final ObjectReader jsonReader;
+    private final int chunkSize;
+    private final int maxRecordLength;
+    private final int maxConcurrent;
+    private final Semaphore running;
+
+    public TaskImportServiceImpl(TaskService taskService,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.import.chunk-size:500}") int chunkSize,
+                                 @Value("${app.import.max-record-length:65536}") int maxRecordLength,
+                                 @Value("${app.import.max-concurrent:2}") int maxConcurrent) {
+        this.taskService = taskService;
+        this.validator = validator;
+        this.jsonReader = objectMapper.readerFor(TaskCreateRequest.class);
+        this.chunkSize = chunkSize;
+        this.maxRecordLength = maxRecordLength;
+        this.maxConcurrent = maxConcurrent;
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public TaskImportSummary importTasks(Reader upload, Format format, Listener listener) throws IOException {
+        if (!running.tryAcquire()) {
+            throw new TooManyImportsException(maxConcurrent);
+        }
+        try {
+            return run(upload, format, listener);
+        } finally {
+            running.release();
+        }
+    }
+
+    private TaskImportSummary run(Reader upload, Format format, Listener listener) throws IOException {
+        long started = System.nanoTime();
+        ImportRecordReader records = new ImportRecordReader(upload, format == Format.CSV, maxRecordLength);
+        Map<String, Integer> columns = null;
+        if (format == Format.CSV) {
+            ImportRecordReader.Record header = records.next();
+            if (header == null) {
+                return new TaskImportSummary();
+            }
+            columns = csvHeader(header);
+        }
+        TaskImportSummary summary = new TaskImportSummary();
+        List<ParsedRecord> chunk = new ArrayList<>(chunkSize);
+        ImportRecordReader.Record record;
+        while ((record = records.next()) != null) {
+            summary.setRecords(summary.getRecords() + 1);
+            chunk.add(columns != null ? parseCsv(record, columns) : parseJson(record));
+            if (chunk.size() == chunkSize) {
+                store(chunk, summary, listener);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            store(chunk, summary, listener);
+        }
+        log.info("Tasks imported: format={}, records={}, created={}, rejected={}, chunks={}, failedChunks={}, ms={}",
+                format, summary.getRecords(), summary.getCreated(), summary.getRejected(), summary.getChunks(),
+                summary.getFailedChunks(), (System.nanoTime() - started) / 1_000_000);
+        return summary;
+    }
+
+    private void store(List<ParsedRecord> chunk, TaskImportSummary summary, Listener listener) throws IOException {
+        List<TaskCreateRequest> valid = chunk.stream().filter(ParsedRecord::valid).map(ParsedRecord::request).toList();
+        Iterator<TaskResponse> created = null;
+        boolean failed = false;
+        if (!valid.isEmpty()) {
+            try {
+                created = taskService.createAll(valid).iterator();
+                summary.setChunks(summary.getChunks() + 1);
+            } catch (RuntimeException e) {
+                failed = true;
+                summary.setFailedChunks(summary.getFailedChunks() + 1);
+                log.warn("Import chunk failed: lines={}-{}", chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e);
+            }
+        }
+        List<TaskImportResult> results = new ArrayList<>(chunk.size());
+        for (ParsedRecord record : chunk) {
+            if (!record.valid()) {
+                results.add(TaskImportResult.rejected(record.line(), record.errors()));
+            } else if (failed) {
+                results.add(TaskImportResult.rejected(record.line(),
+                        List.of("The chunk containing this record could not be stored. Please import it again.")));
+            } else {
+                results.add(TaskImportResult.created(record.line(), created.next().getId()));
+            }
+        }
+        long createdCount = failed ? 0 : valid.size();
+        summary.setCreated(summary.getCreated() + createdCount);
+        summary.setRejected(summary.getRejected() + chunk.size() - createdCount);
+        listener.chunkDone(results);
+    }
+
+    private ParsedRecord parseJson(ImportRecordReader.Record record) {
+        if (record.truncated()) {
+            return tooLong(record);
+        }
+        TaskCreateRequest request;
+        try {
+            request = jsonReader.readValue(record.text());
+        } catch (JsonProcessingException e) {
+            return ParsedRecord.rejected(record.line(), List.of("Malformed JSON: " + e.getOriginalMessage()));
+        }
+        if (request == null) {
+            return ParsedRecord.rejected(record.line(), List.of("Expected a JSON object"));
+        }
+        return validated(record.line(), request, new ArrayList<>());
+    }
+
+    private ParsedRecord parseCsv(ImportRecordReader.Record record, Map<String, Integer> columns) {
+        if (record.truncated()) {
+            return tooLong(record);
+        }
+        List<String> fields;
+        try {
+            fields = ImportRecordReader.csvFields(record.text());
+        } catch (IllegalArgumentException e) {
+            return ParsedRecord.rejected(record.line(), List.of(e.getMessage()));
+        }
+        if (fields.size() != columns.size()) {
+            return ParsedRecord.rejected(record.line(),
+                    List.of("Expected " + columns.size() + " fields but found " + fields.size()));
+        }
+        List<String> errors = new ArrayList<>();
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(field(fields, columns, "title"));
+        request.setDescription(field(fields, columns, "description"));
+        request.setAssignedTo(field(fields, columns, "assignedTo"));
+        String completed = field(fields, columns, "isCompleted");
+        if (completed != null) {
+            switch (completed.trim().toLowerCase(Locale.ROOT)) {
+                case "true" -> request.setIsCompleted(true);
+                case "false" -> request.setIsCompleted(false);
+                default -> errors.add("isCompleted: must be true or false");
+            }
+        }
+        try {
+            request.setDueDate(FlexibleInstantDeserializer.parse(field(fields, columns, "dueDate")));
+        } catch (IllegalArgumentException e) {
+            errors.add("dueDate: " + e.getMessage());
+        }
+        return validated(record.line(), request, errors);
+    }
+
+    /** Bean Validation constraints of {@link TaskCreateRequest}, then the service's own checks. */
+    private ParsedRecord validated(long line, TaskCreateRequest request, List<String> errors) {
+        validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .forEach(errors::add);
+        if (errors.isEmpty()) {
+            try {
+                TaskRequests.validateTitle(request.getTitle());
+            } catch (InvalidTaskRequestException e) {
+                errors.add("title: " + e.getMessage());
+            }
+        }
+        return errors.isEmpty() ? new ParsedRecord(line, request, null) : ParsedRecord.rejected(line, errors);
+    }
+
+    private ParsedRecord tooLong(ImportRecordReader.Record record) {
+        return ParsedRecord.rejected(record.line(), List.of("Record is longer than " + maxRecordLength + " characters"));
+    }
+
+    /** @return column name to field index */
+    private Map<String, Integer> csvHeader(ImportRecordReader.Record header) {
+        List<String> names = header.truncated() ? List.of() : ImportRecordReader.csvFields(header.text());
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = column(names.get(i).replace("\uFEFF", "").trim());
+            if (name == null) {
+                throw new InvalidTaskRequestException("Unknown CSV column '" + names.get(i).trim()
+                        + "'. Columns are: " + String.join(", ", CSV_COLUMNS) + ".");
+            }
+            if (columns.put(name, i) != null) {
+                throw new InvalidTaskRequestException("CSV column '" + name + "' appears more than once.");
+            }
+        }
+        if (!columns.containsKey("title")) {
+            throw new InvalidTaskRequestException(
+                    "The first CSV line must be a header with at least a 'title' column, e.g. title,description,dueDate.");
+        }
+        return columns;
+    }
+
+    private static String column(String name) {
+        return CSV_COLUMNS.stream().filter(column -> column.equalsIgnoreCase(name)).findFirst().orElse(null);
+    }
+
+    /** @return the field, or {@code null} when the column is absent or the field empty */
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || fields.get(index).isEmpty() ? null : fields.get(index);
+    }
+
+    /** One record after parsing: a request to create, or the reasons it cannot be. */
+    private record ParsedRecord(long line, TaskCreateRequest request, List<String> errors) {
+
+        static ParsedRecord rejected(long line, List<String> errors) {
+            return new ParsedRecord(line, null, errors);
+        }
+
+        boolean valid() {
+            return errors == null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanagement.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.repository.TaskFilterQueries;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of whole list pages keyed by filter, page, size and sort plus the {@link TaskGenerations}
+ * the page depends on: the assignee's generation for assignee-filtered pages, the any-write generation otherwise.
+ * A write therefore only makes the affected pages unreachable.
+ */
+@Component
+public class TaskPageCache {
+
+    private final boolean enabled;
+    private final TaskGenerations generations;
+    private final Cache<PageKey, PagedTaskResponse> pages;
+
+    public TaskPageCache(TaskGenerations generations,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.page-cache.enabled:true}") boolean enabled,
+                         @Value("${app.page-cache.max-entries:1000}") long maxEntries,
+                         @Value("${app.page-cache.ttl:PT5M}") Duration ttl) {
+        this.generations = generations;
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "tasks.pages");
+    }
+
+    /**
+     * Key for the current generations. Take it before loading, so a page loaded concurrently with a write
+     * is stored under the pre-write generation and never served afterwards.
+     */
+    public PageKey key(Boolean completed, String assignedTo, LabelExpression labels, boolean includeArchived,
+                       Pageable pageable) {
+        String assignee = TaskFilterQueries.normalizeAssignee(assignedTo);
+        return new PageKey(generations.forAssignee(assignee), completed, assignee,
+                labels != null ? labels.toString() : null, includeArchived,
+                pageable.isPaged() ? pageable.getOffset() : -1,
+                pageable.isPaged() ? pageable.getPageSize() : -1,
+                pageable.getSort());
+    }
+
+    public PagedTaskResponse get(PageKey key) {
+        return enabled ? pages.getIfPresent(key) : null;
+    }
+
+    public void put(PageKey key, PagedTaskResponse page) {
+        if (enabled) {
+            pages.put(key, page);
+        }
+    }
+
+    /** {@code labels} is the canonical form of the label filter. */
+    public record PageKey(long generation, Boolean completed, String assignee, String labels, boolean includeArchived,
+                          long offset, int size, Sort sort) {
+    }
+}
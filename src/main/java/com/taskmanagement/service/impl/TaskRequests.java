@@ -0,0 +1,86 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.label.TaskLabels;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/** Request checks shared by the {@code TaskService} implementations, so each storage engine rejects the same input. */
+final class TaskRequests {
+
+    static final int MAX_LOOKUP_IDS = 500;
+
+    /** Column of each task property a list can be sorted by. */
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+            Map.entry("id", "id"),
+            Map.entry("title", "title"),
+            Map.entry("description", "description"),
+            Map.entry("isCompleted", "is_completed"),
+            Map.entry("dueDate", "due_date"),
+            Map.entry("createdAt", "created_at"),
+            Map.entry("updatedAt", "updated_at"),
+            Map.entry("createdBy", "created_by"),
+            Map.entry("updatedBy", "updated_by"),
+            Map.entry("assignedTo", "assigned_to"),
+            Map.entry("assignedAt", "assigned_at"),
+            Map.entry("labels", "labels"));
+
+    private TaskRequests() {
+    }
+
+    static void validateTitle(String title) {
+        if (title == null || title.isBlank()) {
+            throw new InvalidTaskRequestException("Task title is required and cannot be blank. Please provide a title.");
+        }
+        if (title.length() > 100) {
+            throw new InvalidTaskRequestException("Task title must not exceed 100 characters. Please shorten the title.");
+        }
+    }
+
+    static void validateLabels(List<String> labels) {
+        TaskLabels.validate(labels);
+    }
+
+    /** Distinct non-null IDs in request order, at most {@value #MAX_LOOKUP_IDS}. */
+    static Set<Integer> lookupIds(List<Integer> ids) {
+        Set<Integer> requested = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(requested::add);
+        if (requested.size() > MAX_LOOKUP_IDS) {
+            throw new InvalidTaskRequestException(
+                    "At most " + MAX_LOOKUP_IDS + " task IDs can be looked up at once. Please split the request.");
+        }
+        return requested;
+    }
+
+    /** Direction of a sort that is by ID only (unsorted counts as ascending), otherwise {@code null}. */
+    static Sort.Direction idDirection(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Sort.Direction.ASC;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && "id".equals(orders.get(0).getProperty()) ? orders.get(0).getDirection() : null;
+    }
+
+    /**
+     * The same sort by database column, for native queries over {@code tasks} and {@code tasks_archive}.
+     *
+     * @throws InvalidTaskRequestException if a property is not a sortable task column
+     */
+    static Sort columnSort(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidTaskRequestException("Cannot sort by '" + order.getProperty() + "'.");
+            }
+            orders.add(order.withProperty(column));
+        }
+        return Sort.by(orders);
+    }
+}
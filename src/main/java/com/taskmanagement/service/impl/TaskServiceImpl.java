@@ -3,107 +3,310 @@ package com.taskmanagement.service.impl;
 import com.taskmanagement.dto.request.TaskCreateRequest;
 import com.taskmanagement.dto.request.TaskUpdateRequest;
 import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.ArchivedTask;
 import com.taskmanagement.entity.Task;
-import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.event.TaskChangedEvent;
 import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.label.TaskLabelIndex;
 import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskFilterQueries;
 import com.taskmanagement.repository.TaskRepository;
-import com.taskmanagement.repository.TaskSpecification;
+import com.taskmanagement.repository.TaskViewRepository;
 import com.taskmanagement.service.TaskService;
+import org.roaringbitmap.RoaringBitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 @Service
+@Profile("!logstore")
+@Qualifier(CoalescingTaskService.TASK_STORE)
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger log = LoggerFactory.getLogger(TaskServiceImpl.class);
+    static final int LOOKUP_CHUNK_SIZE = 128;
 
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskViewRepository taskViewRepository;
     private final TaskMapper taskMapper;
+    private final TaskTotalCounter totalCounter;
+    private final TaskLabelIndex labelIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskServiceImpl(TaskRepository taskRepository,
+                           ArchivedTaskRepository archivedTaskRepository,
+                           TaskViewRepository taskViewRepository,
+                           TaskMapper taskMapper,
+                           TaskTotalCounter totalCounter,
+                           TaskLabelIndex labelIndex,
+                           ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskViewRepository = taskViewRepository;
         this.taskMapper = taskMapper;
+        this.totalCounter = totalCounter;
+        this.labelIndex = labelIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PagedTaskResponse findAll(Boolean completed, String assignedTo, Pageable pageable) {
-        Page<Task> page = taskRepository.findAll(
-                TaskSpecification.withFilters(completed, assignedTo),
-                pageable);
-        List<TaskResponse> content = page.getContent().stream()
-                .map(taskMapper::toResponse)
-                .collect(Collectors.toList());
-        log.debug("findAll: completed={}, assignedTo={}, page={}, total={}", completed, assignedTo, page.getNumber(), page.getTotalElements());
+    public PagedTaskResponse findAll(Boolean completed, String assignedTo, LabelExpression labels,
+                                     boolean includeArchived, Pageable pageable) {
+        if (labels != null) {
+            return findLabelled(completed, assignedTo, labels, includeArchived, pageable);
+        }
+        OptionalLong knownTotal = totalCounter.knownTotal(completed, assignedTo, includeArchived);
+        Page<TaskResponse> page = includeArchived
+                ? findPage(taskViewRepository, completed, assignedTo, pageable, knownTotal).map(taskMapper::toResponse)
+                : findPage(taskRepository, completed, assignedTo, pageable, knownTotal).map(taskMapper::toResponse);
+        if (knownTotal.isEmpty()) {
+            totalCounter.record(completed, assignedTo, includeArchived, page.getTotalElements());
+        }
+        log.debug("findAll: completed={}, assignedTo={}, includeArchived={}, page={}, total={}, exactTotal={}",
+                completed, assignedTo, includeArchived, page.getNumber(), page.getTotalElements(), knownTotal.isEmpty());
+        return new PagedTaskResponse(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isFirst(),
+                page.isLast(),
+                knownTotal.isEmpty()
+        );
+    }
+
+    /**
+     * Answered from {@link TaskLabelIndex}: the matching IDs and the exact total come from its bitmaps, so no count
+     * query runs. Sorted by ID, the page's IDs are picked from the bitmap by rank and only those rows are loaded.
+     * Any other sort binds the matching IDs into one query up to {@code app.labels.max-bound-ids} of them; above
+     * that, the IDs are joined as one array to sort out the page's IDs, then those rows are loaded.
+     */
+    private PagedTaskResponse findLabelled(Boolean completed, String assignedTo, LabelExpression labels,
+                                           boolean includeArchived, Pageable pageable) {
+        RoaringBitmap matching = labelIndex.matching(labels, completed, assignedTo, includeArchived);
+        List<TaskResponse> content = includeArchived
+                ? findLabelledPage(taskViewRepository, matching, pageable).stream().map(taskMapper::toResponse).toList()
+                : findLabelledPage(taskRepository, matching, pageable).stream().map(taskMapper::toResponse).toList();
+        Page<TaskResponse> page = new PageImpl<>(content, pageable, matching.getLongCardinality());
+        log.debug("findAll: completed={}, assignedTo={}, labels={}, includeArchived={}, page={}, total={}",
+                completed, assignedTo, labels, includeArchived, page.getNumber(), page.getTotalElements());
         return new PagedTaskResponse(
-                content,
+                page.getContent(),
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast()
+                page.isLast(),
+                true
         );
     }
 
+    private <T> List<T> findLabelledPage(TaskFilterQueries<T> repository, RoaringBitmap matching, Pageable pageable) {
+        if (matching.isEmpty()) {
+            return List.of();
+        }
+        Sort.Direction idDirection = TaskRequests.idDirection(pageable.getSort());
+        if (idDirection != null) {
+            List<Integer> ids = pageOfIds(matching, pageable, idDirection);
+            return ids.isEmpty() ? List.of() : repository.findPageByIds(ids, Pageable.unpaged(Sort.by(idDirection, "id")));
+        }
+        long matches = matching.getLongCardinality();
+        if (matches <= labelIndex.maxBoundIds()) {
+            List<Integer> ids = new ArrayList<>((int) matches);
+            matching.forEach((int id) -> ids.add(id));
+            return repository.findPageByIds(ids, pageable);
+        }
+        // ties broken by ID, so the ID page and the rows loaded for it are in the same order
+        Sort sort = pageable.getSort().getOrderFor("id") != null ? pageable.getSort() : pageable.getSort().and(Sort.by("id"));
+        Sort columns = TaskRequests.columnSort(sort);
+        Integer[] matchingIds = new Integer[(int) matches];
+        int next = 0;
+        for (int id : matching) {
+            matchingIds[next++] = id;
+        }
+        List<Integer> ids = repository.findIdPageAmong(matchingIds, pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), columns)
+                : Pageable.unpaged(columns));
+        return ids.isEmpty() ? List.of() : repository.findPageByIds(ids, Pageable.unpaged(sort));
+    }
+
+    /** The IDs on the requested page, read by rank from the bitmap. */
+    private static List<Integer> pageOfIds(RoaringBitmap matching, Pageable pageable, Sort.Direction direction) {
+        long total = matching.getLongCardinality();
+        long from = pageable.isPaged() ? Math.min(pageable.getOffset(), total) : 0;
+        long to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), total) : total;
+        List<Integer> ids = new ArrayList<>((int) (to - from));
+        for (long rank = from; rank < to; rank++) {
+            ids.add(matching.select((int) (direction.isAscending() ? rank : total - 1 - rank)));
+        }
+        return ids;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TaskResponse findById(Integer id) {
-        Task task = taskRepository.findById(id)
+        TaskResponse task = taskRepository.findById(id)
+                .map(taskMapper::toResponse)
+                .or(() -> archivedTaskRepository.findById(id).map(taskMapper::toResponse))
                 .orElseThrow(() -> new TaskNotFoundException(id));
         log.debug("findById: id={}", id);
-        return taskMapper.toResponse(task);
+        return task;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskLookupResponse findAllByIds(List<Integer> ids) {
+        Set<Integer> requested = TaskRequests.lookupIds(ids);
+        Map<Integer, TaskResponse> found = new HashMap<>();
+        for (List<Integer> chunk : chunks(requested)) {
+            taskRepository.findAllById(chunk).forEach(task -> found.put(task.getId(), taskMapper.toResponse(task)));
+        }
+        List<Integer> archiveCandidates = requested.stream().filter(id -> !found.containsKey(id)).toList();
+        for (List<Integer> chunk : chunks(archiveCandidates)) {
+            archivedTaskRepository.findAllById(chunk)
+                    .forEach(task -> found.put(task.getId(), taskMapper.toResponse(task)));
+        }
+        List<TaskResponse> tasks = new ArrayList<>(found.size());
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : requested) {
+            TaskResponse task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        log.debug("findAllByIds: requested={}, found={}, missing={}", requested.size(), tasks.size(), missingIds.size());
+        return new TaskLookupResponse(tasks, missingIds);
     }
 
     @Override
     @Transactional
     public TaskResponse create(TaskCreateRequest request) {
-        validateTitle(request.getTitle());
+        TaskRequests.validateTitle(request.getTitle());
+        TaskRequests.validateLabels(request.getLabels());
         Task task = taskMapper.toEntity(request);
         task = taskRepository.save(task);
         log.info("Task created: id={}, title={}", task.getId(), task.getTitle());
-        return taskMapper.toResponse(task);
+        TaskResponse created = taskMapper.toResponse(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<TaskResponse> createAll(List<TaskCreateRequest> requests) {
+        requests.forEach(request -> {
+            TaskRequests.validateTitle(request.getTitle());
+            TaskRequests.validateLabels(request.getLabels());
+        });
+        List<Task> tasks = taskRepository.saveAll(requests.stream().map(taskMapper::toEntity).toList());
+        List<TaskResponse> created = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            TaskResponse response = taskMapper.toResponse(task);
+            eventPublisher.publishEvent(TaskChangedEvent.created(response));
+            created.add(response);
+        }
+        log.info("Tasks created: count={}", created.size());
+        return created;
     }
 
     @Override
     @Transactional
     public TaskResponse update(Integer id, TaskUpdateRequest request) {
         Task task = taskRepository.findById(id)
+                .or(() -> restoreFromArchive(id))
                 .orElseThrow(() -> new TaskNotFoundException(id));
         if (request.getTitle() != null) {
-            validateTitle(request.getTitle());
+            TaskRequests.validateTitle(request.getTitle());
         }
+        TaskRequests.validateLabels(request.getLabels());
+        TaskResponse before = taskMapper.toResponse(task);
         taskMapper.updateEntity(task, request);
         task = taskRepository.save(task);
         log.info("Task updated: id={}", id);
-        return taskMapper.toResponse(task);
+        TaskResponse updated = taskMapper.toResponse(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, updated));
+        return updated;
     }
 
     @Override
     @Transactional
     public void deleteById(Integer id) {
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
+        Optional<Task> task = taskRepository.findById(id);
+        if (task.isPresent()) {
+            taskRepository.delete(task.get());
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(taskMapper.toResponse(task.get())));
+        } else {
+            ArchivedTask archived = archivedTaskRepository.findById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            archivedTaskRepository.delete(archived);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(taskMapper.toResponse(archived)));
         }
-        taskRepository.deleteById(id);
         log.info("Task deleted: id={}", id);
     }
 
-    private void validateTitle(String title) {
-        if (title == null || title.isBlank()) {
-            throw new InvalidTaskRequestException("Task title is required and cannot be blank. Please provide a title.");
+    /** Updating an archived task moves it back to the hot table first. */
+    private Optional<Task> restoreFromArchive(Integer id) {
+        if (!archivedTaskRepository.existsById(id)) {
+            return Optional.empty();
         }
-        if (title.length() > 100) {
-            throw new InvalidTaskRequestException("Task title must not exceed 100 characters. Please shorten the title.");
+        taskRepository.restoreFromArchive(id);
+        archivedTaskRepository.deleteById(id);
+        log.info("Task restored from archive: id={}", id);
+        return taskRepository.findById(id);
+    }
+
+    /**
+     * Reads one page through the precompiled filter shape; the count query runs only when no reusable
+     * total is known (and, as with Spring Data paging, not when the first page is already partial).
+     */
+    private static <T> Page<T> findPage(TaskFilterQueries<T> repository, Boolean completed, String assignedTo,
+                                        Pageable pageable, OptionalLong knownTotal) {
+        List<T> content = repository.findFiltered(completed, assignedTo, pageable);
+        if (knownTotal.isPresent()) {
+            return new PageImpl<>(content, pageable, knownTotal.getAsLong());
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> repository.countFiltered(completed, assignedTo));
+    }
+
+    /**
+     * Splits IDs into {@value #LOOKUP_CHUNK_SIZE}-element {@code IN} lists; with parameter padding on, every full
+     * chunk reuses one cached statement.
+     */
+    private static List<List<Integer>> chunks(Collection<Integer> ids) {
+        List<Integer> all = List.copyOf(ids);
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK_SIZE) {
+            chunks.add(all.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, all.size())));
         }
+        return chunks;
     }
 }
@@ -0,0 +1,130 @@
+package com.taskmanagement.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.repository.TaskFilterQueries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps list totals per filter signature so that list calls can skip {@code count(*)},
+ * according to the configured {@link TaskCountStrategy}.
+ */
+@Component
+public class TaskTotalCounter {
+
+    private static final boolean[] BOTH_SCOPES = {false, true};
+
+    private final TaskCountStrategy strategy;
+    private final Cache<CountKey, AtomicLong> totals;
+
+    public TaskTotalCounter(@Value("${app.count.strategy:exact}") TaskCountStrategy strategy,
+                            @Value("${app.count.ttl:PT30S}") Duration ttl,
+                            @Value("${app.count.max-entries:10000}") long maxEntries) {
+        this.strategy = strategy;
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public TaskCountStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Total that can be reused without a count query, or empty when the caller has to count.
+     */
+    public OptionalLong knownTotal(Boolean completed, String assignedTo, boolean includeArchived) {
+        if (strategy == TaskCountStrategy.EXACT) {
+            return OptionalLong.empty();
+        }
+        AtomicLong total = totals.getIfPresent(CountKey.of(completed, assignedTo, includeArchived));
+        return total != null ? OptionalLong.of(Math.max(0, total.get())) : OptionalLong.empty();
+    }
+
+    public void record(Boolean completed, String assignedTo, boolean includeArchived, long total) {
+        if (strategy != TaskCountStrategy.EXACT) {
+            totals.put(CountKey.of(completed, assignedTo, includeArchived), new AtomicLong(total));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (strategy == TaskCountStrategy.EXACT || !changesFilterAttributes(event.before(), event.after())) {
+            return;
+        }
+        if (event.before() != null) {
+            adjust(event.before(), -1);
+        }
+        if (event.after() != null) {
+            adjust(event.after(), 1);
+        }
+    }
+
+    /** Archived rows leave every hot-only total; totals including the archive are unchanged. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        totals.asMap().keySet().removeIf(key -> !key.includeArchived());
+    }
+
+    /**
+     * Drops the totals a write by another node may have changed: unfiltered by assignee or filtered by one of
+     * {@code affectedAssignees}. Unlike local writes, the task's before/after state is not known here.
+     */
+    public void invalidate(Collection<String> affectedAssignees) {
+        totals.asMap().keySet().removeIf(key -> key.assignee() == null || affectedAssignees.contains(key.assignee()));
+    }
+
+    public void invalidateAll() {
+        totals.invalidateAll();
+    }
+
+    /** Visits every cached signature the task is counted in: any/own completion x any/own assignee x both scopes. */
+    private void adjust(TaskResponse task, int delta) {
+        String assignee = TaskFilterQueries.normalizeAssignee(task.getAssignedTo());
+        Boolean[] completions = {null, task.getIsCompleted()};
+        String[] assignees = assignee != null ? new String[]{null, assignee} : new String[]{null};
+        for (Boolean completed : completions) {
+            for (String candidate : assignees) {
+                for (boolean includeArchived : BOTH_SCOPES) {
+                    CountKey key = new CountKey(completed, candidate, includeArchived);
+                    if (strategy == TaskCountStrategy.CACHED) {
+                        totals.invalidate(key);
+                    } else {
+                        AtomicLong total = totals.getIfPresent(key);
+                        if (total != null) {
+                            total.addAndGet(delta);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean changesFilterAttributes(TaskResponse before, TaskResponse after) {
+        if (before == null || after == null) {
+            return true;
+        }
+        return !Objects.equals(before.getIsCompleted(), after.getIsCompleted())
+                || !Objects.equals(TaskFilterQueries.normalizeAssignee(before.getAssignedTo()),
+                TaskFilterQueries.normalizeAssignee(after.getAssignedTo()));
+    }
+
+    private record CountKey(Boolean completed, String assignee, boolean includeArchived) {
+
+        static CountKey of(Boolean completed, String assignedTo, boolean includeArchived) {
+            return new CountKey(completed, TaskFilterQueries.normalizeAssignee(assignedTo), includeArchived);
+        }
+    }
+}
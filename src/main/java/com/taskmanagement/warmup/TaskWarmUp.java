@@ -0,0 +1,149 @@
+package com.taskmanagement.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.invalidation.TaskCacheInvalidator;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs synthetic create, get and list cycles through {@link TaskService} and the {@link ObjectMapper} before the
+ * application reports ready, so the first real requests do not pay for a cold JIT, an empty connection pool and
+ * unbuilt Hibernate query plans and Jackson serializers. Spring Boot marks the application ready only after all
+ * {@link ApplicationRunner}s return, so the readiness probe refuses traffic until this is done.
+ * <p>
+ * Each cycle runs in its own transaction that is rolled back, so nothing is stored and no change event is
+ * delivered (the only trace is the skipped IDs). Pages and totals cached during the warm-up may include the
+ * rolled-back tasks, so they are flushed at the end. A failing warm-up is logged and does not hold back readiness.
+ * <p>
+ * Metric: {@code tasks.warmup.duration}.
+ */
+@Component
+@Profile("!logstore")
+@ConditionalOnProperty(name = "app.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class TaskWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskWarmUp.class);
+
+    /** Set on the warm-up threads; {@code logback-spring.xml} drops their events (e.g. "Task created"). */
+    public static final String MDC_KEY = "warm-up";
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+    private static final int ASSIGNEES = 10;
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskCacheInvalidator cacheInvalidator;
+    private final Timer duration;
+    private final int iterations;
+    private final int threads;
+
+    public TaskWarmUp(TaskService taskService,
+                      ObjectMapper objectMapper,
+                      PlatformTransactionManager transactionManager,
+                      TaskCacheInvalidator cacheInvalidator,
+                      MeterRegistry meterRegistry,
+                      @Value("${app.warm-up.iterations:200}") int iterations,
+                      @Value("${app.warm-up.threads:2}") int threads) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.duration = Timer.builder("tasks.warmup.duration")
+                .description("Time spent warming up before reporting ready")
+                .register(meterRegistry);
+        this.iterations = iterations;
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int completed = warmUp();
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+        duration.record(took);
+        log.info("Warm-up done: cycles={}, threads={}, took={} ms", completed, threads, took.toMillis());
+    }
+
+    /**
+     * Runs {@code iterations} cycles spread over {@code threads} threads (several threads so the connection pool
+     * opens more than one connection).
+     *
+     * @return number of cycles completed
+     */
+    int warmUp() {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    MDC.put(MDC_KEY, "true");
+                    for (int i = next.getAndIncrement(); i < iterations; i = next.getAndIncrement()) {
+                        int cycle = i;
+                        transactionTemplate.executeWithoutResult(status -> {
+                            cycle(cycle);
+                            status.setRollbackOnly();
+                        });
+                        completed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (Exception e) {
+            log.warn("Warm-up stopped early after {} cycles: {}", completed.get(), e.toString());
+        } finally {
+            cacheInvalidator.invalidateAll("warm-up");
+        }
+        return completed.get();
+    }
+
+    private void cycle(int i) {
+        try {
+            String assignee = "warm-up-" + (i % ASSIGNEES);
+            TaskCreateRequest request = objectMapper.readValue("""
+                    {"title":"Warm-up %d","description":"Synthetic task, rolled back","dueDate":"2026-02-18T14:08",
+                     "assignedTo":"%s"}""".formatted(i, assignee), TaskCreateRequest.class);
+            TaskResponse created = taskService.create(request);
+            objectMapper.writeValueAsBytes(taskService.findById(created.getId()));
+            PageRequest page = PageRequest.of(i % ASSIGNEES, 20, DEFAULT_SORT);
+            PagedTaskResponse all = taskService.findAll(null, null, false, page);
+            PagedTaskResponse assigned = taskService.findAll(false, assignee, false, page.first());
+            objectMapper.writeValueAsBytes(all);
+            objectMapper.writeValueAsBytes(assigned);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Warm-up payload could not be processed", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskmanagement;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DurableProfileTest {
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void tasksSurviveRestart() {
+        Integer id;
+        try (ConfigurableApplicationContext context = start()) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Persisted");
+            id = context.getBean(TaskService.class).create(request).getId();
+        }
+        assertThat(storage.resolve("taskdb.mv.db")).satisfies(file -> assertThat(Files.exists(file)).isTrue());
+
+        try (ConfigurableApplicationContext context = start()) {
+            TaskResponse task = context.getBean(TaskService.class).findById(id);
+            assertThat(task.getTitle()).isEqualTo("Persisted");
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("durable")
+                .run("--app.storage.path=" + storage, "--server.port=0", "--app.archive.enabled=false");
+    }
+}
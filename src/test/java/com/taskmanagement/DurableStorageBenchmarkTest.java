@@ -0,0 +1,160 @@
+package com.taskmanagement;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.logstore.TaskLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Write throughput (one commit per task, as with one request per task), heap retained by the data and
+ * recovery after a simulated crash ({@code SHUTDOWN IMMEDIATELY}) for in-memory H2, the {@code durable}
+ * profile's file settings and the {@code logstore} profile's {@link TaskLog}. Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class DurableStorageBenchmarkTest {
+
+    private static final int ROWS = 50_000;
+    private static final String TUNED = ";CACHE_SIZE=65536;WRITE_DELAY=0;AUTO_COMPACT_FILL_RATE=90"
+            + ";MAX_COMPACT_TIME=2000;PAGE_SIZE=16384;DB_CLOSE_ON_EXIT=FALSE";
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void compareStorageModes() throws Exception {
+        try (Connection warmup = DriverManager.getConnection("jdbc:h2:mem:warmup", "sa", "")) {
+            createSchema(warmup);
+            insert(warmup);
+        }
+        System.out.printf("%-22s %10s %12s %12s %14s%n", "mode", "writes/s", "heap MB", "recovery ms", "rows recovered");
+        run("mem", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1", Recovery.NONE);
+        run("file (durable)", "jdbc:h2:file:" + storage.resolve("tuned") + TUNED, Recovery.ALL);
+        run("file (WRITE_DELAY=500)", "jdbc:h2:file:" + storage.resolve("delayed") + TUNED.replace("WRITE_DELAY=0", "WRITE_DELAY=500"),
+                Recovery.SOME);
+        runLogStore();
+    }
+
+    private void runLogStore() throws Exception {
+        Path file = storage.resolve("tasks.log");
+        long heapBefore = usedHeap();
+        TaskLog taskLog = TaskLog.open(file, 16 * 1024 * 1024, false);
+        Instant now = Instant.now();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            Task task = new Task("Task " + i, "Description of task " + i + " with enough text to resemble a real task body",
+                    i % 3 == 0, now);
+            task.setId(i + 1);
+            task.setCreatedAt(now);
+            task.setAssignedTo("user" + (i % 100));
+            taskLog.put(task);
+        }
+        double writesPerSecond = ROWS / ((System.nanoTime() - start) / 1e9);
+        long heapRetained = usedHeap() - heapBefore;
+
+        // reopened without closing, like a killed process: only what reached the mapping is there
+        start = System.nanoTime();
+        long recovered;
+        try (TaskLog reopened = TaskLog.open(file, 16 * 1024 * 1024, false)) {
+            recovered = reopened.size();
+        }
+        long recoveryMillis = (System.nanoTime() - start) / 1_000_000;
+        taskLog.close();
+
+        System.out.printf("%-22s %10.0f %12d %12d %14d%n", "log store", writesPerSecond, heapRetained / (1024 * 1024),
+                recoveryMillis, recovered);
+        assertThat(recovered).isEqualTo(ROWS);
+    }
+
+    private void run(String mode, String url, Recovery recovery) throws SQLException {
+        long heapBefore = usedHeap();
+        double writesPerSecond;
+        long heapRetained;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            createSchema(connection);
+            writesPerSecond = insert(connection);
+            heapRetained = usedHeap() - heapBefore;
+            try (Statement statement = connection.createStatement()) {
+                // closes the store without flushing or compacting, like a killed process
+                statement.execute("SHUTDOWN IMMEDIATELY");
+            } catch (SQLException expected) {
+                // the connection is gone after an immediate shutdown
+            }
+        }
+
+        long start = System.nanoTime();
+        long recovered;
+        try (Connection connection = DriverManager.getConnection(url.replace("bench;DB_CLOSE_DELAY=-1", "bench"), "sa", "");
+             Statement statement = connection.createStatement()) {
+            ResultSet tables = connection.getMetaData().getTables(null, null, "TASKS", null);
+            recovered = tables.next() ? count(statement) : 0;
+        }
+        long recoveryMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("%-22s %10.0f %12d %12d %14d%n", mode, writesPerSecond, heapRetained / (1024 * 1024),
+                recoveryMillis, recovered);
+        switch (recovery) {
+            case NONE -> assertThat(recovered).isZero();
+            // a delayed write loses whatever was not flushed yet
+            case SOME -> assertThat(recovered).isPositive();
+            case ALL -> assertThat(recovered).isEqualTo(ROWS);
+        }
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table tasks (id integer generated by default as identity primary key,
+                        title varchar(100) not null, description varchar(2000), is_completed boolean not null,
+                        due_date timestamp(6) with time zone, created_at timestamp(6) with time zone not null,
+                        assigned_to varchar(100))""");
+        }
+    }
+
+    private static double insert(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        Timestamp now = Timestamp.from(Instant.now());
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into tasks (title, description, is_completed, due_date, created_at, assigned_to) values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setString(1, "Task " + i);
+                insert.setString(2, "Description of task " + i + " with enough text to resemble a real task body");
+                insert.setBoolean(3, i % 3 == 0);
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.setString(6, "user" + (i % 100));
+                insert.executeUpdate();
+                connection.commit();
+            }
+        }
+        return ROWS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static long count(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("select count(*) from tasks")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private enum Recovery { NONE, SOME, ALL }
+}
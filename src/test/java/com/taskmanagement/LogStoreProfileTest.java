@@ -0,0 +1,44 @@
+package com.taskmanagement;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.impl.LogStructuredTaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogStoreProfileTest {
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void runsWithoutJpaAndKeepsTasksAcrossRestarts() {
+        Integer id;
+        try (ConfigurableApplicationContext context = start()) {
+            assertThat(context.getBeanNamesForType(DataSource.class)).isEmpty();
+            assertThat(context.getBeansOfType(LogStructuredTaskService.class)).hasSize(1);
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Logged");
+            id = context.getBean(TaskService.class).create(request).getId();
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            TaskResponse task = context.getBean(TaskService.class).findById(id);
+            assertThat(task.getTitle()).isEqualTo("Logged");
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("logstore")
+                .run("--app.logstore.path=" + storage.resolve("tasks.log"), "--server.port=0");
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.config.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(10, 2, 20, Duration.ofSeconds(1), 0.5, 0.5);
+
+    @Test
+    void rejectsOverLimitWithoutQueueing() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(Priority.WRITE)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(Priority.WRITE)).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shedsScansBeforeWrites() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(Priority.SCAN)).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire(Priority.SCAN)).isFalse();
+        assertThat(limiter.tryAcquire(Priority.READ)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.WRITE)).isTrue();
+    }
+
+    @Test
+    void growsWhenSaturatedAndFast() {
+        acquire(6);
+        release(6, FAST, false);
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        acquire(1);
+        release(1, FAST, false);
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void backsOffOnSlowOrFailedRequestsDownToMinimum() {
+        acquire(1);
+        release(1, SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        acquire(3);
+        release(3, FAST, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private void acquire(int n) {
+        for (int i = 0; i < n; i++) {
+            assertThat(limiter.tryAcquire(Priority.WRITE)).isTrue();
+        }
+    }
+
+    private void release(int n, long latencyNanos, boolean dropped) {
+        for (int i = 0; i < n; i++) {
+            limiter.release(latencyNanos, dropped);
+        }
+    }
+}
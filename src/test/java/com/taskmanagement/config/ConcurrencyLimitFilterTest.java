@@ -0,0 +1,70 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofSeconds(1), 0.5, 0.5);
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(limiter, Duration.ofMillis(1500), meterRegistry);
+
+    @Test
+    void shedsListScansWith503AndRetryAfterWhileWritesStillRun() throws Exception {
+        // one request already in flight uses the scan share (half of 2)
+        assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.WRITE)).isTrue();
+        AtomicInteger reachedController = new AtomicInteger();
+
+        MockHttpServletResponse scan = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), scan,
+                (req, res) -> reachedController.incrementAndGet());
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/tasks"), write,
+                (req, res) -> reachedController.incrementAndGet());
+
+        assertThat(scan.getStatus()).isEqualTo(503);
+        assertThat(scan.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(reachedController).hasValue(1);
+        assertThat(meterRegistry.get("tasks.concurrency.rejected").tag("priority", "scan").counter().count())
+                .isEqualTo(1);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void serverErrorsShrinkTheLimit() throws Exception {
+        AdaptiveConcurrencyLimiter wide = new AdaptiveConcurrencyLimiter(8, 1, 10, Duration.ofSeconds(1), 0.5, 1);
+        ConcurrencyLimitFilter failing = new ConcurrencyLimitFilter(wide, Duration.ofSeconds(1), meterRegistry);
+
+        failing.doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(500));
+
+        assertThat(wide.limit()).isEqualTo(4);
+        assertThat(wide.inFlight()).isZero();
+    }
+
+    @Test
+    void classifiesRequests() {
+        MockHttpServletRequest multiGet = new MockHttpServletRequest("GET", "/api/tasks");
+        multiGet.setParameter("ids", "1,2");
+
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("GET", "/api/tasks")))
+                .isEqualTo(AdaptiveConcurrencyLimiter.Priority.SCAN);
+        assertThat(ConcurrencyLimitFilter.priority(multiGet)).isEqualTo(AdaptiveConcurrencyLimiter.Priority.READ);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("GET", "/api/tasks/7")))
+                .isEqualTo(AdaptiveConcurrencyLimiter.Priority.READ);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("GET", "/api/tasks/next")))
+                .isEqualTo(AdaptiveConcurrencyLimiter.Priority.READ);
+        assertThat(ConcurrencyLimitFilter.priority(new MockHttpServletRequest("DELETE", "/api/tasks/7")))
+                .isEqualTo(AdaptiveConcurrencyLimiter.Priority.WRITE);
+    }
+}
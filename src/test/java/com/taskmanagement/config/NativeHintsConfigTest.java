@@ -0,0 +1,32 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.dto.response.TaskImportResult;
+import com.taskmanagement.dto.response.TaskImportSummary;
+import com.taskmanagement.exception.ApiError;
+import com.taskmanagement.logging.DropCountingAsyncAppender;
+import com.taskmanagement.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTest {
+
+    @Test
+    void registersBindingHintsForErrorBody() {
+        RuntimeHints hints = new RuntimeHints();
+
+        new NativeHintsConfig.Hints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ApiError.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ApiError.class, "getErrorCode")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TaskImportResult.class, "getStatus")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TaskImportSummary.class, "getCreated")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(SamplingTurboFilter.class, "setOneIn")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(DropCountingAsyncAppender.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
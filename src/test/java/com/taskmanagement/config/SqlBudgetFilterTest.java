@@ -0,0 +1,61 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlBudgetFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlBudgetFilter filter = new SqlBudgetFilter(meterRegistry, 3, 3, true);
+    private final SqlStatementRecorder recorder = new SqlStatementRecorder();
+
+    @Test
+    void recordsStatementsPerRouteAndSetsDebugHeaders() throws Exception {
+        MockHttpServletRequest request = request();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            recorder.inspect("select 1");
+            recorder.inspect("select 2");
+        });
+
+        assertThat(response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER)).isEqualTo("2");
+        assertThat(response.getHeader(SqlBudgetFilter.TIME_HEADER)).isNotNull();
+        assertThat(meterRegistry.get("tasks.http.sql.statements").tag("uri", "/api/tasks/{id}").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry.find("tasks.http.sql.budget.exceeded").counter()).isNull();
+        assertThat(SqlStatementRecorder.current()).isNull();
+    }
+
+    @Test
+    void flagsRequestsOverBudgetAndRepeatedStatements() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 4; i++) {
+                recorder.inspect("select * from tasks where id = ?");
+            }
+        });
+
+        assertThat(meterRegistry.get("tasks.http.sql.budget.exceeded").tag("reason", "statements").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("tasks.http.sql.budget.exceeded").tag("reason", "repeated").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void ignoresStatementsOutsideRequests() {
+        recorder.inspect("select 1");
+
+        assertThat(SqlStatementRecorder.current()).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        return request;
+    }
+}
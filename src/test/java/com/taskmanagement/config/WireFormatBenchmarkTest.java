@@ -0,0 +1,78 @@
+package com.taskmanagement.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Size and encode/decode throughput of a full list page (100 tasks) in JSON, Smile and CBOR,
+ * using mappers configured like the application's. Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+
+    @Test
+    void compareFormats() throws Exception {
+        PagedTaskResponse page = samplePage(100);
+        System.out.printf("%-6s %10s %14s %14s%n", "format", "bytes", "encode ops/s", "decode ops/s");
+        long jsonSize = 0;
+        for (JsonFactory factory : List.of(new JsonFactory(), new SmileFactory(), new CBORFactory())) {
+            ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .factory(factory)
+                    .build();
+            byte[] encoded = mapper.writeValueAsBytes(page);
+            double encodeRate = opsPerSecond(() -> mapper.writeValueAsBytes(page));
+            double decodeRate = opsPerSecond(() -> mapper.readValue(encoded, PagedTaskResponse.class));
+            System.out.printf("%-6s %10d %14.0f %14.0f%n", factory.getFormatName(), encoded.length, encodeRate, decodeRate);
+            if (jsonSize == 0) {
+                jsonSize = encoded.length;
+            } else {
+                assertThat(encoded.length).isLessThan((int) jsonSize);
+            }
+        }
+    }
+
+    private static double opsPerSecond(ThrowingRunnable operation) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            operation.run();
+        }
+        return MEASURED_ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static PagedTaskResponse samplePage(int size) {
+        Instant base = Instant.parse("2026-02-18T14:08:00Z");
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse(i + 1, "Task number " + i, "Description of task " + i + " with some detail",
+                    i % 3 == 0, base.plusSeconds(86_400L * i), base, base.plusSeconds(i), "creator", "editor",
+                    "assignee-" + (i % 7), base, List.of("backend", "label-" + (i % 5))));
+        }
+        return new PagedTaskResponse(tasks, 0, size, 10_000, 100, true, false, true);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
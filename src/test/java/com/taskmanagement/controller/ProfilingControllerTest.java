@@ -0,0 +1,103 @@
+package com.taskmanagement.controller;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.profiling.enabled=true",
+        "app.profiling.max-duration=PT10S",
+        "app.archive.enabled=false",
+        "app.reminders.enabled=false",
+        "app.rate-limit.requests-per-minute=100000"
+})
+@AutoConfigureMockMvc
+class ProfilingControllerTest {
+
+    private static final String RECORDINGS = "/api/admin/profiling/recordings";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordingContainsTaskEvents() throws Exception {
+        MvcResult recording = mockMvc.perform(post(RECORDINGS).param("duration", "PT3S"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Profiled\",\"dueDate\":\"2026-02-18T14:08\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tasks").param("assignedTo", "alice"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post(RECORDINGS).param("duration", "PT1S"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("CONFLICT"));
+
+        byte[] jfr = mockMvc.perform(asyncDispatch(recording))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString(".jfr")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.write(dir.resolve("recording.jfr"), jfr);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.taskmanagement.TaskServiceCall");
+            assertThat(event.getString("operation")).isEqualTo("findAll");
+            assertThat(event.getString("assignedTo")).isEqualTo("alice");
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.taskmanagement.TaskServiceCall");
+            assertThat(event.getString("operation")).isEqualTo("create");
+            assertThat(event.getInt("rows")).isEqualTo(1);
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.taskmanagement.DateParse");
+            assertThat(event.getString("format")).isEqualTo("LOCAL_DATE_TIME_NO_SECONDS");
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("com.taskmanagement.RateLimitDecision");
+            assertThat(event.getBoolean("allowed")).isTrue();
+        });
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+    }
+
+    @Test
+    void rejectsDurationOverLimit() throws Exception {
+        mockMvc.perform(post(RECORDINGS).param("duration", "PT1H"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void rejectsUnknownSettings() throws Exception {
+        mockMvc.perform(post(RECORDINGS).param("duration", "PT1S").param("settings", "custom"))
+                .andExpect(status().isBadRequest());
+    }
+}
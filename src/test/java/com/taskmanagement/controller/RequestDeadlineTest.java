@@ -0,0 +1,112 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.config.DeadlineFilter;
+import com.taskmanagement.config.DeadlineTransactionManager;
+import com.taskmanagement.config.RequestDeadline;
+import com.taskmanagement.exception.DeadlineExceededException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.page-cache.enabled=false",
+        "app.coalescing.enabled=false",
+        "app.archive.enabled=false",
+        "app.reminders.enabled=false",
+        "app.rate-limit.requests-per-minute=100000"
+})
+@AutoConfigureMockMvc
+class RequestDeadlineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.stop();
+    }
+
+    @Test
+    void expiredRequestIsCancelledBeforeReachingTheDatabase() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(DeadlineFilter.TIMEOUT_HEADER, "0"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.errorCode").value("DEADLINE_EXCEEDED"))
+                .andExpect(SqlStatements.count(0));
+    }
+
+    @Test
+    void requestWithinDeadlineRuns() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(DeadlineFilter.TIMEOUT_HEADER, "5000"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsMalformedTimeoutHeader() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(DeadlineFilter.TIMEOUT_HEADER, "soon"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void remainingTimeBecomesTransactionAndStatementTimeout() {
+        assertThat(transactionManager).isInstanceOf(DeadlineTransactionManager.class);
+        RequestDeadline.start(Duration.ofMillis(2500));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            assertThat(holder.getTimeToLiveInMillis()).isBetween(1L, 2500L);
+            Session session = holder.getEntityManager().unwrap(Session.class);
+            assertThat(session.getTransaction().getTimeout()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void declaredTimeoutWinsWhenShorter() {
+        RequestDeadline.start(Duration.ofSeconds(20));
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(2);
+
+        template.executeWithoutResult(status -> {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            assertThat(holder.getEntityManager().unwrap(Session.class).getTransaction().getTimeout()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void noDeadlineMeansNoTimeout() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            assertThat(holder.hasTimeout()).isFalse();
+        });
+    }
+
+    @Test
+    void expiredDeadlineRefusesTransaction() {
+        RequestDeadline.start(Duration.ZERO);
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        })).isInstanceOf(DeadlineExceededException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.config.SqlBudgetFilter;
+import com.taskmanagement.config.SqlStatementRecorder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers on the SQL a request ran, as recorded by {@link SqlBudgetFilter}; requires a full
+ * application context (not {@code @WebMvcTest}) so Hibernate reports to {@link SqlStatementRecorder}.
+ */
+final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    /** Fails with the statements that ran unless there were exactly {@code expected}. */
+    static ResultMatcher count(int expected) {
+        return result -> {
+            SqlStatementRecorder.Recording recording = (SqlStatementRecorder.Recording)
+                    result.getRequest().getAttribute(SqlBudgetFilter.RECORDING_ATTRIBUTE);
+            assertThat(recording).as("no SQL recording; is the request under /api/*?").isNotNull();
+            String statements = recording.statementCounts().entrySet().stream()
+                    .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                    .collect(Collectors.joining(System.lineSeparator()));
+            assertThat(recording.statements())
+                    .as("SQL statements run by %s %s:%n%s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI(), statements)
+                    .isEqualTo(expected);
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.config.SqlBudgetFilter;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.label.TaskLabelIndex;
+import com.taskmanagement.next.NextTaskQueues;
+import com.taskmanagement.repository.TaskClosureRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskHierarchyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exact SQL statement counts per {@link TaskController} endpoint, so a change that adds queries (an N+1,
+ * a lost count optimization) fails the build. Caching (pages and absent IDs) and coalescing are off so every
+ * request reaches the database; update the expected count deliberately when a change needs more statements.
+ */
+@SpringBootTest(properties = {
+        "app.page-cache.enabled=false",
+        "app.absent-cache.enabled=false",
+        "app.coalescing.enabled=false",
+        "app.count.strategy=exact",
+        "app.archive.enabled=false",
+        "app.reminders.enabled=false",
+        "app.rate-limit.requests-per-minute=100000",
+        "app.sql-budget.debug-header=true",
+        "app.labels.max-bound-ids=10"
+})
+@AutoConfigureMockMvc
+class TaskControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskHierarchyService hierarchyService;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    @Autowired
+    private TaskLabelIndex labelIndex;
+
+    @Autowired
+    private NextTaskQueues nextTaskQueues;
+
+    private Integer id;
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, 25).forEach(i -> taskRepository.save(new Task("Task " + i, null, i % 2 == 0, null)));
+        id = taskRepository.findAll().get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        closureRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void listFirstFullPage_runsSelectAndCount() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2))
+                .andExpect(header().string(SqlBudgetFilter.STATEMENTS_HEADER, "2"));
+    }
+
+    @Test
+    void listPartialPage_skipsCount() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("completed", "true").param("assignedTo", "nobody"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void listIncludingArchived_runsSelectAndCount() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("includeArchived", "true").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+    }
+
+    @Test
+    void listByLabels_runsOneSelectByIdOrUpToMaxBoundIds() throws Exception {
+        taskRepository.findAll().forEach(task -> {
+            task.setLabels(task.getIsCompleted() ? "done,even" : task.getId() % 3 == 0 ? "odd,few" : "odd");
+            taskRepository.save(task);
+        });
+        labelIndex.rebuild();
+
+        mockMvc.perform(get("/api/tasks").param("labels", "even AND NOT odd").param("sort", "id,desc").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1));
+        mockMvc.perform(get("/api/tasks").param("labels", "few").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void listByLabelsWithManyMatchesSortedByOtherFields_sortsTheIdsThenLoadsThePage() throws Exception {
+        taskRepository.findAll().forEach(task -> {
+            task.setLabels("all");
+            taskRepository.save(task);
+        });
+        labelIndex.rebuild();
+
+        mockMvc.perform(get("/api/tasks").param("labels", "all").param("sort", "title").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(SqlStatements.count(2));
+        mockMvc.perform(get("/api/tasks").param("labels", "all").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20))
+                .andExpect(SqlStatements.count(2));
+    }
+
+    @Test
+    void nextTasks_loadOnlyTheTopRowsById() throws Exception {
+        taskRepository.findAll().forEach(task -> {
+            task.setAssignedTo("john");
+            taskRepository.save(task);
+        });
+        nextTaskQueues.rebuild();
+
+        mockMvc.perform(get("/api/tasks/next").param("assignedTo", "John").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void getById_runsOneSelect() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void getMissingById_checksHotTableAndArchive() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", Integer.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(SqlStatements.count(2));
+    }
+
+    @Test
+    void multiGet_runsOneSelectPerTableIndependentOfIdCount() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("ids", id + "," + (id + 1) + "," + (id + 2) + "," + Integer.MAX_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+    }
+
+    @Test
+    void create_runsOneInsert() throws Exception {
+        mockMvc.perform(post("/api/tasks").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"New\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void update_runsSelectAndUpdate() throws Exception {
+        mockMvc.perform(put("/api/tasks/{id}", id).contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+    }
+
+    @Test
+    void delete_runsSelectDeleteAndHierarchyUpdates() throws Exception {
+        mockMvc.perform(delete("/api/tasks/{id}", id))
+                .andExpect(status().isNoContent())
+                .andExpect(SqlStatements.count(4))
+                .andExpect(header().string(SqlBudgetFilter.STATEMENTS_HEADER, "4"));
+    }
+
+    @Test
+    void subtasksAncestorsAndProgress_runOneQueryAtAnyDepth() throws Exception {
+        Integer parent = id;
+        for (int level = 0; level < 5; level++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Level " + level);
+            parent = hierarchyService.createSubtask(parent, request).getId();
+        }
+
+        mockMvc.perform(get("/api/tasks/{id}/subtasks", id))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+        mockMvc.perform(get("/api/tasks/{id}/ancestors", parent))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+        mockMvc.perform(get("/api/tasks/{id}/progress", id))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2));
+    }
+}
@@ -1,27 +1,46 @@
 package com.taskmanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskmanagement.config.WebConfig;
 import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskParentRequest;
 import com.taskmanagement.dto.request.TaskUpdateRequest;
 import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskNodeResponse;
+import com.taskmanagement.dto.response.TaskProgressResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.InvalidTaskRequestException;
 import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.next.NextTaskQueues;
+import com.taskmanagement.service.TaskHierarchyService;
 import com.taskmanagement.service.TaskService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -42,15 +61,21 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskHierarchyService hierarchyService;
+
+    @MockBean
+    private NextTaskQueues nextTaskQueues;
+
     @Autowired
     private com.fasterxml.jackson.databind.ObjectMapper objectMapper;
 
     private static final Instant DUE = Instant.parse("2025-12-31T23:59:59Z");
     private final TaskResponse taskResponse = new TaskResponse(
-            1, "Test Task", "Description", false, DUE, null, null, null, null, null, null);
+            1, "Test Task", "Description", false, DUE, null, null, null, null, null, null, null);
 
     private static PagedTaskResponse paged(TaskResponse... items) {
-        return new PagedTaskResponse(List.of(items), 0, 20, items.length, 1, true, true);
+        return new PagedTaskResponse(List.of(items), 0, 20, items.length, 1, true, true, true);
     }
 
     @Nested
@@ -59,7 +84,7 @@ class TaskControllerTest {
 
         @Test
         void returns200AndPagedTasks() throws Exception {
-            when(taskService.findAll(any(), any(), any(Pageable.class))).thenReturn(paged(taskResponse));
+            when(taskService.findAll(any(), any(), any(), anyBoolean(), any(Pageable.class))).thenReturn(paged(taskResponse));
 
             mockMvc.perform(get("/api/tasks"))
                     .andExpect(status().isOk())
@@ -73,11 +98,55 @@ class TaskControllerTest {
 
         @Test
         void withCompletedParam_callsServiceWithFilter() throws Exception {
-            when(taskService.findAll(eq(true), any(), any(Pageable.class))).thenReturn(paged(taskResponse));
+            when(taskService.findAll(eq(true), any(), any(), anyBoolean(), any(Pageable.class))).thenReturn(paged(taskResponse));
 
             mockMvc.perform(get("/api/tasks").param("completed", "true"))
                     .andExpect(status().isOk());
-            verify(taskService).findAll(eq(true), eq(null), any(Pageable.class));
+            verify(taskService).findAll(eq(true), eq(null), eq(null), eq(false), any(Pageable.class));
+        }
+
+        @Test
+        void withIncludeArchivedParam_callsServiceWithArchive() throws Exception {
+            when(taskService.findAll(any(), any(), any(), anyBoolean(), any(Pageable.class))).thenReturn(paged(taskResponse));
+
+            mockMvc.perform(get("/api/tasks").param("includeArchived", "true"))
+                    .andExpect(status().isOk());
+            verify(taskService).findAll(eq(null), eq(null), eq(null), eq(true), any(Pageable.class));
+        }
+
+        @Test
+        void withLabelsParam_callsServiceWithParsedExpression() throws Exception {
+            when(taskService.findAll(any(), any(), any(), anyBoolean(), any(Pageable.class))).thenReturn(paged(taskResponse));
+
+            mockMvc.perform(get("/api/tasks").param("labels", "Backend and (urgent or not later)"))
+                    .andExpect(status().isOk());
+            verify(taskService).findAll(eq(null), eq(null),
+                    eq(LabelExpression.parse("backend AND (urgent OR NOT later)")), eq(false), any(Pageable.class));
+        }
+
+        @Test
+        void withMalformedLabelsParam_returns400() throws Exception {
+            mockMvc.perform(get("/api/tasks").param("labels", "backend AND (urgent"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(containsString("Invalid label filter")));
+            verify(taskService, never()).findAll(any(), any(), any(), anyBoolean(), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/tasks?ids=")
+    class GetTasksByIds {
+
+        @Test
+        void returns200WithFoundTasksAndMissingIds() throws Exception {
+            when(taskService.findAllByIds(List.of(1, 99)))
+                    .thenReturn(new TaskLookupResponse(List.of(taskResponse), List.of(99)));
+
+            mockMvc.perform(get("/api/tasks").param("ids", "1,99"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.tasks[0].id").value(1))
+                    .andExpect(jsonPath("$.missingIds[0]").value(99));
+            verify(taskService, never()).findAll(any(), any(), any(), anyBoolean(), any(Pageable.class));
         }
     }
 
@@ -174,6 +243,56 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Binary wire formats")
+    class BinaryFormats {
+
+        @Autowired
+        private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+        @Test
+        void getWithSmileAccept_returnsSmileBody() throws Exception {
+            when(taskService.findById(1)).thenReturn(taskResponse);
+            ObjectMapper smile = objectMapperBuilder.factory(new SmileFactory()).build();
+
+            byte[] body = mockMvc.perform(get("/api/tasks/1").accept(WebConfig.APPLICATION_SMILE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(WebConfig.APPLICATION_SMILE))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            TaskResponse decoded = smile.readValue(body, TaskResponse.class);
+            assertThat(decoded.getTitle()).isEqualTo("Test Task");
+            assertThat(decoded.getDueDate()).isEqualTo(DUE);
+        }
+
+        @Test
+        void getWithoutAccept_staysJson() throws Exception {
+            when(taskService.findById(1)).thenReturn(taskResponse);
+
+            mockMvc.perform(get("/api/tasks/1"))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        }
+
+        @Test
+        void postCborBody_usesFlexibleDateParsing() throws Exception {
+            when(taskService.create(any(TaskCreateRequest.class))).thenReturn(taskResponse);
+            ObjectMapper cbor = objectMapperBuilder.factory(new CBORFactory()).build();
+            byte[] body = cbor.writeValueAsBytes(java.util.Map.of("title", "Binary", "dueDate", "2026-02-18T14:08"));
+
+            mockMvc.perform(post("/api/tasks")
+                            .contentType(MediaType.APPLICATION_CBOR)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+
+            ArgumentCaptor<TaskCreateRequest> captor = ArgumentCaptor.forClass(TaskCreateRequest.class);
+            verify(taskService).create(captor.capture());
+            assertThat(captor.getValue().getDueDate())
+                    .isEqualTo(LocalDateTime.of(2026, 2, 18, 14, 8).atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/tasks/{id}")
     class DeleteTask {
@@ -194,4 +313,87 @@ class TaskControllerTest {
                     .andExpect(status().isNotFound());
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/tasks/next")
+    class GetNextTasks {
+
+        @Test
+        void returnsTheAssigneesQueueRatherThanATaskById() throws Exception {
+            when(nextTaskQueues.next("john", 3)).thenReturn(List.of(taskResponse));
+
+            mockMvc.perform(get("/api/tasks/next").param("assignedTo", "john").param("limit", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(1));
+            verify(taskService, never()).findById(any());
+        }
+
+        @Test
+        void whenQueueRejectsRequest_returns400() throws Exception {
+            when(nextTaskQueues.next(null, 10)).thenThrow(new InvalidTaskRequestException("assignedTo is required."));
+
+            mockMvc.perform(get("/api/tasks/next"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Subtasks")
+    class Subtasks {
+
+        @Test
+        void getSubtasks_returnsNodesWithParentAndDepth() throws Exception {
+            when(hierarchyService.findSubtree(5)).thenReturn(List.of(new TaskNodeResponse(5, 1, taskResponse)));
+
+            mockMvc.perform(get("/api/tasks/5/subtasks"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].parentId").value(5))
+                    .andExpect(jsonPath("$[0].depth").value(1))
+                    .andExpect(jsonPath("$[0].task.id").value(1));
+        }
+
+        @Test
+        void postSubtask_returns201WithTaskLocation() throws Exception {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Child");
+            when(hierarchyService.createSubtask(eq(5), any(TaskCreateRequest.class))).thenReturn(taskResponse);
+
+            mockMvc.perform(post("/api/tasks/5/subtasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Location", containsString("/api/tasks/1")));
+        }
+
+        @Test
+        void getProgress_returnsRollUp() throws Exception {
+            when(hierarchyService.findProgress(5)).thenReturn(new TaskProgressResponse(5, 4, 1, 25.0));
+
+            mockMvc.perform(get("/api/tasks/5/progress"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.subtasks").value(4))
+                    .andExpect(jsonPath("$.percentComplete").value(25.0));
+        }
+
+        @Test
+        void putParent_whenCycle_returns400() throws Exception {
+            TaskParentRequest request = new TaskParentRequest();
+            request.setParentId(7);
+            org.mockito.Mockito.doThrow(new InvalidTaskRequestException("cycle")).when(hierarchyService).move(5, 7);
+
+            mockMvc.perform(put("/api/tasks/5/parent")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void putParent_withNull_makesTaskTopLevel() throws Exception {
+            mockMvc.perform(put("/api/tasks/5/parent")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"parentId\":null}"))
+                    .andExpect(status().isNoContent());
+            verify(hierarchyService).move(5, null);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.DeadlineFilter;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.page-cache.enabled=false",
+        "app.coalescing.enabled=false",
+        "app.archive.enabled=false",
+        "app.reminders.enabled=false",
+        "app.rate-limit.requests-per-minute=100000"
+})
+@AutoConfigureMockMvc
+class TaskImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void ndjsonUploadIsStoredAndReportedLineByLine() throws Exception {
+        StringBuilder upload = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            upload.append("{\"title\":\"Imported ").append(i).append("\",\"assignedTo\":\"importer\"}\n");
+        }
+        upload.append("{\"title\":\"   \"}\n");
+
+        // a zero deadline would fail any other task request; imports are not bound by it
+        String body = mockMvc.perform(post("/api/tasks/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header(DeadlineFilter.TIMEOUT_HEADER, "0")
+                        .content(upload.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> lines = lines(body);
+        assertThat(lines).hasSize(1202);
+        assertThat(lines.get(0).get("status").asText()).isEqualTo("CREATED");
+        JsonNode rejected = lines.get(1200);
+        assertThat(rejected.get("line").asLong()).isEqualTo(1201);
+        assertThat(rejected.get("status").asText()).isEqualTo("REJECTED");
+        JsonNode summary = lines.get(1201);
+        assertThat(summary.get("created").asLong()).isEqualTo(1200);
+        assertThat(summary.get("rejected").asLong()).isEqualTo(1);
+        assertThat(summary.get("chunks").asInt()).isEqualTo(3);
+
+        int id = lines.get(1199).get("id").asInt();
+        assertThat(taskService.findById(id).getTitle()).isEqualTo("Imported 1199");
+    }
+
+    @Test
+    void csvUploadWithUnknownColumnIsRejectedUpFront() throws Exception {
+        mockMvc.perform(post("/api/tasks/import")
+                        .contentType("text/csv")
+                        .content("title,priority\nShip it,high\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"))
+                .andExpect(jsonPath("$.message").value(containsString("priority")));
+    }
+
+    @Test
+    void csvUploadIsImported() throws Exception {
+        String body = mockMvc.perform(post("/api/tasks/import")
+                        .contentType("text/csv")
+                        .content("title,dueDate\r\n\"Renew, certificates\",2026-02-18T14:08\r\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> lines = lines(body);
+        assertThat(lines).hasSize(2);
+        assertThat(taskService.findById(lines.get(0).get("id").asInt()).getTitle()).isEqualTo("Renew, certificates");
+    }
+
+    private List<JsonNode> lines(String body) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
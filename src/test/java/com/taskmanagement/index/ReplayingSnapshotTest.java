@@ -0,0 +1,102 @@
+package com.taskmanagement.index;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplayingSnapshotTest {
+
+    private final List<Integer> committed = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ExecutorService pool = Executors.newSingleThreadExecutor();
+    private CountDownLatch loading = new CountDownLatch(0);
+    private CountDownLatch release = new CountDownLatch(0);
+
+    private final ReplayingSnapshot<List<Integer>> snapshot = new ReplayingSnapshot<>("Test", this::load,
+            state -> "size=" + state.size(), Timer.builder("test.build").register(new SimpleMeterRegistry()));
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void firstReadBuildsAndChangesBeforeItAreLeftToTheBuild() {
+        snapshot.apply(state -> state.add(99));
+        committed.add(1);
+
+        assertThat(snapshot.measure(List::size)).isZero();
+        assertThat(contents()).containsExactly(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void rebuildIfStartedDoesNothingBeforeTheFirstBuild() {
+        snapshot.rebuildIfStarted();
+        assertThat(loads).hasValue(0);
+
+        snapshot.read(List::size);
+        snapshot.rebuildIfStarted();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void changesCommittedDuringARebuildAreReplayedOntoTheFreshState() throws Exception {
+        committed.add(1);
+        snapshot.read(List::size);
+        loading = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+
+        Future<?> rebuild = pool.submit(snapshot::rebuild);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // committed after the loader read the data: only the replay brings it into the fresh state
+        snapshot.apply(state -> state.add(2));
+        assertThat(contents()).containsExactly(1, 2);
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(contents()).containsExactly(1, 2);
+    }
+
+    @Test
+    void failedRebuildKeepsServingTheCurrentState() {
+        committed.add(1);
+        snapshot.read(List::size);
+        committed.add(null);
+
+        // List.copyOf rejects the null
+        assertThatThrownBy(snapshot::rebuild).isInstanceOf(NullPointerException.class);
+        snapshot.apply(state -> state.add(2));
+
+        assertThat(contents()).containsExactly(1, 2);
+    }
+
+    private List<Integer> contents() {
+        return snapshot.read(List::copyOf);
+    }
+
+    private List<Integer> load() {
+        loads.incrementAndGet();
+        List<Integer> state = new ArrayList<>(List.copyOf(committed));
+        loading.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return state;
+    }
+}
@@ -0,0 +1,172 @@
+package com.taskmanagement.invalidation;
+
+import com.taskmanagement.TaskManagementApplication;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.impl.TaskArchiver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two application contexts sharing one database, as two nodes behind a load balancer. Polls are triggered by
+ * hand (the scheduled poll is set far apart) so each step is deterministic.
+ */
+class CrossNodeInvalidationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("node-a", "create");
+        nodeB = start("node-b", "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext start(String nodeId, String ddlAuto) {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .run("--spring.datasource.url=jdbc:h2:mem:crossnode;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--server.port=0",
+                        "--app.archive.enabled=true",
+                        "--app.archive.initial-delay=P1D",
+                        "--app.reminders.enabled=false",
+                        "--app.invalidation.enabled=true",
+                        "--app.invalidation.node-id=" + nodeId,
+                        "--app.invalidation.poll-interval=P1D");
+    }
+
+    @Test
+    void updateOnOneNodeInvalidatesTheOthersCachedPage() {
+        TaskResponse task = service(nodeA).create(request("Draft", "alice"));
+        assertThat(titles(nodeB, "alice")).containsExactly("Draft");
+
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setTitle("Final");
+        service(nodeA).update(task.getId(), update);
+
+        assertThat(titles(nodeB, "alice")).as("served from node B's page cache").containsExactly("Draft");
+        poll(nodeB);
+        assertThat(titles(nodeB, "alice")).containsExactly("Final");
+    }
+
+    @Test
+    void createOnOneNodeInvalidatesTheOthersAbsentId() {
+        int next = service(nodeA).create(request("Before", null)).getId() + 1;
+        assertThatThrownBy(() -> service(nodeB).findById(next)).isInstanceOf(TaskNotFoundException.class);
+
+        assertThat(service(nodeA).create(request("After", null)).getId()).isEqualTo(next);
+
+        assertThatThrownBy(() -> service(nodeB).findById(next)).isInstanceOf(TaskNotFoundException.class);
+        poll(nodeB);
+        assertThat(service(nodeB).findById(next).getTitle()).isEqualTo("After");
+    }
+
+    @Test
+    void archivingFlushesEveryOtherNode() {
+        TaskCreateRequest done = request("Archived soon", "bob");
+        done.setIsCompleted(true);
+        service(nodeA).create(done);
+        poll(nodeB);
+
+        assertThat(nodeA.getBean(TaskArchiver.class).archiveCompletedBefore(Instant.now().plusSeconds(60))).isEqualTo(1);
+        poll(nodeB);
+
+        assertThat(nodeB.getBean(MeterRegistry.class).counter("tasks.invalidation.full-flushes", "reason", "published").count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(nodeA.getBean(MeterRegistry.class).find("tasks.invalidation.full-flushes").tag("reason", "published").counter())
+                .isNull();
+    }
+
+    @Test
+    void writeCommittedAfterABacklogFlushIsStillApplied() throws Exception {
+        TaskResponse task = service(nodeA).create(request("Early", "dave"));
+        poll(nodeB);
+        assertThat(titles(nodeB, "dave")).containsExactly("Early");
+        JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+
+        try (Connection late = nodeA.getBean(DataSource.class).getConnection()) {
+            // takes a lower seq than the backlog below, and commits only after node B flushed and skipped past it
+            late.setAutoCommit(false);
+            try (PreparedStatement update = late.prepareStatement("UPDATE tasks SET title = 'Late' WHERE id = ?");
+                 PreparedStatement publish = late.prepareStatement("INSERT INTO task_invalidations "
+                         + "(node_id, task_id, assignee, created_at) VALUES ('node-a', ?, 'dave', CURRENT_TIMESTAMP)")) {
+                update.setInt(1, task.getId());
+                update.executeUpdate();
+                publish.setInt(1, task.getId());
+                publish.executeUpdate();
+            }
+            jdbc.batchUpdate("INSERT INTO task_invalidations (node_id, task_id, created_at) "
+                    + "VALUES ('node-a', -1, CURRENT_TIMESTAMP)", Collections.nCopies(5001, new Object[0]));
+
+            poll(nodeB);
+            assertThat(titles(nodeB, "dave")).containsExactly("Early");
+            late.commit();
+        }
+
+        poll(nodeB);
+        assertThat(titles(nodeB, "dave")).containsExactly("Late");
+    }
+
+    @Test
+    void oneRowPerTransactionWrite() {
+        JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+        long before = count(jdbc);
+
+        service(nodeA).create(request("Counted", "carol"));
+
+        assertThat(count(jdbc)).isEqualTo(before + 1);
+        assertThat(jdbc.queryForObject("SELECT node_id FROM task_invalidations ORDER BY seq DESC FETCH FIRST 1 ROWS ONLY",
+                String.class)).isEqualTo("node-a");
+    }
+
+    private static long count(JdbcTemplate jdbc) {
+        Long count = jdbc.queryForObject("SELECT COUNT(*) FROM task_invalidations", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static TaskService service(ConfigurableApplicationContext node) {
+        return node.getBean(TaskService.class);
+    }
+
+    private static void poll(ConfigurableApplicationContext node) {
+        node.getBean(OutboxInvalidationChannel.class).poll();
+    }
+
+    private static List<String> titles(ConfigurableApplicationContext node, String assignee) {
+        PagedTaskResponse page = service(node).findAll(null, assignee, false, PageRequest.of(0, 20));
+        return page.getContent().stream().map(TaskResponse::getTitle).toList();
+    }
+
+    private static TaskCreateRequest request(String title, String assignee) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setAssignedTo(assignee);
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationSequenceTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void consecutiveNumbersLeaveNoGaps() {
+        InvalidationSequence sequence = new InvalidationSequence(10, Duration.ofSeconds(5), 100);
+
+        assertThat(sequence.accept(11, T0)).isTrue();
+        assertThat(sequence.accept(12, T0)).isTrue();
+
+        assertThat(sequence.readAfter()).isEqualTo(12);
+        assertThat(sequence.expireGaps(T0.plusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void lateCommitFillsItsGapAndIsAppliedOnce() {
+        InvalidationSequence sequence = new InvalidationSequence(10, Duration.ofSeconds(5), 100);
+        sequence.accept(13, T0);
+
+        assertThat(sequence.openGaps()).isEqualTo(2);
+        assertThat(sequence.readAfter()).isEqualTo(10);
+
+        // the next poll re-reads from below the gap: 12 is new, 13 was applied already
+        assertThat(sequence.accept(12, T0.plusSeconds(1))).isTrue();
+        assertThat(sequence.accept(13, T0.plusSeconds(1))).isFalse();
+        assertThat(sequence.readAfter()).isEqualTo(10);
+
+        assertThat(sequence.accept(11, T0.plusSeconds(2))).isTrue();
+        assertThat(sequence.readAfter()).isEqualTo(13);
+        assertThat(sequence.expireGaps(T0.plusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void gapThatNeverFillsRequiresAFlushOnce() {
+        InvalidationSequence sequence = new InvalidationSequence(10, Duration.ofSeconds(5), 100);
+        sequence.accept(12, T0);
+
+        assertThat(sequence.expireGaps(T0.plusSeconds(5))).isFalse();
+        assertThat(sequence.expireGaps(T0.plusSeconds(6))).isTrue();
+
+        assertThat(sequence.openGaps()).isZero();
+        assertThat(sequence.readAfter()).isEqualTo(12);
+        assertThat(sequence.expireGaps(T0.plusSeconds(7))).isFalse();
+    }
+
+    @Test
+    void tooManyOpenGapsRequireAFlushRightAway() {
+        InvalidationSequence sequence = new InvalidationSequence(10, Duration.ofSeconds(5), 3);
+        sequence.accept(20, T0);
+
+        assertThat(sequence.openGaps()).isZero();
+        assertThat(sequence.readAfter()).isEqualTo(20);
+        assertThat(sequence.expireGaps(T0)).isTrue();
+    }
+
+    @Test
+    void skipPassesCommittedNumbersAndKeepsUncommittedOnesOpen() {
+        InvalidationSequence sequence = new InvalidationSequence(10, Duration.ofSeconds(5), 1000);
+        sequence.accept(12, T0);
+        List<Long> committed = LongStream.rangeClosed(12, 500).filter(seq -> seq != 300).boxed().toList();
+
+        sequence.skip(committed, T0.plusSeconds(1));
+
+        // 11 from before the flush, 300 still held by an open transaction
+        assertThat(sequence.openGaps()).isEqualTo(2);
+        assertThat(sequence.highest()).isEqualTo(500);
+        assertThat(sequence.accept(300, T0.plusSeconds(2))).isTrue();
+        assertThat(sequence.accept(400, T0.plusSeconds(2))).isFalse();
+        assertThat(sequence.readAfter()).isEqualTo(10);
+        assertThat(sequence.expireGaps(T0.plusSeconds(2))).isFalse();
+    }
+
+    @Test
+    void skipClearsALossTheFlushCovered() {
+        InvalidationSequence sequence = new InvalidationSequence(10, Duration.ofSeconds(5), 1);
+        sequence.accept(20, T0);
+
+        sequence.skip(List.of(21L), T0);
+
+        assertThat(sequence.expireGaps(T0)).isFalse();
+        assertThat(sequence.readAfter()).isEqualTo(21);
+    }
+}
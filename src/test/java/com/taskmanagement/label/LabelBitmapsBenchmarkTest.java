@@ -0,0 +1,88 @@
+package com.taskmanagement.label;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Evaluating a multi-label filter on {@link LabelBitmaps} against scanning every task's labels (what the database
+ * does for a filter no single index answers), over a million tasks with skewed label popularity.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LabelBitmapsBenchmarkTest {
+
+    private static final int TASKS = 1_000_000;
+    private static final int LABELS = 200;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    void compareBitmapsWithScan() {
+        SplittableRandom random = new SplittableRandom(42);
+        LabelBitmaps bitmaps = new LabelBitmaps();
+        List<List<String>> labelsById = new ArrayList<>(TASKS);
+        boolean[] completed = new boolean[TASKS];
+        for (int id = 0; id < TASKS; id++) {
+            List<String> labels = new ArrayList<>(3);
+            for (int n = random.nextInt(4); n > 0; n--) {
+                // label k is roughly k times rarer than label 1
+                String label = "label-" + (int) Math.min(LABELS, 1 / random.nextDouble(1.0 / LABELS, 1.0));
+                if (!labels.contains(label)) {
+                    labels.add(label);
+                }
+            }
+            completed[id] = random.nextInt(10) < 6;
+            labelsById.add(labels);
+            bitmaps.add(id, labels, completed[id], "assignee-" + random.nextInt(1000), false);
+        }
+        LabelExpression filter = LabelExpression.parse("label-1 AND (label-2 OR label-3) AND NOT label-4");
+
+        long[] scanned = new long[1];
+        double scanRate = opsPerSecond(() -> scanned[0] = scan(labelsById, completed));
+        long[] matched = new long[1];
+        double bitmapRate = opsPerSecond(() -> {
+            RoaringBitmap matching = bitmaps.matching(filter, false, null, false);
+            matched[0] = matching.getLongCardinality();
+        });
+
+        System.out.printf("%-8s %10s %10s%n", "variant", "ops/s", "matches");
+        System.out.printf("%-8s %10.1f %10d%n", "scan", scanRate, scanned[0]);
+        System.out.printf("%-8s %10.1f %10d%n", "bitmaps", bitmapRate, matched[0]);
+        System.out.printf("index: %d labels, %d KiB%n", bitmaps.labels(), bitmaps.sizeInBytes() / 1024);
+
+        assertThat(matched[0]).isEqualTo(scanned[0]).isPositive();
+        assertThat(bitmapRate).isGreaterThan(scanRate);
+    }
+
+    /** open AND label-1 AND (label-2 OR label-3) AND NOT label-4, one task at a time. */
+    private static long scan(List<List<String>> labelsById, boolean[] completed) {
+        long matches = 0;
+        for (int id = 0; id < labelsById.size(); id++) {
+            List<String> labels = labelsById.get(id);
+            if (!completed[id] && labels.contains("label-1")
+                    && (labels.contains("label-2") || labels.contains("label-3"))
+                    && !labels.contains("label-4")) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static double opsPerSecond(Runnable operation) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            operation.run();
+        }
+        return MEASURED_ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.label;
+
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LabelExpressionTest {
+
+    @Test
+    void notBindsTighterThanAndWhichBindsTighterThanOr() {
+        assertThat(LabelExpression.parse("a or b and not c")).hasToString("(a OR (b AND NOT c))");
+        assertThat(LabelExpression.parse("(a OR b) AND NOT (c OR d)")).hasToString("((a OR b) AND NOT (c OR d))");
+        assertThat(LabelExpression.parse("NOT NOT a")).hasToString("NOT NOT a");
+    }
+
+    @Test
+    void labelsAndOperatorsAreCaseInsensitive() {
+        assertThat(LabelExpression.parse("Backend And (URGENT oR not Later)"))
+                .isEqualTo(LabelExpression.parse("backend AND (urgent OR NOT later)"))
+                .hasToString("(backend AND (urgent OR NOT later))");
+    }
+
+    @Test
+    void blankFilterIsNoFilter() {
+        assertThat(LabelExpression.parse(null)).isNull();
+        assertThat(LabelExpression.parse("  ")).isNull();
+    }
+
+    @Test
+    void malformedFilterIsRejected() {
+        for (String text : List.of("a AND", "AND a", "(a OR b", "a OR b)", "a b", "NOT", "()", "a AND bad!label", "a OR or")) {
+            assertThatThrownBy(() -> LabelExpression.parse(text))
+                    .as(text)
+                    .isInstanceOf(InvalidTaskRequestException.class)
+                    .hasMessageContaining("Invalid label filter");
+        }
+    }
+
+    @Test
+    void filterSizeIsCapped() {
+        String tooMany = IntStream.rangeClosed(0, LabelExpressionParser.MAX_LABELS)
+                .mapToObj(i -> "l" + i)
+                .collect(Collectors.joining(" OR "));
+
+        assertThatThrownBy(() -> LabelExpression.parse(tooMany)).hasMessageContaining("more than");
+        assertThatThrownBy(() -> LabelExpression.parse("(".repeat(LabelExpressionParser.MAX_LENGTH) + "a"))
+                .hasMessageContaining("longer than");
+    }
+}
@@ -0,0 +1,241 @@
+package com.taskmanagement.label;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.invalidation.TaskCacheInvalidator;
+import com.taskmanagement.invalidation.TaskInvalidation;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.impl.TaskArchiver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"app.labels.max-bound-ids=3", "app.warm-up.enabled=false"})
+class TaskLabelIndexTest {
+
+    private static final Pageable BY_ID = PageRequest.of(0, 20, Sort.by("id"));
+    private static final Instant T0 = Instant.parse("2026-03-01T09:00:00Z");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskLabelIndex labelIndex;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Integer api;
+    private Integer migration;
+    private Integer button;
+
+    @BeforeEach
+    void setUp() {
+        // other tests in this context delete rows behind the index's back
+        labelIndex.rebuild();
+        api = create("API", "alice", "backend", "urgent");
+        migration = create("Migration", null, "Backend", "later");
+        button = create("Button", "bob", "frontend", "urgent");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void expressionsCombineWithTheOtherFilters() {
+        complete(button);
+
+        assertThat(ids(find(null, null, "backend AND NOT later", false, BY_ID))).containsExactly(api);
+        assertThat(ids(find(null, null, "urgent OR later", false, BY_ID))).containsExactly(api, migration, button);
+        assertThat(ids(find(null, null, "NOT backend", false, BY_ID))).containsExactly(button);
+        assertThat(ids(find(true, null, "urgent", false, BY_ID))).containsExactly(button);
+        assertThat(ids(find(false, "ALICE", "urgent", false, BY_ID))).containsExactly(api);
+        assertThat(find(null, null, "unknown", false, BY_ID).getTotalElements()).isZero();
+    }
+
+    @Test
+    void writesAreReflectedImmediately() {
+        TaskUpdateRequest relabel = new TaskUpdateRequest();
+        relabel.setLabels(List.of("urgent"));
+        taskService.update(migration, relabel);
+        TaskUpdateRequest keep = new TaskUpdateRequest();
+        keep.setTitle("API v2");
+        taskService.update(api, keep);
+
+        assertThat(ids(find(null, null, "urgent", false, BY_ID))).containsExactly(api, migration, button);
+        assertThat(ids(find(null, null, "backend", false, BY_ID))).containsExactly(api);
+
+        TaskUpdateRequest clear = new TaskUpdateRequest();
+        clear.setLabels(List.of());
+        taskService.update(api, clear);
+        taskService.deleteById(button);
+
+        assertThat(ids(find(null, null, "urgent OR backend", false, BY_ID))).containsExactly(migration);
+        assertThat(taskService.findById(api).getLabels()).isEmpty();
+    }
+
+    @Test
+    void archivedTasksMatchOnlyWhenIncluded() {
+        complete(button);
+        taskArchiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        assertThat(ids(find(null, null, "urgent", false, BY_ID))).containsExactly(api);
+        assertThat(ids(find(null, null, "urgent", true, BY_ID))).containsExactly(api, button);
+        assertThat(find(null, null, "urgent", true, BY_ID).getContent().get(1).getLabels())
+                .containsExactly("frontend", "urgent");
+    }
+
+    @Test
+    void idSortedPagesAreCutFromTheBitmapWithExactTotals() {
+        Integer fourth = create("Fourth", null, "urgent");
+        Integer fifth = create("Fifth", null, "urgent");
+
+        PagedTaskResponse page = find(null, null, "urgent", false, PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(ids(page)).containsExactly(button, api);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.isTotalExact()).isTrue();
+        assertThat(ids(find(null, null, "urgent", false, PageRequest.of(1, 3)))).containsExactly(fifth);
+        assertThat(ids(find(null, null, "urgent", false, PageRequest.of(0, 2, Sort.by("id")))))
+                .containsExactly(api, button)
+                .doesNotContain(fourth);
+    }
+
+    @Test
+    void defaultSortFollowsCreatedAtEvenWhenItDisagreesWithIdOrder() {
+        Integer fourth = create("Fourth", null, "urgent");
+        // created_at out of ID order (as seeded data is), with a tie broken by ascending ID
+        setCreatedAt(api, T0.plusSeconds(30));
+        setCreatedAt(migration, T0);
+        setCreatedAt(button, T0.plusSeconds(10));
+        setCreatedAt(fourth, T0.plusSeconds(30));
+        Pageable newestFirst = PageRequest.of(0, 3, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id")));
+
+        PagedTaskResponse page = find(null, null, "backend OR urgent", false, newestFirst);
+
+        assertThat(ids(page)).containsExactly(api, fourth, button);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(ids(find(null, null, "backend OR urgent", false, newestFirst.next()))).containsExactly(migration);
+        assertThat(ids(find(null, null, "backend OR urgent", false, PageRequest.of(0, 2, Sort.by("createdAt", "id")))))
+                .containsExactly(migration, button);
+        assertThat(ids(find(null, null, "urgent", true, newestFirst))).containsExactly(api, fourth, button);
+    }
+
+    @Test
+    void unknownSortPropertiesAreRejected() {
+        create("Fourth", null, "urgent");
+
+        assertThatThrownBy(() -> find(null, null, "urgent OR backend", false, PageRequest.of(0, 2, Sort.by("secret"))))
+                .isInstanceOf(InvalidTaskRequestException.class);
+    }
+
+    @Test
+    void otherSortsAboveMaxBoundIdsJoinTheMatchingIds() {
+        Pageable byTitle = PageRequest.of(0, 2, Sort.by("title"));
+        assertThat(ids(find(null, null, "backend OR urgent", false, byTitle))).containsExactly(api, button);
+
+        Integer fourth = create("Fourth", null, "urgent");
+        create("Unlabelled", null);
+
+        PagedTaskResponse page = find(null, null, "backend OR urgent", false, byTitle);
+        assertThat(ids(page)).containsExactly(api, button);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(ids(find(null, null, "backend OR urgent", false, byTitle.next()))).containsExactly(fourth, migration);
+        assertThat(ids(find(null, null, "backend OR urgent", false, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "title")))))
+                .containsExactly(migration, fourth, button);
+    }
+
+    @Test
+    void invalidLabelsAreRejected() {
+        TaskCreateRequest request = request("Bad", null, "not");
+        assertThatThrownBy(() -> taskService.create(request)).isInstanceOf(InvalidTaskRequestException.class);
+        TaskCreateRequest tooMany = request("Many", null,
+                "l1", "l2", "l3", "l4", "l5", "l6", "l7", "l8", "l9", "l10", "l11");
+        assertThatThrownBy(() -> taskService.create(tooMany)).isInstanceOf(InvalidTaskRequestException.class);
+    }
+
+    @Test
+    void changesFromOtherNodesAreReRead() {
+        // another node's write: committed to the shared database without an event on this node
+        Task task = taskRepository.findById(api).orElseThrow();
+        task.setLabels("later");
+        taskRepository.save(task);
+
+        cacheInvalidator.invalidate(new TaskInvalidation(api, Set.of("alice")));
+
+        assertThat(ids(find(null, null, "later", false, BY_ID))).containsExactly(api, migration);
+        assertThat(ids(find(null, null, "backend", false, BY_ID))).containsExactly(migration);
+
+        taskRepository.deleteAllByIdInBatch(List.of(migration));
+        cacheInvalidator.invalidateAll("gap");
+
+        assertThat(ids(find(null, null, "later", false, BY_ID))).containsExactly(api);
+    }
+
+    private void setCreatedAt(Integer id, Instant createdAt) {
+        jdbc.update("update tasks set created_at = ? where id = ?", Timestamp.from(createdAt), id);
+    }
+
+    private PagedTaskResponse find(Boolean completed, String assignedTo, String labels, boolean includeArchived,
+                                   Pageable pageable) {
+        return taskService.findAll(completed, assignedTo, LabelExpression.parse(labels), includeArchived, pageable);
+    }
+
+    private Integer create(String title, String assignee, String... labels) {
+        return taskService.create(request(title, assignee, labels)).getId();
+    }
+
+    private void complete(Integer id) {
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setIsCompleted(true);
+        taskService.update(id, update);
+    }
+
+    private static List<Integer> ids(PagedTaskResponse page) {
+        return page.getContent().stream().map(TaskResponse::getId).toList();
+    }
+
+    private static TaskCreateRequest request(String title, String assignee, String... labels) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setAssignedTo(assignee);
+        request.setLabels(List.of(labels));
+        return request;
+    }
+}
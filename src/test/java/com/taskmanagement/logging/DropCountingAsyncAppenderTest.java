@@ -0,0 +1,79 @@
+package com.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DropCountingAsyncAppenderTest {
+
+    private static final int QUEUE_SIZE = 4;
+    private static final int INFO_EVENTS = 20;
+    private static final int ERROR_EVENTS = 5;
+    private static final int EVENTS = INFO_EVENTS + ERROR_EVENTS;
+    /**
+     * Most events the appender can accept while the sink is blocked: the worker takes one event, drains up to a
+     * full queue behind it, blocks in the sink on the first, and the queue fills up again.
+     */
+    private static final int MAX_ACCEPTED = 1 + QUEUE_SIZE + QUEUE_SIZE;
+
+    @Test
+    void fullQueueDropsAndCountsInsteadOfBlocking() throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        AppenderBase<ILoggingEvent> slowSink = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(event.getFormattedMessage());
+            }
+        };
+        slowSink.setContext(context);
+        slowSink.start();
+        DropCountingAsyncAppender async = new DropCountingAsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(QUEUE_SIZE);
+        async.setDiscardingThreshold(2);
+        async.setNeverBlock(true);
+        async.addAppender(slowSink);
+        async.start();
+        Logger logger = context.getLogger("test");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(async);
+        long droppedBefore = LoggingDrops.queueFullCount();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < INFO_EVENTS; i++) {
+            logger.info("info {}", i);
+        }
+        for (int i = 0; i < ERROR_EVENTS; i++) {
+            logger.error("error {}", i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        async.stop();
+
+        assertThat(elapsedMillis).isLessThan(1000);
+        long dropped = LoggingDrops.queueFullCount() - droppedBefore;
+        assertThat(dropped).isGreaterThanOrEqualTo(EVENTS - MAX_ACCEPTED);
+        assertThat(written).hasSize((int) (EVENTS - dropped));
+        // near-full queue: INFO is discarded first, leaving room for errors
+        assertThat(written).anyMatch(message -> message.startsWith("error"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> written;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        written = new ListAppender<>();
+        written.setContext(context);
+        written.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(written);
+    }
+
+    private void sample(String logger, String level, long oneIn) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLogger(logger);
+        filter.setLevel(level);
+        filter.setOneIn(oneIn);
+        filter.start();
+        context.addTurboFilter(filter);
+    }
+
+    @Test
+    void keepsOneInNStartingWithTheFirst() {
+        sample("com.example.Service", "INFO", 10);
+        long droppedBefore = LoggingDrops.sampledCount();
+        Logger logger = context.getLogger("com.example.Service");
+
+        for (int i = 0; i < 25; i++) {
+            logger.info("event {}", i);
+        }
+
+        assertThat(written.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("event 0", "event 10", "event 20");
+        assertThat(LoggingDrops.sampledCount() - droppedBefore).isEqualTo(22);
+    }
+
+    @Test
+    void warningsAndOtherLoggersAreNeverSampled() {
+        sample("com.example.Service", "INFO", 1000);
+        Logger service = context.getLogger("com.example.Service");
+        Logger other = context.getLogger("com.example.ServiceRegistry");
+
+        for (int i = 0; i < 5; i++) {
+            service.warn("warn {}", i);
+            other.info("other {}", i);
+        }
+
+        assertThat(written.list).hasSize(10);
+    }
+
+    @Test
+    void childLoggersAreSampledAndDisabledLevelsUseNoSamples() {
+        sample("com.example", "INFO", 2);
+        Logger child = context.getLogger("com.example.Controller");
+
+        child.debug("disabled at INFO");
+        child.info("first");
+        child.debug("disabled at INFO");
+        child.info("second");
+        child.info("third");
+
+        assertThat(written.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("first", "third");
+    }
+}
@@ -0,0 +1,219 @@
+package com.taskmanagement.logstore;
+
+import com.taskmanagement.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskLogTest {
+
+    private static final int INITIAL_SIZE = 4096;
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void roundTripsEveryField() throws Exception {
+        Task task = task(7, "Title ✓", "john");
+        task.setDescription("Description");
+        task.setIsCompleted(true);
+        task.setDueDate(Instant.parse("2025-12-31T23:59:59.123456789Z"));
+        task.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+        task.setCompletedAt(Instant.parse("2025-06-01T00:00:00Z"));
+
+        try (TaskLog taskLog = open()) {
+            taskLog.put(task);
+            Task read = taskLog.get(7);
+
+            assertThat(read).usingRecursiveComparison().isEqualTo(task);
+            assertThat(read.getUpdatedBy()).isNull();
+            assertThat(taskLog.get(8)).isNull();
+        }
+    }
+
+    @Test
+    void replaysPutsAndTombstonesOnReopen() throws Exception {
+        try (TaskLog taskLog = open()) {
+            taskLog.put(task(1, "first", null));
+            taskLog.put(task(2, "second", null));
+            taskLog.put(task(1, "first, edited", null));
+            assertThat(taskLog.delete(2)).isTrue();
+            assertThat(taskLog.delete(2)).isFalse();
+        }
+
+        try (TaskLog taskLog = open()) {
+            assertThat(taskLog.get(1).getTitle()).isEqualTo("first, edited");
+            assertThat(taskLog.get(2)).isNull();
+            assertThat(taskLog.size()).isEqualTo(1);
+            assertThat(taskLog.maxId()).isEqualTo(2);
+            assertThat(taskLog.deadBytes()).isPositive();
+        }
+    }
+
+    @Test
+    void growsMappingBeyondInitialSize() throws Exception {
+        try (TaskLog taskLog = open()) {
+            for (int id = 1; id <= 500; id++) {
+                taskLog.put(task(id, "task " + id, "user" + id % 7));
+            }
+            assertThat(taskLog.usedBytes()).isGreaterThan(INITIAL_SIZE);
+        }
+
+        try (TaskLog taskLog = open()) {
+            assertThat(taskLog.size()).isEqualTo(500);
+            assertThat(taskLog.get(500).getAssignedTo()).isEqualTo("user3");
+        }
+    }
+
+    @Test
+    void discardsTornTailOnReopen() throws Exception {
+        long intact;
+        try (TaskLog taskLog = open()) {
+            taskLog.put(task(1, "kept", null));
+            intact = taskLog.usedBytes();
+            taskLog.put(task(2, "torn", null));
+        }
+        // flip a byte inside the second record, as if the crash hit mid-write
+        try (RandomAccessFile file = new RandomAccessFile(storage.resolve("tasks.log").toFile(), "rw")) {
+            file.seek(intact + 20);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        try (TaskLog taskLog = open()) {
+            assertThat(taskLog.get(1).getTitle()).isEqualTo("kept");
+            assertThat(taskLog.get(2)).isNull();
+            assertThat(taskLog.usedBytes()).isEqualTo(intact);
+
+            taskLog.put(task(3, "after crash", null));
+        }
+        try (TaskLog taskLog = open()) {
+            assertThat(taskLog.get(3).getTitle()).isEqualTo("after crash");
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotTaskLogs() throws Exception {
+        Files.writeString(storage.resolve("tasks.log"), "definitely not a task log");
+
+        assertThatThrownBy(this::open).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void compactionKeepsLiveRecordsAndIdFloor() throws Exception {
+        try (TaskLog taskLog = open()) {
+            for (int id = 1; id <= 100; id++) {
+                taskLog.put(task(id, "v1", null));
+            }
+            for (int id = 1; id <= 100; id++) {
+                taskLog.put(task(id, "v2", null));
+            }
+            for (int id = 51; id <= 100; id++) {
+                taskLog.delete(id);
+            }
+            long before = taskLog.usedBytes();
+
+            long reclaimed = taskLog.compact();
+
+            assertThat(reclaimed).isEqualTo(before - taskLog.usedBytes()).isPositive();
+            assertThat(taskLog.deadBytes()).isZero();
+            assertThat(taskLog.size()).isEqualTo(50);
+            assertThat(taskLog.get(50).getTitle()).isEqualTo("v2");
+            taskLog.put(task(101, "after compaction", null));
+        }
+
+        try (TaskLog taskLog = open()) {
+            assertThat(taskLog.size()).isEqualTo(51);
+            assertThat(taskLog.get(100)).isNull();
+            assertThat(taskLog.get(101).getTitle()).isEqualTo("after compaction");
+            assertThat(taskLog.maxId()).isEqualTo(101);
+            assertThat(Files.exists(storage.resolve("tasks.log.compact"))).isFalse();
+        }
+    }
+
+    @Test
+    void failedCompactionKeepsWritingToTheCurrentLog() throws Exception {
+        Path file = storage.resolve("tasks.log");
+        Path aside = storage.resolve("tasks.log.aside");
+        try (TaskLog taskLog = open()) {
+            taskLog.put(task(1, "v1", null));
+            taskLog.put(task(1, "v2", null));
+            // the open channel follows the file; a non-empty directory in its place makes the final move fail
+            Files.move(file, aside);
+            Files.createFile(Files.createDirectory(file).resolve("blocker"));
+
+            assertThatThrownBy(taskLog::compact).isInstanceOf(IOException.class);
+
+            // enough to outgrow the mapping, which needs the channel
+            for (int id = 2; id <= 200; id++) {
+                taskLog.put(task(id, "after failed compaction", null));
+            }
+            assertThat(taskLog.get(1).getTitle()).isEqualTo("v2");
+            assertThat(Files.exists(storage.resolve("tasks.log.compact"))).isFalse();
+        }
+        Files.delete(file.resolve("blocker"));
+        Files.delete(file);
+        Files.move(aside, file);
+
+        try (TaskLog taskLog = open()) {
+            assertThat(taskLog.size()).isEqualTo(200);
+            assertThat(taskLog.get(200).getTitle()).isEqualTo("after failed compaction");
+        }
+    }
+
+    @Test
+    void compactionCarriesOverConcurrentWrites() throws Exception {
+        try (TaskLog taskLog = open()) {
+            for (int id = 1; id <= 2_000; id++) {
+                taskLog.put(task(id, "v1", null));
+                taskLog.put(task(id, "v2", null));
+            }
+            AtomicBoolean compacting = new AtomicBoolean(true);
+            AtomicInteger nextId = new AtomicInteger(2_001);
+            List<Integer> deleted = new ArrayList<>();
+            CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                int round = 0;
+                while (compacting.get() || round < 10) {
+                    taskLog.put(task(nextId.getAndIncrement(), "concurrent", null));
+                    int victim = 1 + round++;
+                    taskLog.delete(victim);
+                    deleted.add(victim);
+                }
+            });
+
+            taskLog.compact();
+            compacting.set(false);
+            writer.join();
+
+            int written = nextId.get() - 2_001;
+            assertThat(taskLog.size()).isEqualTo(2_000 + written - deleted.size());
+            assertThat(taskLog.get(deleted.get(0))).isNull();
+            assertThat(taskLog.get(nextId.get() - 1).getTitle()).isEqualTo("concurrent");
+            assertThat(taskLog.get(2_000).getTitle()).isEqualTo("v2");
+        }
+    }
+
+    private TaskLog open() throws Exception {
+        return TaskLog.open(storage.resolve("tasks.log"), INITIAL_SIZE, false);
+    }
+
+    private static Task task(int id, String title, String assignedTo) {
+        Task task = new Task(title, null, false, null);
+        task.setId(id);
+        task.setAssignedTo(assignedTo);
+        task.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+        return task;
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskmanagement.next;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.invalidation.TaskCacheInvalidator;
+import com.taskmanagement.invalidation.TaskInvalidation;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {"app.next.batch-size=2", "app.warm-up.enabled=false"})
+class NextTaskQueuesTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T09:00:00Z");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private NextTaskQueues queues;
+
+    @Autowired
+    private TaskCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    private Integer later;
+    private Integer soon;
+    private Integer undated;
+
+    @BeforeEach
+    void setUp() {
+        // other tests in this context delete rows behind the queues' back
+        queues.rebuild();
+        later = create("Later", "alice", 120);
+        soon = create("Soon", "Alice", 10);
+        undated = create("Whenever", "alice", null);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void listsOpenTasksByDueDateUndatedLast() {
+        create("Bob's", "bob", 0);
+
+        assertThat(ids(queues.next("ALICE", 10))).containsExactly(soon, later, undated);
+        assertThat(ids(queues.next("alice", 2))).containsExactly(soon, later);
+        assertThat(queues.next("nobody", 10)).isEmpty();
+    }
+
+    @Test
+    void writesMoveTasksBetweenAndOutOfQueues() {
+        update(later, request -> request.setDueDate(T0));
+        assertThat(ids(queues.next("alice", 10))).containsExactly(later, soon, undated);
+
+        update(soon, request -> request.setAssignedTo("bob"));
+        update(undated, request -> request.setIsCompleted(true));
+        assertThat(ids(queues.next("alice", 10))).containsExactly(later);
+        assertThat(ids(queues.next("bob", 10))).containsExactly(soon);
+
+        update(undated, request -> request.setIsCompleted(false));
+        update(later, request -> request.setTitle("Renamed"));
+        taskService.deleteById(soon);
+
+        assertThat(queues.next("alice", 10))
+                .extracting(TaskResponse::getId, TaskResponse::getTitle)
+                .containsExactly(
+                        tuple(later, "Renamed"),
+                        tuple(undated, "Whenever"));
+        assertThat(queues.next("bob", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildLoadsOnlyOpenAssignedTasksInBatches() {
+        create("Unassigned", null, 0);
+        update(undated, request -> request.setIsCompleted(true));
+
+        queues.rebuild();
+
+        assertThat(ids(queues.next("alice", 10))).containsExactly(soon, later);
+    }
+
+    @Test
+    void changesFromOtherNodesAreReRead() {
+        // another node's write: committed to the shared database without an event on this node
+        Task task = taskRepository.findById(later).orElseThrow();
+        task.setAssignedTo("carol");
+        taskRepository.save(task);
+
+        cacheInvalidator.invalidate(new TaskInvalidation(later, Set.of("alice", "carol")));
+
+        assertThat(ids(queues.next("alice", 10))).containsExactly(soon, undated);
+        assertThat(ids(queues.next("carol", 10))).containsExactly(later);
+
+        taskRepository.deleteAllByIdInBatch(List.of(soon));
+        cacheInvalidator.invalidateAll("gap");
+
+        assertThat(ids(queues.next("alice", 10))).containsExactly(undated);
+    }
+
+    @Test
+    void rowsChangedBehindTheQueuesAreLeftOutUntilReRead() {
+        Task task = taskRepository.findById(soon).orElseThrow();
+        task.setIsCompleted(true);
+        taskRepository.save(task);
+
+        assertThat(queues.next("alice", 10))
+                .extracting(TaskResponse::getId, TaskResponse::getTitle)
+                .containsExactly(
+                        tuple(later, "Later"),
+                        tuple(undated, "Whenever"));
+    }
+
+    @Test
+    void assigneeAndLimitAreValidated() {
+        assertThatThrownBy(() -> queues.next(" ", 10)).isInstanceOf(InvalidTaskRequestException.class);
+        assertThatThrownBy(() -> queues.next("alice", 0)).isInstanceOf(InvalidTaskRequestException.class);
+        assertThatThrownBy(() -> queues.next("alice", NextTaskQueues.MAX_LIMIT + 1))
+                .isInstanceOf(InvalidTaskRequestException.class);
+    }
+
+    private Integer create(String title, String assignee, Integer dueMinutes) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setAssignedTo(assignee);
+        request.setDueDate(dueMinutes != null ? T0.plusSeconds(60L * dueMinutes) : null);
+        return taskService.create(request).getId();
+    }
+
+    private void update(Integer id, Consumer<TaskUpdateRequest> change) {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        change.accept(request);
+        taskService.update(id, request);
+    }
+
+    private static List<Integer> ids(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskResponse::getId).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanagement.next;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskHeapTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T09:00:00Z");
+
+    private final TaskHeap heap = new TaskHeap();
+
+    @Test
+    void topListsEarliestDueFirstUndatedLastTiesById() {
+        put(4, null);
+        put(3, 60);
+        put(2, 0);
+        put(1, 60);
+        put(5, null);
+
+        assertThat(heap.top(10)).containsExactly(2, 1, 3, 4, 5);
+        assertThat(heap.top(2)).containsExactly(2, 1);
+        assertThat(heap.size()).isEqualTo(5);
+    }
+
+    @Test
+    void putMovesAnExistingTaskToItsNewDueDate() {
+        put(1, 0);
+        put(2, 10);
+        put(3, 20);
+
+        put(3, -10);
+        put(1, 30);
+        put(2, 10);
+
+        assertThat(heap.top(3)).containsExactly(3, 2, 1);
+        assertThat(heap.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removeTakesOutAnyPosition() {
+        for (int id = 1; id <= 7; id++) {
+            put(id, id);
+        }
+
+        assertThat(heap.remove(1)).isTrue();
+        assertThat(heap.remove(5)).isTrue();
+        assertThat(heap.remove(5)).isFalse();
+
+        assertThat(heap.top(10)).containsExactly(2, 3, 4, 6, 7);
+        heap.remove(2);
+        heap.remove(3);
+        heap.remove(4);
+        heap.remove(6);
+        heap.remove(7);
+        assertThat(heap.isEmpty()).isTrue();
+        assertThat(heap.top(3)).isEmpty();
+    }
+
+    @Test
+    void matchesASortedReferenceUnderRandomChanges() {
+        Random random = new Random(7);
+        Map<Integer, Instant> reference = new HashMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                assertThat(heap.remove(id)).isEqualTo(reference.containsKey(id));
+                reference.remove(id);
+            } else {
+                Instant due = due(random.nextInt(10) == 0 ? null : random.nextInt(1000));
+                heap.put(id, due);
+                reference.put(id, due);
+            }
+            if (step % 1000 == 0) {
+                int k = 1 + random.nextInt(50);
+                assertThat(heap.top(k)).containsExactlyElementsOf(reference.entrySet().stream()
+                        .sorted(Map.Entry.<Integer, Instant>comparingByValue(Comparator.nullsLast(Comparator.naturalOrder()))
+                                .thenComparing(Map.Entry.comparingByKey()))
+                        .limit(k)
+                        .map(Map.Entry::getKey)
+                        .toList());
+            }
+        }
+        assertThat(heap.size()).isEqualTo(reference.size());
+    }
+
+    private void put(int id, Integer dueMinutes) {
+        heap.put(id, due(dueMinutes));
+    }
+
+    private static Instant due(Integer dueMinutes) {
+        return dueMinutes != null ? T0.plusSeconds(60L * dueMinutes) : null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanagement.reminder;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.reminders.tick=PT0.05S", "app.reminders.lead=PT1H"})
+class ReminderEngineTest {
+
+    private static final List<TaskReminder> received = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class CapturingSink {
+
+        @Bean
+        ReminderSink capturingReminderSink() {
+            return received::add;
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+        received.clear();
+    }
+
+    @Test
+    void firesLeadTimeBeforeDueDate() throws InterruptedException {
+        Instant due = Instant.now().plus(Duration.ofHours(1)).plusMillis(300).truncatedTo(ChronoUnit.MILLIS);
+        TaskResponse task = taskService.create(request("Due soon", due));
+
+        awaitReminders(1);
+
+        assertThat(received).containsExactly(new TaskReminder(task.getId(), due));
+    }
+
+    @Test
+    void completingOrDeletingCancelsTheReminder() throws InterruptedException {
+        Instant due = Instant.now().plus(Duration.ofHours(1)).plusMillis(300);
+        TaskResponse completed = taskService.create(request("Completed", due));
+        TaskResponse deleted = taskService.create(request("Deleted", due));
+        TaskResponse kept = taskService.create(request("Kept", due));
+        TaskUpdateRequest complete = new TaskUpdateRequest();
+        complete.setIsCompleted(true);
+        taskService.update(completed.getId(), complete);
+        taskService.deleteById(deleted.getId());
+
+        awaitReminders(1);
+        Thread.sleep(200);
+
+        assertThat(received).extracting(TaskReminder::taskId).containsExactly(kept.getId());
+    }
+
+    private static TaskCreateRequest request(String title, Instant due) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setDueDate(due);
+        return request;
+    }
+
+    private static void awaitReminders(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (received.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
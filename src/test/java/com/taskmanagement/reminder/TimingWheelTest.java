@@ -0,0 +1,103 @@
+package com.taskmanagement.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+    private static final long START = 1_700_000_000_000L;
+
+    private final List<Integer> expired = new ArrayList<>();
+    private final TimingWheel wheel = new TimingWheel(TICK, START, 16, 1_000_000);
+
+    @Test
+    void firesEachLevelExactlyAtItsDeadline() {
+        long[] delays = {3, 700, 200_000, 40_000_000};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.schedule(i, START + delays[i] * TICK, i);
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            advanceTo(START + (delays[i] - 1) * TICK);
+            assertThat(expired).doesNotContain(i);
+            advanceTo(START + delays[i] * TICK);
+            assertThat(expired).contains(i);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelAndRescheduleReplaceTheEntry() {
+        wheel.schedule(1, START + 5 * TICK, 0);
+        wheel.schedule(2, START + 5 * TICK, 0);
+        wheel.schedule(2, START + 900 * TICK, 0);
+        assertThat(wheel.cancel(1)).isTrue();
+        assertThat(wheel.cancel(1)).isFalse();
+
+        advanceTo(START + 899 * TICK);
+        assertThat(expired).isEmpty();
+        advanceTo(START + 900 * TICK);
+        assertThat(expired).containsExactly(2);
+    }
+
+    @Test
+    void pastDeadlinesFireOnNextAdvance() {
+        advanceTo(START + 10 * TICK);
+        wheel.schedule(7, START, 0);
+
+        advanceTo(START + 10 * TICK);
+
+        assertThat(expired).containsExactly(7);
+    }
+
+    @Test
+    void rejectsEntriesBeyondCapacity() {
+        TimingWheel small = new TimingWheel(TICK, START, 16, 2);
+        assertThat(small.schedule(1, START + TICK, 0)).isTrue();
+        assertThat(small.schedule(2, START + TICK, 0)).isTrue();
+        assertThat(small.schedule(3, START + TICK, 0)).isFalse();
+        assertThat(small.schedule(2, START + 2 * TICK, 0)).isTrue();
+    }
+
+    @Test
+    void manyRandomEntriesFireNeitherEarlyNorLate() {
+        SplittableRandom random = new SplittableRandom(3);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int id = 0; id < 50_000; id++) {
+            long deadline = START + random.nextLong(0, 300_000) * TICK;
+            wheel.schedule(id, deadline, deadline);
+            deadlines.put(id, deadline);
+        }
+        for (int id = 0; id < 50_000; id += 3) {
+            wheel.cancel(id);
+            deadlines.remove(id);
+        }
+
+        List<long[]> fired = new ArrayList<>();
+        for (long now = START; now <= START + 300_000 * TICK; now += 997 * TICK) {
+            long at = now;
+            wheel.advance(now, (id, payload) -> fired.add(new long[]{id, payload, at}));
+        }
+        wheel.advance(START + 300_000 * TICK, (id, payload) -> fired.add(new long[]{id, payload, START + 300_000 * TICK}));
+
+        assertThat(fired).hasSize(deadlines.size());
+        for (long[] entry : fired) {
+            long deadline = deadlines.get((int) entry[0]);
+            assertThat(entry[1]).isEqualTo(deadline);
+            assertThat(entry[2]).isBetween(deadline, deadline + 997 * TICK);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    private void advanceTo(long millis) {
+        wheel.advance(millis, (id, payload) -> expired.add(id));
+    }
+}
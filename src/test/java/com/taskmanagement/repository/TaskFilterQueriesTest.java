@@ -0,0 +1,67 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TaskFilterQueriesTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskViewRepository taskViewRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.save(task("Open John", false, "John"));
+        taskRepository.save(task("Done John", true, " john "));
+        taskRepository.save(task("Open Ann", false, "ann"));
+        taskRepository.save(task("Unassigned", true, null));
+    }
+
+    @Test
+    void eachShapeMatchesItsFilters() {
+        PageRequest all = PageRequest.of(0, 10, Sort.by("title"));
+
+        assertThat(taskRepository.findFiltered(null, null, all)).extracting(Task::getTitle)
+                .containsExactly("Done John", "Open Ann", "Open John", "Unassigned");
+        assertThat(taskRepository.findFiltered(false, null, all)).extracting(Task::getTitle)
+                .containsExactly("Open Ann", "Open John");
+        assertThat(taskRepository.findFiltered(null, " JOHN", all)).extracting(Task::getTitle)
+                .containsExactly("Open John");
+        assertThat(taskRepository.findFiltered(false, "ann", all)).extracting(Task::getTitle)
+                .containsExactly("Open Ann");
+    }
+
+    @Test
+    void countsMatchTheirShapes() {
+        assertThat(taskRepository.countFiltered(null, null)).isEqualTo(4);
+        assertThat(taskRepository.countFiltered(true, null)).isEqualTo(2);
+        assertThat(taskRepository.countFiltered(null, "John")).isEqualTo(1);
+        assertThat(taskRepository.countFiltered(true, "john")).isZero();
+        assertThat(taskRepository.countFiltered(null, "  ")).isEqualTo(4);
+    }
+
+    @Test
+    void appliesPageableToContentOnly() {
+        assertThat(taskRepository.findFiltered(null, null, PageRequest.of(1, 3, Sort.by("title"))))
+                .extracting(Task::getTitle).containsExactly("Unassigned");
+        assertThat(taskViewRepository.findFiltered(true, null, PageRequest.of(0, 10, Sort.by("title"))))
+                .extracting(TaskView::getTitle).containsExactly("Done John", "Unassigned");
+    }
+
+    private static Task task(String title, boolean completed, String assignedTo) {
+        Task task = new Task(title, null, completed, null);
+        task.setAssignedTo(assignedTo);
+        return task;
+    }
+}
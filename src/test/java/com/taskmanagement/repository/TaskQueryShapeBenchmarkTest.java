@@ -0,0 +1,101 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-call cost of the previous Criteria-based {@code Specification} filter against the precompiled
+ * {@link TaskFilterQueries} shapes, on a small table so query building dominates over execution.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskQueryShapeBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void compareQueryBuilding() {
+        for (int i = 0; i < 50; i++) {
+            Task task = new Task("Task " + i, null, i % 2 == 0, null);
+            task.setAssignedTo(i % 5 == 0 ? "john" : "ann");
+            taskRepository.save(task);
+        }
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id")));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // TaskRepository no longer executes Specifications; a plain repository runs the baseline
+        SimpleJpaRepository<Task, Integer> specifications = new SimpleJpaRepository<>(Task.class, entityManager);
+
+        System.out.printf("%-14s %12s %16s%n", "variant", "ops/s", "plan cache hits");
+        statistics.clear();
+        double criteriaRate = opsPerSecond(() -> specifications.findAll(legacyFilters(true, "John"), pageable));
+        long criteriaHits = statistics.getQueryPlanCacheHitCount();
+        System.out.printf("%-14s %12.0f %16d%n", "specification", criteriaRate, criteriaHits);
+
+        statistics.clear();
+        double shapeRate = opsPerSecond(() -> {
+            taskRepository.findFiltered(true, "John", pageable);
+            taskRepository.countFiltered(true, "John");
+        });
+        long shapeHits = statistics.getQueryPlanCacheHitCount();
+        System.out.printf("%-14s %12.0f %16d%n", "query shapes", shapeRate, shapeHits);
+
+        // Criteria trees bypass the plan cache entirely; every shape call after the first reuses its plan
+        assertThat(criteriaHits).isZero();
+        assertThat(shapeHits).isGreaterThan(MEASURED_ROUNDS);
+    }
+
+    /** The Criteria filter used before the precompiled shapes, kept here as the baseline. */
+    private static Specification<Task> legacyFilters(Boolean completed, String assignedTo) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (completed != null) {
+                predicates.add(cb.equal(root.get("isCompleted"), completed));
+            }
+            String assignee = TaskFilterQueries.normalizeAssignee(assignedTo);
+            if (assignee != null) {
+                predicates.add(cb.equal(cb.lower(root.get("assignedTo")), assignee));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static double opsPerSecond(Runnable operation) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            operation.run();
+        }
+        return MEASURED_ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.seed;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest(properties = {"app.seed.rows=5000", "app.seed.batch-size=1000", "app.seed.assignees=100"})
+@ActiveProfiles("loadtest")
+class TaskDataSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void seedsConfiguredRowsWithCompletionRatioAndSkewedAssignees() {
+        assertThat(count("select count(*) from tasks")).isEqualTo(5000);
+        double completed = count("select count(*) from tasks where is_completed") / 5000.0;
+        assertThat(completed).isCloseTo(0.6, within(0.03));
+        assertThat(count("select count(*) from tasks where is_completed and completed_at is null")).isZero();
+        long busiest = count("select max(c) from (select count(*) c from tasks where assigned_to is not null group by assigned_to)");
+        // Uniform would give ~45 tasks per assignee; Zipf(1.1) puts roughly a fifth of them on user1
+        assertThat(busiest).isGreaterThan(500);
+    }
+
+    @Test
+    void zipfSamplingFavoursLowRanks() {
+        double[] cdf = TaskDataSeeder.zipfCdf(10, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] hits = new int[11];
+        for (int i = 0; i < 10_000; i++) {
+            hits[TaskDataSeeder.sample(cdf, random)]++;
+        }
+        assertThat(cdf[9]).isCloseTo(1.0, within(1e-9));
+        assertThat(hits[1]).isGreaterThan(hits[2]).isGreaterThan(hits[10]);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.SqlStatementRecorder;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AbsentTaskCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void cleanUp() {
+        SqlStatementRecorder.stop();
+        taskRepository.findAll().forEach(task -> taskService.deleteById(task.getId()));
+    }
+
+    @Test
+    void repeatedMissIsAnsweredWithoutQuery() {
+        int missing = Integer.MAX_VALUE - 1;
+        assertThat(statementsForMissingLookup(missing)).isEqualTo(2);
+        assertThat(statementsForMissingLookup(missing)).isZero();
+    }
+
+    @Test
+    void createdTaskIsFoundAfterItsIdWasCachedAsAbsent() {
+        int next = create("First").getId() + 1;
+        assertThat(statementsForMissingLookup(next)).isEqualTo(2);
+
+        TaskResponse created = create("Second");
+
+        assertThat(created.getId()).isEqualTo(next);
+        assertThat(taskService.findById(next).getTitle()).isEqualTo("Second");
+    }
+
+    @Test
+    void deletedTaskIsKnownAbsentRightAway() {
+        Integer id = create("Doomed").getId();
+
+        taskService.deleteById(id);
+
+        assertThat(statementsForMissingLookup(id)).isZero();
+    }
+
+    @Test
+    void multiGetSkipsKnownAbsentIdsAndMarksItsMisses() {
+        Integer present = create("Present").getId();
+        int missing = Integer.MAX_VALUE - 2;
+        int missingToo = Integer.MAX_VALUE - 3;
+        assertThat(statementsForMissingLookup(missing)).isEqualTo(2);
+
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+        TaskLookupResponse lookup = taskService.findAllByIds(List.of(missingToo, present, missing));
+        SqlStatementRecorder.stop();
+
+        assertThat(lookup.getTasks()).extracting(TaskResponse::getId).containsExactly(present);
+        assertThat(lookup.getMissingIds()).containsExactly(missingToo, missing);
+        // missing was answered from the cache: one hot-table query, one archive query for missingToo
+        assertThat(recording.statements()).isEqualTo(2);
+        assertThat(statementsForMissingLookup(missingToo)).isZero();
+    }
+
+    @Test
+    void notFoundExceptionCarriesNoStackTrace() {
+        assertThat(new TaskNotFoundException(1).getStackTrace()).isEmpty();
+    }
+
+    private int statementsForMissingLookup(int id) {
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.start();
+        assertThatThrownBy(() -> taskService.findById(id)).isInstanceOf(TaskNotFoundException.class);
+        SqlStatementRecorder.stop();
+        return recording.statements();
+    }
+
+    private TaskResponse create(String title) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        return taskService.create(request);
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.RequestDeadline;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.exception.DeadlineExceededException;
+import com.taskmanagement.service.impl.AbsentTaskCache;
+import com.taskmanagement.service.impl.CoalescingTaskService;
+import com.taskmanagement.service.impl.TaskGenerations;
+import com.taskmanagement.service.impl.TaskPageCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** The coalescing front with coalescing on, over a mocked store. */
+class CoalescingTaskServiceTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final TaskService store = mock(TaskService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CoalescingTaskService service;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        TaskGenerations generations = new TaskGenerations();
+        service = new CoalescingTaskService(store,
+                new TaskPageCache(generations, meterRegistry, false, 100, Duration.ofMinutes(1)),
+                generations,
+                new AbsentTaskCache(generations, meterRegistry, true, 100, Duration.ofMinutes(1)),
+                meterRegistry,
+                true);
+        pool = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.stop();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void coalescedCallerWaitsOnlyUntilItsOwnDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.findAll(any(), eq("alice"), any(), anyBoolean(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return page();
+        });
+        Future<PagedTaskResponse> leader = pool.submit(() -> service.findAll(null, "alice", FIRST_PAGE));
+        waitForLoads(1);
+        RequestDeadline.start(Duration.ofMillis(100));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.findAll(null, "alice", FIRST_PAGE))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS).getContent()).isEmpty();
+        verify(store, times(1)).findAll(any(), eq("alice"), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void coalescedCallerWithTimeLeftDoesNotInheritTheLeadersTimeout() throws Exception {
+        when(store.findAll(any(), eq("alice"), any(), anyBoolean(), any()))
+                .thenAnswer(invocation -> {
+                    waitForCoalesced();
+                    throw new DeadlineExceededException();
+                })
+                .thenReturn(page());
+        Future<PagedTaskResponse> leader = pool.submit(() -> service.findAll(null, "alice", FIRST_PAGE));
+        waitForLoads(1);
+        RequestDeadline.start(Duration.ofSeconds(5));
+
+        assertThat(service.findAll(null, "alice", FIRST_PAGE).getContent()).isEmpty();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeadlineExceededException.class);
+        verify(store, times(2)).findAll(any(), eq("alice"), any(), anyBoolean(), any());
+    }
+
+    private void waitForLoads(int loads) throws InterruptedException {
+        waitUntil(() -> meterRegistry.get("tasks.reads").tag("op", "findAll").tag("outcome", "executed")
+                .counter().count() == loads);
+    }
+
+    private void waitForCoalesced() throws InterruptedException {
+        waitUntil(() -> meterRegistry.get("tasks.reads").tag("op", "findAll").tag("outcome", "coalesced")
+                .counter().count() == 1);
+    }
+
+    private static PagedTaskResponse page() {
+        return new PagedTaskResponse(List.of(), 0, 20, 0, 0, true, true, true);
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.service.impl.LogStructuredTaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** The {@link TaskServiceTest} scenarios against the log-structured store, on a real log in a temp directory. */
+class LogStructuredTaskServiceTest {
+
+    private static final Instant DUE = Instant.parse("2025-12-31T23:59:59Z");
+
+    @TempDir
+    Path storage;
+
+    private final List<Object> events = new ArrayList<>();
+    private LogStructuredTaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = open();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        taskService.close();
+    }
+
+    @Nested
+    @DisplayName("findAll")
+    class FindAll {
+
+        @Test
+        void whenNoFilter_returnsPagedTasks() {
+            create("First", null, false);
+            create("Second", null, false);
+
+            PagedTaskResponse result = taskService.findAll(null, null, PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).extracting(TaskResponse::getTitle).containsExactly("First", "Second");
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.isTotalExact()).isTrue();
+        }
+
+        @Test
+        void filtersByCompletionAndAssigneeCaseInsensitively() {
+            create("Open John", "John", false);
+            create("Done John", "john ", true);
+            create("Done Jane", "jane", true);
+            create("Unassigned", null, true);
+
+            assertThat(taskService.findAll(true, "JOHN", PageRequest.of(0, 20)).getContent())
+                    .extracting(TaskResponse::getTitle).containsExactly("Done John");
+            assertThat(taskService.findAll(null, "john", PageRequest.of(0, 20)).getTotalElements()).isEqualTo(2);
+            assertThat(taskService.findAll(true, null, PageRequest.of(0, 20)).getTotalElements()).isEqualTo(3);
+            assertThat(taskService.findAll(false, "nobody", PageRequest.of(0, 20)).getContent()).isEmpty();
+        }
+
+        @Test
+        void pagesInIdOrderWithExactTotal() {
+            IntStream.rangeClosed(1, 5).forEach(i -> create("Task " + i, null, false));
+
+            PagedTaskResponse result = taskService.findAll(null, null,
+                    PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+            assertThat(result.getContent()).extracting(TaskResponse::getTitle).containsExactly("Task 3", "Task 2");
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            assertThat(result.getTotalPages()).isEqualTo(3);
+        }
+
+        @Test
+        void defaultSortFollowsIdsBecauseCreatedAtIncreasesStrictlyWithThem() throws Exception {
+            List<TaskCreateRequest> requests = IntStream.rangeClosed(1, 50).mapToObj(i -> {
+                TaskCreateRequest request = new TaskCreateRequest();
+                request.setTitle("Task " + i);
+                return request;
+            }).toList();
+            List<TaskResponse> created = taskService.createAll(requests);
+            taskService.close();
+            taskService = open();
+            TaskResponse last = create("After restart", null, false);
+
+            List<Instant> createdAt = new ArrayList<>(created.stream().map(TaskResponse::getCreatedAt).toList());
+            createdAt.add(last.getCreatedAt());
+            assertThat(createdAt).isSortedAccordingTo(Instant::compareTo).doesNotHaveDuplicates();
+            Sort newestFirst = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+            assertThat(taskService.findAll(null, null, PageRequest.of(0, 3, newestFirst)).getContent())
+                    .extracting(TaskResponse::getTitle).containsExactly("After restart", "Task 50", "Task 49");
+            assertThat(taskService.findAll(null, null, PageRequest.of(0, 2, Sort.by("createdAt"))).getContent())
+                    .extracting(TaskResponse::getTitle).containsExactly("Task 1", "Task 2");
+        }
+
+        @Test
+        void sortsByOtherFieldsWithNullsLowAndIdTieBreak() {
+            create("b", null, false, DUE);
+            create("a", null, false, null);
+            create("c", null, false, DUE);
+
+            Sort sort = Sort.by(Sort.Order.desc("dueDate"), Sort.Order.asc("id"));
+            PagedTaskResponse result = taskService.findAll(null, null, PageRequest.of(0, 20, sort));
+
+            assertThat(result.getContent()).extracting(TaskResponse::getTitle).containsExactly("b", "c", "a");
+        }
+
+        @Test
+        void whenSortPropertyUnknown_throwsInvalidTaskRequestException() {
+            create("Task", null, false);
+
+            assertThatThrownBy(() -> taskService.findAll(null, null, PageRequest.of(0, 20, Sort.by("secret"))))
+                    .isInstanceOf(InvalidTaskRequestException.class);
+        }
+
+        @Test
+        void whenLabelFilterGiven_throwsInvalidTaskRequestException() {
+            assertThatThrownBy(() -> taskService.findAll(null, null, LabelExpression.parse("backend"), false, PageRequest.of(0, 20)))
+                    .isInstanceOf(InvalidTaskRequestException.class)
+                    .hasMessageContaining("Labels");
+        }
+    }
+
+    @Nested
+    @DisplayName("findById")
+    class FindById {
+
+        @Test
+        void whenTaskExists_returnsTaskResponse() {
+            TaskResponse created = create("Test Task", "john", false);
+
+            TaskResponse result = taskService.findById(created.getId());
+
+            assertThat(result.getTitle()).isEqualTo("Test Task");
+            assertThat(result.getAssignedTo()).isEqualTo("john");
+            assertThat(result.getDueDate()).isEqualTo(DUE);
+            assertThat(result.getCreatedAt()).isNotNull();
+        }
+
+        @Test
+        void whenTaskNotExists_throwsTaskNotFoundException() {
+            TaskNotFoundException ex = org.assertj.core.api.Assertions.catchThrowableOfType(
+                    () -> taskService.findById(99), TaskNotFoundException.class);
+            assertThat(ex).isNotNull();
+            assertThat(ex.getTaskId()).isEqualTo(99);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByIds")
+    class FindAllByIds {
+
+        @Test
+        void preservesRequestOrder_andReportsMissing() {
+            TaskResponse first = create("First", null, false);
+            TaskResponse second = create("Second", null, false);
+
+            TaskLookupResponse result = taskService.findAllByIds(List.of(second.getId(), 99, first.getId(), second.getId()));
+
+            assertThat(result.getTasks()).extracting(TaskResponse::getTitle).containsExactly("Second", "First");
+            assertThat(result.getMissingIds()).containsExactly(99);
+        }
+
+        @Test
+        void whenTooManyIds_throwsInvalidTaskRequestException() {
+            List<Integer> ids = IntStream.rangeClosed(1, 501).boxed().toList();
+
+            assertThatThrownBy(() -> taskService.findAllByIds(ids))
+                    .isInstanceOf(InvalidTaskRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("create")
+    class Create {
+
+        @Test
+        void whenValidRequest_createsAndReturnsTask() {
+            TaskResponse result = create("New Task", null, false);
+
+            assertThat(result.getId()).isEqualTo(1);
+            assertThat(events).singleElement().isInstanceOf(TaskChangedEvent.class);
+        }
+
+        @Test
+        void whenTitleBlank_throwsInvalidTaskRequestException() {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("   ");
+
+            assertThatThrownBy(() -> taskService.create(request))
+                    .isInstanceOf(InvalidTaskRequestException.class)
+                    .hasMessageContaining("title");
+            assertThat(taskService.findAll(null, null, PageRequest.of(0, 20)).getTotalElements()).isZero();
+        }
+
+        @Test
+        void whenLabelsGiven_throwsInvalidTaskRequestException() {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Labelled");
+            request.setLabels(List.of("backend"));
+
+            assertThatThrownBy(() -> taskService.create(request)).isInstanceOf(InvalidTaskRequestException.class);
+            assertThat(taskService.findAll(null, null, PageRequest.of(0, 20)).getTotalElements()).isZero();
+        }
+
+        @Test
+        void neverReusesIdsOfDeletedTasksAfterRestart() throws Exception {
+            create("One", null, false);
+            TaskResponse two = create("Two", null, false);
+            taskService.deleteById(two.getId());
+            taskService.close();
+
+            taskService = open();
+
+            assertThat(create("Three", null, false).getId()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("update")
+    class Update {
+
+        @Test
+        void whenTaskExists_updatesAndReindexes() {
+            TaskResponse created = create("Title", "john", false);
+            TaskUpdateRequest request = new TaskUpdateRequest();
+            request.setTitle("Updated Title");
+            request.setIsCompleted(true);
+            request.setAssignedTo("jane");
+
+            TaskResponse result = taskService.update(created.getId(), request);
+
+            assertThat(result.getTitle()).isEqualTo("Updated Title");
+            assertThat(taskService.findAll(true, "jane", PageRequest.of(0, 20)).getTotalElements()).isEqualTo(1);
+            assertThat(taskService.findAll(null, "john", PageRequest.of(0, 20)).getTotalElements()).isZero();
+            assertThat(taskService.findAll(false, null, PageRequest.of(0, 20)).getTotalElements()).isZero();
+        }
+
+        @Test
+        void whenTaskNotExists_throwsTaskNotFoundException() {
+            TaskNotFoundException ex = org.assertj.core.api.Assertions.catchThrowableOfType(
+                    () -> taskService.update(99, new TaskUpdateRequest()), TaskNotFoundException.class);
+            assertThat(ex).isNotNull();
+            assertThat(ex.getTaskId()).isEqualTo(99);
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteById")
+    class DeleteById {
+
+        @Test
+        void whenTaskExists_deletesTask() {
+            TaskResponse created = create("Doomed", "john", false);
+
+            taskService.deleteById(created.getId());
+
+            assertThatThrownBy(() -> taskService.findById(created.getId())).isInstanceOf(TaskNotFoundException.class);
+            assertThat(taskService.findAll(null, "john", PageRequest.of(0, 20)).getTotalElements()).isZero();
+            assertThat(events).last().isInstanceOfSatisfying(TaskChangedEvent.class, event -> {
+                assertThat(event.type()).isEqualTo(TaskChangedEvent.Type.DELETED);
+                assertThat(event.taskId()).isEqualTo(created.getId());
+            });
+        }
+
+        @Test
+        void whenTaskNotExists_throwsTaskNotFoundException() {
+            TaskNotFoundException ex = org.assertj.core.api.Assertions.catchThrowableOfType(
+                    () -> taskService.deleteById(99), TaskNotFoundException.class);
+            assertThat(ex).isNotNull();
+            assertThat(ex.getTaskId()).isEqualTo(99);
+        }
+    }
+
+    @Test
+    void rebuildsIndexesFromLogOnRestart() throws Exception {
+        create("Kept", "john", true);
+        TaskResponse changed = create("Changed", "john", false);
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setAssignedTo("jane");
+        taskService.update(changed.getId(), request);
+        taskService.close();
+
+        taskService = open();
+
+        assertThat(taskService.findAll(true, "john", PageRequest.of(0, 20)).getContent())
+                .extracting(TaskResponse::getTitle).containsExactly("Kept");
+        assertThat(taskService.findAll(false, "jane", PageRequest.of(0, 20)).getContent())
+                .extracting(TaskResponse::getTitle).containsExactly("Changed");
+    }
+
+    private LogStructuredTaskService open() {
+        return new LogStructuredTaskService(new TaskMapper(), events::add, new SimpleMeterRegistry(),
+                storage.resolve("tasks.log"), DataSize.ofKilobytes(64), false, Duration.ofHours(1), 0.5,
+                DataSize.ofMegabytes(1));
+    }
+
+    private TaskResponse create(String title, String assignedTo, boolean completed) {
+        return create(title, assignedTo, completed, DUE);
+    }
+
+    private TaskResponse create(String title, String assignedTo, boolean completed, Instant dueDate) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setAssignedTo(assignedTo);
+        request.setIsCompleted(completed);
+        request.setDueDate(dueDate);
+        return taskService.create(request);
+    }
+}
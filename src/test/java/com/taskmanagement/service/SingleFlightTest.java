@@ -0,0 +1,178 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.RequestDeadline;
+import com.taskmanagement.exception.DeadlineExceededException;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.service.impl.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private Counter executed;
+    private Counter coalesced;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executed = registry.counter("executed");
+        coalesced = registry.counter("coalesced");
+        singleFlight = new SingleFlight<>(executed, coalesced);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.stop();
+    }
+
+    @Test
+    void concurrentCallsForSameKeyShareOneExecution() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> singleFlight.execute("key", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "value";
+                })));
+            }
+            waitUntil(() -> executed.count() + coalesced.count() == callers);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced.count()).isEqualTo(callers - 1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void completedLoadIsNotReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("key", () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute("key", () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+        assertThat(coalesced.count()).isZero();
+    }
+
+    @Test
+    void failureIsPropagatedAndNotRetained() {
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new TaskNotFoundException(7);
+        })).isInstanceOf(TaskNotFoundException.class);
+
+        assertThat(singleFlight.execute("key", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void waiterGivesUpAtItsOwnDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = pool.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                return "value";
+            }));
+            waitUntil(() -> singleFlight.inFlight() == 1);
+            RequestDeadline.start(Duration.ofMillis(100));
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> singleFlight.execute("key", () -> "own"))
+                    .isInstanceOf(DeadlineExceededException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void waiterWithTimeLeftLoadsItselfWhenTheLeaderRunsOutOfTime() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = pool.submit(() -> singleFlight.execute("key", () -> {
+                waitUntilQuietly(() -> coalesced.count() == 1);
+                throw new DeadlineExceededException();
+            }));
+            waitUntil(() -> singleFlight.inFlight() == 1);
+            RequestDeadline.start(Duration.ofSeconds(5));
+
+            assertThat(singleFlight.execute("key", () -> "own")).isEqualTo("own");
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DeadlineExceededException.class);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(executed.count()).isEqualTo(2);
+    }
+
+    @Test
+    void waiterOutOfTimeDoesNotLoadItself() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            pool.submit(() -> singleFlight.execute("key", () -> {
+                waitUntilQuietly(() -> coalesced.count() == 1);
+                throw new DeadlineExceededException();
+            }));
+            waitUntil(() -> singleFlight.inFlight() == 1);
+            RequestDeadline.start(Duration.ZERO);
+
+            assertThatThrownBy(() -> singleFlight.execute("key", () -> "own"))
+                    .isInstanceOf(DeadlineExceededException.class);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(executed.count()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntilQuietly(java.util.function.BooleanSupplier condition) {
+        try {
+            waitUntil(condition);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
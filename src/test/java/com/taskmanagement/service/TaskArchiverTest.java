@@ -0,0 +1,119 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.impl.TaskArchiver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.archive.batch-size=2", "app.page-cache.enabled=false"})
+class TaskArchiverTest {
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void movesOnlyCompletedTasksInBatches() {
+        Task open = taskRepository.save(new Task("Open", null, false, null));
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(new Task("Done " + i, null, true, null));
+        }
+
+        int archived = taskArchiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        assertThat(archived).isEqualTo(5);
+        assertThat(taskRepository.findAll()).extracting(Task::getId).containsExactly(open.getId());
+        assertThat(archivedTaskRepository.count()).isEqualTo(5);
+        assertThat(taskService.findAll(null, null, PageRequest.of(0, 20)).getTotalElements()).isEqualTo(1);
+        assertThat(taskService.findAll(null, null, true, PageRequest.of(0, 20)).getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    void archivedTaskIsReadableAndRestoredOnUpdate() {
+        Task done = taskRepository.save(new Task("Done", null, true, null));
+        taskArchiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        assertThat(taskService.findById(done.getId()).getTitle()).isEqualTo("Done");
+
+        TaskUpdateRequest reopen = new TaskUpdateRequest();
+        reopen.setIsCompleted(false);
+        taskService.update(done.getId(), reopen);
+
+        assertThat(archivedTaskRepository.existsById(done.getId())).isFalse();
+        assertThat(taskRepository.findById(done.getId())).get()
+                .satisfies(t -> assertThat(t.getCompletedAt()).isNull());
+    }
+
+    @Test
+    void recentlyCompletedTasksStayHot() {
+        taskRepository.save(new Task("Done", null, true, null));
+
+        int archived = taskArchiver.archiveCompletedBefore(Instant.now().minusSeconds(3600));
+
+        assertThat(archived).isZero();
+        assertThat(taskRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void tasksLockedByAnotherTransactionAreSkipped() throws Exception {
+        Task held = taskRepository.save(new Task("Being reopened", null, true, null));
+        Task free = taskRepository.save(new Task("Done", null, true, null));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> editor = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    Task task = taskRepository.lockAllById(List.of(held.getId())).get(0);
+                    locked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    task.setIsCompleted(false);
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        int archived = taskArchiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+        release.countDown();
+        editor.get(5, TimeUnit.SECONDS);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(archivedTaskRepository.existsById(free.getId())).isTrue();
+        assertThat(taskRepository.findById(held.getId())).get()
+                .satisfies(t -> assertThat(t.getIsCompleted()).isFalse());
+        assertThat(taskArchiver.archiveCompletedBefore(Instant.now().plusSeconds(60))).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.count.strategy=cached", "app.page-cache.enabled=false"})
+class TaskCountStrategyTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void laterPagesReuseCachedTotalWithSameContentAsExactPaging() {
+        for (int i = 0; i < 7; i++) {
+            taskRepository.save(new Task("Task " + i, null, false, null));
+        }
+        Sort sort = Sort.by("id");
+
+        PagedTaskResponse first = taskService.findAll(false, null, PageRequest.of(0, 3, sort));
+        PagedTaskResponse second = taskService.findAll(false, null, PageRequest.of(1, 3, sort));
+        PagedTaskResponse last = taskService.findAll(false, null, PageRequest.of(2, 3, sort));
+
+        assertThat(first.isTotalExact()).isTrue();
+        assertThat(second.isTotalExact()).isFalse();
+        assertThat(second.getTotalElements()).isEqualTo(7);
+        assertThat(second.getContent()).extracting(TaskResponse::getTitle).containsExactly("Task 3", "Task 4", "Task 5");
+        assertThat(last.getContent()).extracting(TaskResponse::getTitle).containsExactly("Task 6");
+        assertThat(last.isLast()).isTrue();
+    }
+
+    @Test
+    void createEvictsAffectedTotals() {
+        taskRepository.save(new Task("Existing", null, false, null));
+        taskService.findAll(false, null, PageRequest.of(0, 1));
+
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("New");
+        taskService.create(request);
+
+        PagedTaskResponse page = taskService.findAll(false, null, PageRequest.of(0, 1));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.isTotalExact()).isTrue();
+    }
+}
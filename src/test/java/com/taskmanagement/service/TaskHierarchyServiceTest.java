@@ -0,0 +1,171 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.TaskNodeResponse;
+import com.taskmanagement.dto.response.TaskProgressResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskClosureRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.impl.AbsentTaskCache;
+import com.taskmanagement.service.impl.TaskArchiver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {"app.hierarchy.max-depth=3", "app.warm-up.enabled=false"})
+class TaskHierarchyServiceTest {
+
+    @Autowired
+    private TaskHierarchyService hierarchyService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private AbsentTaskCache absentTasks;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    private Integer epic;
+    private Integer story;
+    private Integer subtask;
+
+    /** epic > story > subtask */
+    @BeforeEach
+    void setUp() {
+        epic = taskService.create(request("Epic")).getId();
+        story = hierarchyService.createSubtask(epic, request("Story")).getId();
+        subtask = hierarchyService.createSubtask(story, request("Subtask")).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        closureRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void subtreeListsNearestLevelsFirstWithParents() {
+        Integer second = hierarchyService.createSubtask(epic, request("Second story")).getId();
+
+        assertThat(hierarchyService.findSubtree(epic))
+                .extracting(node -> node.getTask().getId(), TaskNodeResponse::getParentId, TaskNodeResponse::getDepth)
+                .containsExactly(
+                        tuple(story, epic, 1),
+                        tuple(second, epic, 1),
+                        tuple(subtask, story, 2));
+        assertThat(hierarchyService.findSubtree(subtask)).isEmpty();
+    }
+
+    @Test
+    void ancestorsAreListedRootFirst() {
+        assertThat(hierarchyService.findAncestors(subtask)).extracting(TaskResponse::getId).containsExactly(epic, story);
+        assertThat(hierarchyService.findAncestors(epic)).isEmpty();
+    }
+
+    @Test
+    void progressRollsUpAllLevelsIncludingArchivedTasks() {
+        complete(subtask);
+        taskArchiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        TaskProgressResponse progress = hierarchyService.findProgress(epic);
+
+        assertThat(progress.getSubtasks()).isEqualTo(2);
+        assertThat(progress.getCompletedSubtasks()).isEqualTo(1);
+        assertThat(progress.getPercentComplete()).isEqualTo(50.0);
+        assertThat(hierarchyService.findSubtree(story)).extracting(node -> node.getTask().getId()).containsExactly(subtask);
+        assertThat(hierarchyService.findProgress(subtask).getPercentComplete()).isEqualTo(100.0);
+    }
+
+    @Test
+    void existenceIsCheckedInTheStoreNotTheCaches() {
+        // as if the ID had been reported missing just before another node's create reached this one
+        absentTasks.markAbsent(story, absentTasks.generation(story));
+        assertThatThrownBy(() -> taskService.findById(story)).isInstanceOf(TaskNotFoundException.class);
+
+        Integer created = hierarchyService.createSubtask(story, request("Second subtask")).getId();
+
+        assertThat(hierarchyService.findAncestors(created)).extracting(TaskResponse::getId).containsExactly(epic, story);
+    }
+
+    @Test
+    void moveTakesTheWholeSubtreeAlong() {
+        Integer other = taskService.create(request("Other epic")).getId();
+
+        hierarchyService.move(story, other);
+
+        assertThat(hierarchyService.findSubtree(epic)).isEmpty();
+        assertThat(hierarchyService.findAncestors(subtask)).extracting(TaskResponse::getId).containsExactly(other, story);
+
+        hierarchyService.move(story, null);
+
+        assertThat(hierarchyService.findSubtree(other)).isEmpty();
+        assertThat(hierarchyService.findAncestors(subtask)).extracting(TaskResponse::getId).containsExactly(story);
+        assertThat(closureRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void moveBelowOwnSubtreeIsRejected() {
+        assertThatThrownBy(() -> hierarchyService.move(epic, subtask)).isInstanceOf(InvalidTaskRequestException.class);
+        assertThatThrownBy(() -> hierarchyService.move(epic, epic)).isInstanceOf(InvalidTaskRequestException.class);
+        assertThatThrownBy(() -> hierarchyService.move(epic, 999_999)).isInstanceOf(TaskNotFoundException.class);
+        assertThat(hierarchyService.findAncestors(subtask)).extracting(TaskResponse::getId).containsExactly(epic, story);
+    }
+
+    @Test
+    void hierarchyDepthIsCapped() {
+        Integer fourth = hierarchyService.createSubtask(subtask, request("Depth 3")).getId();
+        Integer other = taskService.create(request("Other")).getId();
+        hierarchyService.createSubtask(other, request("Other child"));
+
+        assertThatThrownBy(() -> hierarchyService.createSubtask(fourth, request("Depth 4")))
+                .isInstanceOf(InvalidTaskRequestException.class);
+        assertThatThrownBy(() -> hierarchyService.move(other, subtask))
+                .isInstanceOf(InvalidTaskRequestException.class);
+    }
+
+    @Test
+    void deletingATaskMovesItsChildrenUp() {
+        taskService.deleteById(story);
+
+        assertThat(hierarchyService.findAncestors(subtask)).extracting(TaskResponse::getId).containsExactly(epic);
+        assertThat(hierarchyService.findSubtree(epic))
+                .extracting(node -> node.getTask().getId(), TaskNodeResponse::getParentId, TaskNodeResponse::getDepth)
+                .containsExactly(tuple(subtask, epic, 1));
+    }
+
+    private void complete(Integer id) {
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setIsCompleted(true);
+        taskService.update(id, update);
+    }
+
+    private static TaskCreateRequest request(String title) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        return request;
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskImportSummary;
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.label.LabelExpression;
+import com.taskmanagement.service.impl.TaskImportServiceImpl;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and retained heap of the import pipeline (record splitting, parsing, validation, reporting) for
+ * growing NDJSON uploads, generated on the fly and stored nowhere, so only the importer's own memory is measured.
+ * Run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class TaskImportBenchmarkTest {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Test
+    void heapStaysFlatAsUploadsGrow() throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            TaskImportServiceImpl importer = new TaskImportServiceImpl(new DiscardingTaskService(),
+                    validatorFactory.getValidator(), new ObjectMapper().registerModule(new JavaTimeModule()),
+                    CHUNK_SIZE, 65536, 1);
+            importer.importTasks(new GeneratedUpload(50_000), TaskImportService.Format.NDJSON, results -> { });
+
+            System.out.printf("%10s %12s %18s%n", "records", "records/s", "max retained MB");
+            List<Long> retained = new ArrayList<>();
+            for (int records : new int[]{100_000, 1_000_000, 3_000_000}) {
+                long[] maxRetained = {0};
+                int[] chunks = {0};
+                long start = System.nanoTime();
+                TaskImportSummary summary = importer.importTasks(new GeneratedUpload(records),
+                        TaskImportService.Format.NDJSON, results -> {
+                            // sample the heap left after a collection every 100 chunks
+                            if (++chunks[0] % 100 == 0) {
+                                System.gc();
+                                maxRetained[0] = Math.max(maxRetained[0], memory.getHeapMemoryUsage().getUsed());
+                            }
+                        });
+                double seconds = (System.nanoTime() - start) / 1e9;
+                assertThat(summary.getCreated()).isEqualTo(records);
+                retained.add(maxRetained[0]);
+                System.out.printf("%10d %12.0f %18.1f%n", records, records / seconds, maxRetained[0] / 1048576.0);
+            }
+            // 30x the records may not retain noticeably more (allow 16 MB of GC noise)
+            assertThat(retained.get(2)).isLessThan(retained.get(0) + 16 * 1048576L);
+        }
+    }
+
+    /** NDJSON produced on demand: {@code records} lines, never materialized. */
+    private static final class GeneratedUpload extends Reader {
+
+        private final int records;
+        private int next;
+        private CharBuffer line = CharBuffer.allocate(0);
+
+        GeneratedUpload(int records) {
+            this.records = records;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (!line.hasRemaining()) {
+                if (next == records) {
+                    return -1;
+                }
+                line = CharBuffer.wrap("{\"title\":\"Imported task " + next + "\",\"description\":\"Generated for the "
+                        + "import benchmark\",\"dueDate\":\"2026-02-18T14:08\",\"assignedTo\":\"user-" + (next % 1000)
+                        + "\"}\n");
+                next++;
+            }
+            int count = Math.min(length, line.remaining());
+            line.get(buffer, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /** Assigns IDs and keeps nothing. */
+    private static final class DiscardingTaskService implements TaskService {
+
+        private int nextId;
+
+        @Override
+        public List<TaskResponse> createAll(List<TaskCreateRequest> requests) {
+            List<TaskResponse> created = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                TaskResponse task = new TaskResponse();
+                task.setId(++nextId);
+                created.add(task);
+            }
+            return created;
+        }
+
+        @Override
+        public PagedTaskResponse findAll(Boolean completed, String assignedTo, LabelExpression labels,
+                                         boolean includeArchived, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TaskResponse findById(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TaskLookupResponse findAllByIds(List<Integer> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TaskResponse create(TaskCreateRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TaskResponse update(Integer id, TaskUpdateRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.response.TaskImportResult;
+import com.taskmanagement.dto.response.TaskImportSummary;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.exception.InvalidTaskRequestException;
+import com.taskmanagement.exception.TooManyImportsException;
+import com.taskmanagement.service.impl.TaskImportServiceImpl;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private ValidatorFactory validatorFactory;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final List<List<TaskImportResult>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private TaskImportServiceImpl importer(int chunkSize, int maxRecordLength, int maxConcurrent) {
+        return new TaskImportServiceImpl(taskService, validatorFactory.getValidator(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), chunkSize, maxRecordLength, maxConcurrent);
+    }
+
+    private void storesEverything() {
+        when(taskService.createAll(anyList())).thenAnswer(invocation -> {
+            List<TaskCreateRequest> requests = invocation.getArgument(0);
+            return requests.stream().map(request -> task(nextId.getAndIncrement())).toList();
+        });
+    }
+
+    private static TaskResponse task(int id) {
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        return task;
+    }
+
+    private TaskImportSummary run(TaskImportServiceImpl importer, String upload, TaskImportService.Format format)
+            throws IOException {
+        return importer.importTasks(new StringReader(upload), format, chunks::add);
+    }
+
+    private List<TaskImportResult> results() {
+        return chunks.stream().flatMap(List::stream).toList();
+    }
+
+    @Test
+    void ndjsonIsCommittedInChunksAndReportedInLineOrder() throws IOException {
+        storesEverything();
+        String upload = """
+                {"title":"one"}
+                {"title":""}
+
+                {"title":"three","dueDate":"2026-02-18T14:08"}
+                not json
+                {"title":"five","isCompleted":true}
+                """;
+
+        TaskImportSummary summary = run(importer(2, 1000, 1), upload, TaskImportService.Format.NDJSON);
+
+        assertThat(summary.getRecords()).isEqualTo(5);
+        assertThat(summary.getCreated()).isEqualTo(3);
+        assertThat(summary.getRejected()).isEqualTo(2);
+        assertThat(summary.getChunks()).isEqualTo(3);
+        assertThat(chunks).hasSize(3);
+        assertThat(results()).extracting(TaskImportResult::getLine).containsExactly(1L, 2L, 4L, 5L, 6L);
+        assertThat(results()).extracting(TaskImportResult::getStatus).containsExactly(
+                TaskImportResult.Status.CREATED, TaskImportResult.Status.REJECTED, TaskImportResult.Status.CREATED,
+                TaskImportResult.Status.REJECTED, TaskImportResult.Status.CREATED);
+        assertThat(results()).extracting(TaskImportResult::getId).containsExactly(1, null, 2, null, 3);
+        assertThat(results().get(1).getErrors()).containsExactly("title: Task title is required");
+        assertThat(results().get(3).getErrors().get(0)).startsWith("Malformed JSON");
+        verify(taskService, times(3)).createAll(anyList());
+    }
+
+    @Test
+    void csvHonoursTheHeaderQuotingAndMultiLineFields() throws IOException {
+        storesEverything();
+        String upload = """
+                assignedTo,Title,isCompleted,description,dueDate
+                alice,"Plan, then ship",true,"first line
+                second line",2026-02-18
+                bob,"Say \"\"hi\"\"",maybe,,
+                ,Bad date,false,,tomorrow
+                ,too,few
+                """;
+
+        TaskImportSummary summary = run(importer(10, 1000, 1), upload, TaskImportService.Format.CSV);
+
+        assertThat(summary.getRecords()).isEqualTo(4);
+        assertThat(summary.getCreated()).isEqualTo(1);
+        assertThat(results()).extracting(TaskImportResult::getLine).containsExactly(2L, 4L, 5L, 6L);
+        assertThat(results().get(1).getErrors()).containsExactly("isCompleted: must be true or false");
+        assertThat(results().get(2).getErrors().get(0)).startsWith("dueDate: Cannot parse date-time 'tomorrow'");
+        assertThat(results().get(3).getErrors()).containsExactly("Expected 5 fields but found 3");
+        verify(taskService).createAll(argThat(requests -> {
+            TaskCreateRequest request = requests.get(0);
+            return requests.size() == 1
+                    && request.getTitle().equals("Plan, then ship")
+                    && request.getDescription().equals("first line\nsecond line")
+                    && request.getIsCompleted()
+                    && request.getAssignedTo().equals("alice")
+                    && request.getDueDate() != null;
+        }));
+    }
+
+    @Test
+    void invalidCsvHeaderFailsBeforeAnythingIsStored() {
+        assertThatThrownBy(() -> run(importer(10, 1000, 1), "title,owner\nx,y\n", TaskImportService.Format.CSV))
+                .isInstanceOf(InvalidTaskRequestException.class)
+                .hasMessageContaining("Unknown CSV column 'owner'");
+        assertThatThrownBy(() -> run(importer(10, 1000, 1), "description\nx\n", TaskImportService.Format.CSV))
+                .isInstanceOf(InvalidTaskRequestException.class)
+                .hasMessageContaining("'title' column");
+        verify(taskService, never()).createAll(anyList());
+    }
+
+    @Test
+    void overLongRecordIsRejectedWithoutBufferingIt() throws IOException {
+        storesEverything();
+        String upload = "{\"title\":\"" + "x".repeat(10_000) + "\"}\n{\"title\":\"short\"}\n";
+
+        TaskImportSummary summary = run(importer(10, 100, 1), upload, TaskImportService.Format.NDJSON);
+
+        assertThat(summary.getCreated()).isEqualTo(1);
+        assertThat(results().get(0).getErrors()).containsExactly("Record is longer than 100 characters");
+        assertThat(results().get(1).getLine()).isEqualTo(2);
+    }
+
+    @Test
+    void failedChunkIsReportedAndTheImportContinues() throws IOException {
+        when(taskService.createAll(anyList()))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenAnswer(invocation -> List.of(task(7)));
+
+        TaskImportSummary summary = run(importer(1, 1000, 1), "{\"title\":\"a\"}\n{\"title\":\"b\"}\n",
+                TaskImportService.Format.NDJSON);
+
+        assertThat(summary.getFailedChunks()).isEqualTo(1);
+        assertThat(summary.getChunks()).isEqualTo(1);
+        assertThat(summary.getCreated()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(results().get(0).getStatus()).isEqualTo(TaskImportResult.Status.REJECTED);
+        assertThat(results().get(1).getId()).isEqualTo(7);
+    }
+
+    @Test
+    void importsBeyondTheConcurrencyLimitAreRefused() throws Exception {
+        TaskImportServiceImpl importer = importer(10, 1000, 1);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Reader blockingUpload = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return -1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Thread first = new Thread(() -> {
+            try {
+                importer.importTasks(blockingUpload, TaskImportService.Format.NDJSON, results -> { });
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        first.start();
+        reading.await();
+
+        assertThatThrownBy(() -> run(importer, "", TaskImportService.Format.NDJSON))
+                .isInstanceOf(TooManyImportsException.class);
+
+        release.countDown();
+        first.join();
+        assertThat(run(importer, "", TaskImportService.Format.NDJSON).getRecords()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.request.TaskCreateRequest;
+import com.taskmanagement.dto.request.TaskUpdateRequest;
+import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskPageCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.findAll().forEach(task -> taskService.deleteById(task.getId()));
+    }
+
+    @Test
+    void repeatedPageIsServedFromCache() {
+        create("Task", "alice");
+
+        PagedTaskResponse first = taskService.findAll(null, "alice", FIRST_PAGE);
+        PagedTaskResponse second = taskService.findAll(null, " Alice ", FIRST_PAGE);
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> second.getContent().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void writeEvictsOnlyPagesOfAffectedAssignee() {
+        TaskResponse aliceTask = create("Alice task", "alice");
+        create("Bob task", "bob");
+        PagedTaskResponse alicePage = taskService.findAll(null, "alice", FIRST_PAGE);
+        PagedTaskResponse bobPage = taskService.findAll(null, "bob", FIRST_PAGE);
+        PagedTaskResponse allPage = taskService.findAll(null, null, FIRST_PAGE);
+
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setTitle("Alice task renamed");
+        taskService.update(aliceTask.getId(), update);
+
+        assertThat(taskService.findAll(null, "bob", FIRST_PAGE)).isSameAs(bobPage);
+        assertThat(taskService.findAll(null, "alice", FIRST_PAGE)).isNotSameAs(alicePage)
+                .satisfies(page -> assertThat(page.getContent().get(0).getTitle()).isEqualTo("Alice task renamed"));
+        assertThat(taskService.findAll(null, null, FIRST_PAGE)).isNotSameAs(allPage);
+    }
+
+    @Test
+    void reassignmentEvictsPagesOfPreviousAndNewAssignee() {
+        TaskResponse task = create("Task", "alice");
+        taskService.findAll(null, "alice", FIRST_PAGE);
+        taskService.findAll(null, "bob", FIRST_PAGE);
+
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setAssignedTo("bob");
+        taskService.update(task.getId(), update);
+
+        assertThat(taskService.findAll(null, "alice", FIRST_PAGE).getTotalElements()).isZero();
+        assertThat(taskService.findAll(null, "bob", FIRST_PAGE).getTotalElements()).isEqualTo(1);
+    }
+
+    private TaskResponse create(String title, String assignee) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(title);
+        request.setAssignedTo(assignee);
+        return taskService.create(request);
+    }
+}
@@ -3,13 +3,21 @@ package com.taskmanagement.service;
 import com.taskmanagement.dto.request.TaskCreateRequest;
 import com.taskmanagement.dto.request.TaskUpdateRequest;
 import com.taskmanagement.dto.response.PagedTaskResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.entity.ArchivedTask;
 import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskView;
 import com.taskmanagement.exception.InvalidTaskRequestException;
 import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.label.TaskLabelIndex;
 import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.ArchivedTaskRepository;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskViewRepository;
+import com.taskmanagement.event.TaskChangedEvent;
 import com.taskmanagement.service.impl.TaskServiceImpl;
+import com.taskmanagement.service.impl.TaskTotalCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,14 +26,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,9 +51,24 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private TaskViewRepository taskViewRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskTotalCounter totalCounter;
+
+    @Mock
+    private TaskLabelIndex labelIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -57,7 +82,7 @@ class TaskServiceTest {
     void setUp() {
         task = new Task("Test Task", "Description", false, DUE);
         task.setId(1);
-        taskResponse = new TaskResponse(1, "Test Task", "Description", false, DUE, null, null, null, null, null, null);
+        taskResponse = new TaskResponse(1, "Test Task", "Description", false, DUE, null, null, null, null, null, null, null);
         createRequest = new TaskCreateRequest();
         createRequest.setTitle("New Task");
         createRequest.setDescription("Desc");
@@ -74,8 +99,7 @@ class TaskServiceTest {
         @Test
         void whenNoFilter_returnsPagedTasks() {
             Pageable pageable = PageRequest.of(0, 20);
-            when(taskRepository.findAll(any(Specification.class), eq(pageable)))
-                    .thenReturn(new PageImpl<>(List.of(task), pageable, 1));
+            when(taskRepository.findFiltered(null, null, pageable)).thenReturn(List.of(task));
             when(taskMapper.toResponse(task)).thenReturn(taskResponse);
 
             PagedTaskResponse result = taskService.findAll(null, null, pageable);
@@ -88,16 +112,55 @@ class TaskServiceTest {
         }
 
         @Test
-        void whenCompletedFilter_usesSpecification() {
-            Pageable pageable = PageRequest.of(0, 20);
-            when(taskRepository.findAll(any(Specification.class), eq(pageable)))
-                    .thenReturn(new PageImpl<>(List.of(task), pageable, 1));
+        void whenFirstPageFull_runsMatchingCountQuery() {
+            Pageable pageable = PageRequest.of(0, 1);
+            when(taskRepository.findFiltered(true, null, pageable)).thenReturn(List.of(task));
+            when(taskRepository.countFiltered(true, null)).thenReturn(5L);
             when(taskMapper.toResponse(task)).thenReturn(taskResponse);
 
             PagedTaskResponse result = taskService.findAll(true, null, pageable);
 
             assertThat(result.getContent()).hasSize(1);
-            verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            assertThat(result.getTotalPages()).isEqualTo(5);
+        }
+
+        @Test
+        void whenIncludeArchived_readsHotAndArchivedView() {
+            Pageable pageable = PageRequest.of(0, 20);
+            TaskView view = new TaskView();
+            when(taskViewRepository.findFiltered(null, null, pageable)).thenReturn(List.of(view));
+            when(taskMapper.toResponse(view)).thenReturn(taskResponse);
+
+            PagedTaskResponse result = taskService.findAll(null, null, true, pageable);
+
+            assertThat(result.getContent()).hasSize(1);
+            verify(taskRepository, never()).findFiltered(any(), any(), any(Pageable.class));
+        }
+
+        @Test
+        void whenNotCounted_recordsExactTotal() {
+            Pageable pageable = PageRequest.of(0, 20);
+            when(taskRepository.findFiltered(false, "john", pageable)).thenReturn(List.of(task));
+
+            PagedTaskResponse result = taskService.findAll(false, "john", pageable);
+
+            assertThat(result.isTotalExact()).isTrue();
+            verify(totalCounter).record(false, "john", false, 1);
+        }
+
+        @Test
+        void whenTotalKnown_skipsCountQuery() {
+            Pageable pageable = PageRequest.of(1, 20);
+            when(totalCounter.knownTotal(null, null, false)).thenReturn(OptionalLong.of(42));
+            when(taskRepository.findFiltered(null, null, pageable)).thenReturn(List.of(task));
+            when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+
+            PagedTaskResponse result = taskService.findAll(null, null, pageable);
+
+            assertThat(result.getTotalElements()).isEqualTo(42);
+            assertThat(result.isTotalExact()).isFalse();
+            verify(taskRepository, never()).countFiltered(any(), any());
         }
     }
 
@@ -116,6 +179,18 @@ class TaskServiceTest {
             assertThat(result.getTitle()).isEqualTo("Test Task");
         }
 
+        @Test
+        void whenTaskArchived_fallsBackToArchive() {
+            ArchivedTask archived = new ArchivedTask();
+            when(taskRepository.findById(1)).thenReturn(Optional.empty());
+            when(archivedTaskRepository.findById(1)).thenReturn(Optional.of(archived));
+            when(taskMapper.toResponse(archived)).thenReturn(taskResponse);
+
+            TaskResponse result = taskService.findById(1);
+
+            assertThat(result.getId()).isEqualTo(1);
+        }
+
         @Test
         void whenTaskNotExists_throwsTaskNotFoundException() {
             when(taskRepository.findById(99)).thenReturn(Optional.empty());
@@ -127,6 +202,54 @@ class TaskServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAllByIds")
+    class FindAllByIds {
+
+        @Test
+        void preservesRequestOrder_fallsBackToArchive_andReportsMissing() {
+            Task second = new Task("Second", null, false, DUE);
+            second.setId(2);
+            ArchivedTask archived = new ArchivedTask();
+            archived.setId(3);
+            TaskResponse secondResponse = new TaskResponse(2, "Second", null, false, DUE, null, null, null, null, null, null, null);
+            TaskResponse archivedResponse = new TaskResponse(3, "Old", null, true, DUE, null, null, null, null, null, null, null);
+            when(taskRepository.findAllById(List.of(2, 3, 1, 99))).thenReturn(List.of(task, second));
+            when(archivedTaskRepository.findAllById(List.of(3, 99))).thenReturn(List.of(archived));
+            when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+            when(taskMapper.toResponse(second)).thenReturn(secondResponse);
+            when(taskMapper.toResponse(archived)).thenReturn(archivedResponse);
+
+            TaskLookupResponse result = taskService.findAllByIds(List.of(2, 3, 2, 1, 99));
+
+            assertThat(result.getTasks()).extracting(TaskResponse::getId).containsExactly(2, 3, 1);
+            assertThat(result.getMissingIds()).containsExactly(99);
+        }
+
+        @Test
+        void splitsLargeRequestsIntoChunks() {
+            List<Integer> ids = IntStream.rangeClosed(1, 300).boxed().toList();
+            when(taskRepository.findAllById(any())).thenReturn(List.of());
+            when(archivedTaskRepository.findAllById(any())).thenReturn(List.of());
+
+            TaskLookupResponse result = taskService.findAllByIds(ids);
+
+            verify(taskRepository).findAllById(ids.subList(0, 128));
+            verify(taskRepository).findAllById(ids.subList(128, 256));
+            verify(taskRepository).findAllById(ids.subList(256, 300));
+            assertThat(result.getMissingIds()).hasSize(300);
+        }
+
+        @Test
+        void whenTooManyIds_throwsInvalidTaskRequestException() {
+            List<Integer> ids = IntStream.rangeClosed(1, 501).boxed().toList();
+
+            assertThatThrownBy(() -> taskService.findAllByIds(ids))
+                    .isInstanceOf(InvalidTaskRequestException.class);
+            verify(taskRepository, never()).findAllById(any());
+        }
+    }
+
     @Nested
     @DisplayName("create")
     class Create {
@@ -141,6 +264,7 @@ class TaskServiceTest {
 
             assertThat(result.getId()).isEqualTo(1);
             verify(taskRepository).save(any(Task.class));
+            verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
         }
 
         @Test
@@ -189,22 +313,38 @@ class TaskServiceTest {
 
         @Test
         void whenTaskExists_deletesTask() {
-            when(taskRepository.existsById(1)).thenReturn(true);
+            when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+            when(taskMapper.toResponse(task)).thenReturn(taskResponse);
 
             taskService.deleteById(1);
 
-            verify(taskRepository).deleteById(1);
+            verify(taskRepository).delete(task);
+            verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(taskResponse));
         }
 
         @Test
         void whenTaskNotExists_throwsTaskNotFoundException() {
-            when(taskRepository.existsById(99)).thenReturn(false);
+            when(taskRepository.findById(99)).thenReturn(Optional.empty());
 
             TaskNotFoundException ex = org.assertj.core.api.Assertions.catchThrowableOfType(
                     () -> taskService.deleteById(99), TaskNotFoundException.class);
             assertThat(ex).isNotNull();
             assertThat(ex.getTaskId()).isEqualTo(99);
+            verify(taskRepository, never()).delete(any(Task.class));
             verify(taskRepository, never()).deleteById(any());
         }
+
+        @Test
+        void whenTaskArchived_deletesFromArchive() {
+            ArchivedTask archived = new ArchivedTask();
+            when(taskRepository.findById(1)).thenReturn(Optional.empty());
+            when(archivedTaskRepository.findById(1)).thenReturn(Optional.of(archived));
+            when(taskMapper.toResponse(archived)).thenReturn(taskResponse);
+
+            taskService.deleteById(1);
+
+            verify(archivedTaskRepository).delete(archived);
+            verify(taskRepository, never()).delete(any(Task.class));
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.taskmanagement.warmup;
+
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.warm-up.iterations=30",
+        "app.warm-up.threads=3",
+        "app.count.strategy=cached",
+        "app.archive.enabled=false",
+        "app.reminders.enabled=false"
+})
+class TaskWarmUpTest {
+
+    @Autowired
+    private TaskWarmUp warmUp;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    void ranBeforeReadinessAndLeftNothingBehind() {
+        Timer duration = meterRegistry.find("tasks.warmup.duration").timer();
+        assertThat(duration).isNotNull();
+        assertThat(duration.count()).isEqualTo(1);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void cachedPagesAndTotalsDoNotKeepRolledBackTasks() {
+        assertThat(warmUp.warmUp()).isEqualTo(30);
+
+        assertThat(taskRepository.count()).isZero();
+        assertThat(taskService.findAll(null, null, false, PageRequest.of(0, 20)).getTotalElements()).isZero();
+        assertThat(taskService.findAll(false, "warm-up-0", false, PageRequest.of(0, 20)).getContent()).isEmpty();
+    }
+}